@@ -1,747 +0,0 @@
--- Table: public.category
-
--- DROP TABLE IF EXISTS public.category;
-
-CREATE TABLE IF NOT EXISTS public.category
-(
-    id bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 9223372036854775807 CACHE 1 ),
-    description character varying(255) COLLATE pg_catalog."default",
-    image_url character varying(255) COLLATE pg_catalog."default",
-    name character varying(255) COLLATE pg_catalog."default",
-    CONSTRAINT category_pkey PRIMARY KEY (id)
-)
-
-TABLESPACE pg_default;
-
-ALTER TABLE IF EXISTS public.category
-    OWNER to postgres;-- Sample data for mono-shop application
-	
-
-
--- Table: public.product
-
--- DROP TABLE IF EXISTS public.product;
-
-CREATE TABLE IF NOT EXISTS public.product
-(
-    id bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 9223372036854775807 CACHE 1 ),
-    description character varying(255) COLLATE pg_catalog."default",
-    image_url character varying(255) COLLATE pg_catalog."default",
-    name character varying(255) COLLATE pg_catalog."default",
-    price double precision,
-    category_id bigint,
-    CONSTRAINT product_pkey PRIMARY KEY (id),
-    CONSTRAINT fk1mtsbur82frn64de7balymq9s FOREIGN KEY (category_id)
-        REFERENCES public.category (id) MATCH SIMPLE
-        ON UPDATE NO ACTION
-        ON DELETE NO ACTION
-)
-
-TABLESPACE pg_default;
-
-ALTER TABLE IF EXISTS public.product
-    OWNER to postgres;
-	
-
--- Table: public.customers
-
--- DROP TABLE IF EXISTS public.customers;
-
-CREATE TABLE IF NOT EXISTS public.customers
-(
-    id bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 9223372036854775807 CACHE 1 ),
-    address character varying(255) COLLATE pg_catalog."default",
-    created_at timestamp(6) without time zone,
-    email character varying(255) COLLATE pg_catalog."default",
-    name character varying(255) COLLATE pg_catalog."default",
-    phone character varying(255) COLLATE pg_catalog."default",
-    CONSTRAINT customers_pkey PRIMARY KEY (id)
-)
-
-TABLESPACE pg_default;
-
-ALTER TABLE IF EXISTS public.customers
-    OWNER to postgres;
-	
-
--- Table: public.cart_items
-
--- DROP TABLE IF EXISTS public.cart_items;
-
-CREATE TABLE IF NOT EXISTS public.cart_items
-(
-    id bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 9223372036854775807 CACHE 1 ),
-    quantity integer,
-    session_id character varying(255) COLLATE pg_catalog."default",
-    product_id bigint,
-    CONSTRAINT cart_items_pkey PRIMARY KEY (id),
-    CONSTRAINT fkl7je3auqyq1raj52qmwrgih8x FOREIGN KEY (product_id)
-        REFERENCES public.product (id) MATCH SIMPLE
-        ON UPDATE NO ACTION
-        ON DELETE NO ACTION
-)
-
-TABLESPACE pg_default;
-
-ALTER TABLE IF EXISTS public.cart_items
-    OWNER to postgres;
-	
-	
--- Table: public.orders
-
--- DROP TABLE IF EXISTS public.orders;
-
-CREATE TABLE IF NOT EXISTS public.orders
-(
-    id bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 9223372036854775807 CACHE 1 ),
-    customer_email character varying(255) COLLATE pg_catalog."default",
-    customer_name character varying(255) COLLATE pg_catalog."default",
-    customer_phone character varying(255) COLLATE pg_catalog."default",
-    order_date timestamp(6) without time zone,
-    shipping_address character varying(255) COLLATE pg_catalog."default",
-    status character varying(255) COLLATE pg_catalog."default",
-    total double precision,
-    customer_id bigint,
-    CONSTRAINT orders_pkey PRIMARY KEY (id),
-    CONSTRAINT fkpxtb8awmi0dk6smoh2vp1litg FOREIGN KEY (customer_id)
-        REFERENCES public.customers (id) MATCH SIMPLE
-        ON UPDATE NO ACTION
-        ON DELETE NO ACTION
-)
-
-TABLESPACE pg_default;
-
-ALTER TABLE IF EXISTS public.orders
-    OWNER to postgres;
-	
-
--- Table: public.order_item
-
--- DROP TABLE IF EXISTS public.order_item;
-
-CREATE TABLE IF NOT EXISTS public.order_item
-(
-    id bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 9223372036854775807 CACHE 1 ),
-    price double precision,
-    quantity integer,
-    order_id bigint,
-    product_id bigint,
-    CONSTRAINT order_item_pkey PRIMARY KEY (id),
-    CONSTRAINT fk551losx9j75ss5d6bfsqvijna FOREIGN KEY (product_id)
-        REFERENCES public.product (id) MATCH SIMPLE
-        ON UPDATE NO ACTION
-        ON DELETE NO ACTION,
-    CONSTRAINT fkt4dc2r9nbvbujrljv3e23iibt FOREIGN KEY (order_id)
-        REFERENCES public.orders (id) MATCH SIMPLE
-        ON UPDATE NO ACTION
-        ON DELETE NO ACTION
-)
-
-TABLESPACE pg_default;
-
-ALTER TABLE IF EXISTS public.order_item
-    OWNER to postgres;
-
-
--- Insert categories first (due to foreign key constraint)
-
-INSERT INTO category (name, description, image_url) VALUES
-('Electronics', 'Electronic devices and gadgets', 'https://images.unsplash.com/photo-1498049794561-7780e7231661?w=500'),
-('Clothing', 'Fashion and apparel for all ages', 'https://images.unsplash.com/photo-1441986300917-64674bd600d8?w=500'),
-('Books', 'Books, magazines, and educational materials', 'https://images.unsplash.com/photo-1481627834876-b7833e8f5570?w=500'),
-('Home & Garden', 'Home improvement and garden supplies', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Sports', 'Sports equipment and fitness gear', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Beauty', 'Cosmetics and personal care products', 'https://images.unsplash.com/photo-1596462502278-27bfdc403348?w=500'),
-('Automotive', 'Car accessories and automotive parts', 'https://images.unsplash.com/photo-1494905998402-395d579af36f?w=500'),
-('Food & Beverages', 'Gourmet food and specialty drinks', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Toys & Games', 'Fun toys and entertainment for all ages', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Music & Instruments', 'Musical instruments and audio equipment', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Office Supplies', 'Professional office and business equipment', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Pet Supplies', 'Everything for your beloved pets', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Health & Wellness', 'Health supplements and wellness products', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
-('Jewelry & Accessories', 'Fashion jewelry and stylish accessories', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Travel & Luggage', 'Travel gear and luggage for your journeys', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Baby & Kids', 'Products for babies and young children', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Kitchen & Dining', 'Cookware and dining accessories', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Art & Crafts', 'Creative supplies and artistic materials', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Outdoor & Camping', 'Outdoor adventure and camping gear', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Photography', 'Cameras and photography equipment', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Gaming', 'Video games and gaming accessories', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Furniture', 'Home and office furniture', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500');
-
--- Electronics products (Category ID: 1) - 25 products with unique images
-INSERT INTO product (name, price, category_id, description, image_url) VALUES
-('iPhone 15 Pro', 999.99, 1, 'Latest Apple smartphone with advanced camera system', 'https://images.unsplash.com/photo-1510557880182-3d4d3cba35a5?w=500'),
-('MacBook Air M2', 1199.99, 1, 'Lightweight laptop with Apple M2 chip', 'https://images.unsplash.com/photo-1496181133206-80ce9b88a853?w=500'),
-('Samsung 4K TV', 799.99, 1, '55-inch 4K Smart TV with HDR support', 'https://images.unsplash.com/photo-1461151304267-38535e780c79?w=500'),
-('Sony Headphones', 299.99, 1, 'Wireless noise-canceling headphones', 'https://images.unsplash.com/photo-1484704849700-f032a568e944?w=500'),
-('iPad Pro', 1099.99, 1, '12.9-inch tablet with M2 chip', 'https://images.unsplash.com/photo-1544244015-0df4b3ffc6b0?w=500'),
-('Gaming Laptop', 1599.99, 1, 'High-performance gaming laptop with RTX graphics', 'https://images.unsplash.com/photo-1525547719571-a2d4ac8945e2?w=500'),
-('Wireless Mouse', 59.99, 1, 'Ergonomic wireless mouse with precision tracking', 'https://images.unsplash.com/photo-1563206767-5b18f218e8de?w=500'),
-('Mechanical Keyboard', 149.99, 1, 'RGB backlit mechanical gaming keyboard', 'https://images.unsplash.com/photo-1541140532154-b024d705b90a?w=500'),
-('Smart Watch', 399.99, 1, 'Fitness tracking smartwatch with GPS', 'https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=500'),
-('Bluetooth Speaker', 129.99, 1, 'Portable waterproof Bluetooth speaker', 'https://images.unsplash.com/photo-1545454675-3531b543be5d?w=500'),
-('Webcam 4K', 199.99, 1, '4K webcam for streaming and video calls', 'https://images.unsplash.com/photo-1606107557195-0e29a4b5b4aa?w=500'),
-('External Hard Drive', 89.99, 1, '2TB portable external hard drive', 'https://images.unsplash.com/photo-1597872200969-2b65d56bd16b?w=500'),
-('Wireless Charger', 39.99, 1, 'Fast wireless charging pad for smartphones', 'https://images.unsplash.com/photo-1609081219090-a6d81d3085bf?w=500'),
-('USB-C Hub', 79.99, 1, 'Multi-port USB-C hub with HDMI and USB ports', 'https://images.unsplash.com/photo-1625842268584-8f3296236761?w=500'),
-('Monitor 27 inch', 349.99, 1, '27-inch 4K monitor with HDR support', 'https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=500'),
-('Power Bank', 49.99, 1, '20000mAh portable power bank with fast charging', 'https://images.unsplash.com/photo-1609592806955-d3e1e4321f0e?w=500'),
-('Smart Home Hub', 129.99, 1, 'Voice-controlled smart home automation hub', 'https://images.unsplash.com/photo-1573804633927-0274faa90b6f?w=500'),
-('Security Camera', 199.99, 1, 'Wireless security camera with night vision', 'https://images.unsplash.com/photo-1576618148400-f54bed99fcfd?w=500'),
-('Gaming Controller', 69.99, 1, 'Wireless gaming controller with haptic feedback', 'https://images.unsplash.com/photo-1570303345338-e1f0eddf4946?w=500'),
-('Router WiFi 6', 159.99, 1, 'High-speed WiFi 6 router for home networking', 'https://images.unsplash.com/photo-1606904825846-647eb07f5be2?w=500'),
-('Smart Doorbell', 189.99, 1, 'Video doorbell with motion detection', 'https://images.unsplash.com/photo-1558618047-3c8c76ca7d13?w=500'),
-('Tablet Stand', 29.99, 1, 'Adjustable tablet stand for desk use', 'https://images.unsplash.com/photo-1555653519-470aa43b4fb7?w=500'),
-('Cable Management', 19.99, 1, 'Cable organizer set for desk setup', 'https://images.unsplash.com/photo-1564054074885-99c8ac119bb5?w=500'),
-('Phone Case', 24.99, 1, 'Protective phone case with wireless charging support', 'https://images.unsplash.com/photo-1605080455745-0f3b7543ed5b?w=500'),
-('Screen Protector', 14.99, 1, 'Tempered glass screen protector for smartphones', 'https://images.unsplash.com/photo-1600004020717-2fb9fd3fe9d6?w=500'),
-
--- Clothing products (Category ID: 2) - 25 products with unique images
-('Denim Jacket', 79.99, 2, 'Classic blue denim jacket for casual wear', 'https://images.unsplash.com/photo-1495105787522-5334e3ffa0ef?w=500'),
-('Running Shoes', 129.99, 2, 'Comfortable athletic shoes for running', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=500'),
-('Cotton T-Shirt', 24.99, 2, 'Soft cotton t-shirt in various colors', 'https://images.unsplash.com/photo-1503341338985-50e2bcc39ad0?w=500'),
-('Wool Sweater', 89.99, 2, 'Warm wool sweater for winter', 'https://images.unsplash.com/photo-1564557287817-3785e38ec1f3?w=500'),
-('Summer Dress', 59.99, 2, 'Light and breezy summer dress', 'https://images.unsplash.com/photo-1485462537746-965f33f7f6a7?w=500'),
-('Business Suit', 299.99, 2, 'Professional tailored business suit', 'https://images.unsplash.com/photo-1594938298603-c8148c4dae35?w=500'),
-('Casual Jeans', 69.99, 2, 'Comfortable straight-leg denim jeans', 'https://images.unsplash.com/photo-1475178626620-a4d074967452?w=500'),
-('Winter Coat', 199.99, 2, 'Warm waterproof winter coat', 'https://images.unsplash.com/photo-1551698618-1dfe5d97d256?w=500'),
-('Sneakers', 89.99, 2, 'Trendy casual sneakers for everyday wear', 'https://images.unsplash.com/photo-1608667508764-6b11b81ac183?w=500'),
-('Formal Shirt', 49.99, 2, 'Crisp white formal dress shirt', 'https://images.unsplash.com/photo-1596755094514-f87e34085b2c?w=500'),
-('Leather Boots', 149.99, 2, 'Genuine leather ankle boots', 'https://images.unsplash.com/photo-1582897085656-c636d006a246?w=500'),
-('Polo Shirt', 39.99, 2, 'Classic polo shirt in multiple colors', 'https://images.unsplash.com/photo-1618354691373-d851c5c3a990?w=500'),
-('Chino Pants', 59.99, 2, 'Slim-fit chino pants for casual wear', 'https://images.unsplash.com/photo-1506629905607-24473054e56e?w=500'),
-('Hoodie', 54.99, 2, 'Comfortable pullover hoodie with front pocket', 'https://images.unsplash.com/photo-1556821840-3a9c6fcc1ff9?w=500'),
-('Blouse', 44.99, 2, 'Elegant silk blouse for office wear', 'https://images.unsplash.com/photo-1594633312681-425c7b97ccd1?w=500'),
-('Skirt', 34.99, 2, 'Pleated midi skirt in various patterns', 'https://images.unsplash.com/photo-1566479179817-c62bf78b2fa8?w=500'),
-('Cardigan', 64.99, 2, 'Soft knit cardigan for layering', 'https://images.unsplash.com/photo-1564859228273-274232fdb516?w=500'),
-('Tank Top', 19.99, 2, 'Basic tank top in cotton blend', 'https://images.unsplash.com/photo-1622470953794-aa9c70b0fb9d?w=500'),
-('Blazer', 119.99, 2, 'Tailored blazer for professional look', 'https://images.unsplash.com/photo-1553028826-f4804151e596?w=500'),
-('Shorts', 29.99, 2, 'Casual summer shorts in various colors', 'https://images.unsplash.com/photo-1562459789-1cc1f04fffe4?w=500'),
-('Leggings', 24.99, 2, 'High-waisted athletic leggings', 'https://images.unsplash.com/photo-1604135307399-86cbc8345c8d?w=500'),
-('Scarf', 19.99, 2, 'Lightweight scarf for all seasons', 'https://images.unsplash.com/photo-1609015933442-3e06899b2b96?w=500'),
-('Belt', 34.99, 2, 'Genuine leather belt with metal buckle', 'https://images.unsplash.com/photo-1624222247344-550fb60583dc?w=500'),
-('Socks Pack', 14.99, 2, '6-pack of cotton crew socks', 'https://images.unsplash.com/photo-1586350158695-51219d4d6c4c?w=500'),
-('Underwear Set', 29.99, 2, 'Comfortable cotton underwear set', 'https://images.unsplash.com/photo-1571513722275-4b8fc2909b8a?w=500'),
-
--- Books products (Category ID: 3) - 25 products with unique images
-('The Great Gatsby', 14.99, 3, 'Classic American novel by F. Scott Fitzgerald', 'https://images.unsplash.com/photo-1543002588-bfa74002ed7e?w=500'),
-('Programming Mastery', 49.99, 3, 'Learn modern web development techniques', 'https://images.unsplash.com/photo-1517077304055-6e89abbf09b0?w=500'),
-('Cookbook Collection', 34.99, 3, 'Collection of international recipes', 'https://images.unsplash.com/photo-1476718406336-bb5a9690ee2a?w=500'),
-('World History Atlas', 39.99, 3, 'Comprehensive world history atlas', 'https://images.unsplash.com/photo-1471440671718-b60e6dc62c53?w=500'),
-('Science Quarterly', 12.99, 3, 'Monthly science and technology magazine', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=500'),
-('Fiction Bestseller', 19.99, 3, 'Award-winning contemporary fiction novel', 'https://images.unsplash.com/photo-1516979187457-637abb4f9353?w=500'),
-('Art & Design Book', 59.99, 3, 'Coffee table book featuring modern art', 'https://images.unsplash.com/photo-1550399105-c4db5fb85c18?w=500'),
-('Biography Collection', 29.99, 3, 'Inspiring life stories of famous personalities', 'https://images.unsplash.com/photo-1506880018603-83d5b814b5a6?w=500'),
-('Mystery Novel', 16.99, 3, 'Thrilling mystery novel with unexpected twists', 'https://images.unsplash.com/photo-1544716278-ca5e3f4abd8c?w=500'),
-('Self-Help Guide', 24.99, 3, 'Personal development and motivation book', 'https://images.unsplash.com/photo-1551029506-0807df4e2031?w=500'),
-('Travel Guide Europe', 27.99, 3, 'Comprehensive travel guide to European cities', 'https://images.unsplash.com/photo-1526285759904-71d1170ed2ac?w=500'),
-('Business Strategy', 44.99, 3, 'Modern business strategy and management', 'https://images.unsplash.com/photo-1454165804606-c3d57bc86b40?w=500'),
-('Photography Manual', 39.99, 3, 'Complete guide to digital photography', 'https://images.unsplash.com/photo-1481627834876-b7833e8f5570?w=500'),
-('Health & Nutrition', 32.99, 3, 'Guide to healthy living and nutrition', 'https://images.unsplash.com/photo-1544006659-f0b21884ce1d?w=500'),
-('Philosophy Reader', 22.99, 3, 'Introduction to philosophical thinking', 'https://images.unsplash.com/photo-1568667256549-094345857637?w=500'),
-('Poetry Collection', 18.99, 3, 'Anthology of contemporary poetry', 'https://images.unsplash.com/photo-1509021436665-8f07dbf5bf1d?w=500'),
-('Computer Science', 54.99, 3, 'Introduction to computer science fundamentals', 'https://images.unsplash.com/photo-1516321318423-f06f85e504b3?w=500'),
-('Language Learning', 29.99, 3, 'Spanish language learning course book', 'https://images.unsplash.com/photo-1544006659-4131dc98b879?w=500'),
-('Math Textbook', 89.99, 3, 'Advanced calculus and mathematics', 'https://images.unsplash.com/photo-1635372722656-389f87a941b7?w=500'),
-('Graphic Novel', 21.99, 3, 'Popular graphic novel series volume 1', 'https://images.unsplash.com/photo-1588496706728-95d6ac78cdf8?w=500'),
-('Music Theory', 36.99, 3, 'Complete guide to music theory and composition', 'https://images.unsplash.com/photo-1507838153414-b4b713384a76?w=500'),
-('Gardening Guide', 26.99, 3, 'Comprehensive guide to home gardening', 'https://images.unsplash.com/photo-1416879595882-3373a0480b5b?w=500'),
-('Psychology Today', 33.99, 3, 'Introduction to modern psychology', 'https://images.unsplash.com/photo-1559257414-129c0eb09516?w=500'),
-('Children Stories', 15.99, 3, 'Collection of classic children bedtime stories', 'https://images.unsplash.com/photo-1481627834876-b7833e8f5570?w=500'),
-('Reference Dictionary', 42.99, 3, 'Comprehensive English dictionary and thesaurus', 'https://images.unsplash.com/photo-1544365580-1726b3b1c1ad?w=500'),
-
--- Home & Garden products (Category ID: 4) - 25 products with unique images
-('Coffee Maker', 149.99, 4, 'Programmable drip coffee maker', 'https://images.unsplash.com/photo-1495474472287-4d71bcdd2085?w=500'),
-('Garden Tools Set', 79.99, 4, 'Complete set of essential garden tools', 'https://images.unsplash.com/photo-1416879595882-3373a0480b5b?w=500'),
-('Throw Pillows', 29.99, 4, 'Decorative pillows for living room', 'https://images.unsplash.com/photo-1555041469-a586c61ea9bc?w=500'),
-('Chef Knife Set', 199.99, 4, 'Professional stainless steel knife set', 'https://images.unsplash.com/photo-1593618998160-e34014e67546?w=500'),
-('LED Table Lamp', 89.99, 4, 'Modern LED desk lamp with adjustable brightness', 'https://images.unsplash.com/photo-1513506003901-1e6a229e2d15?w=500'),
-('Dining Table', 699.99, 4, 'Solid wood dining table for 6 people', 'https://images.unsplash.com/photo-1449247709967-d4461a6a6103?w=500'),
-('Garden Hose', 39.99, 4, '50-foot expandable garden hose', 'https://images.unsplash.com/photo-1558618666-fcd25c85cd64?w=500'),
-('Area Rug', 159.99, 4, 'Handwoven decorative area rug', 'https://images.unsplash.com/photo-1567538096630-e0c55bd6374c?w=500'),
-('Tool Set', 129.99, 4, 'Complete home repair tool kit', 'https://images.unsplash.com/photo-1504148455328-c376907d081c?w=500'),
-('Vacuum Cleaner', 249.99, 4, 'Cordless stick vacuum with HEPA filter', 'https://images.unsplash.com/photo-1558618047-3c8c76ca7d13?w=500'),
-('Curtains Set', 49.99, 4, 'Blackout curtains for bedroom windows', 'https://images.unsplash.com/photo-1616594039964-ae9021a400a0?w=500'),
-('Plant Pots', 24.99, 4, 'Set of 3 ceramic plant pots with drainage', 'https://images.unsplash.com/photo-1485955900006-10f4d324d411?w=500'),
-('Storage Boxes', 34.99, 4, 'Stackable storage containers with lids', 'https://images.unsplash.com/photo-1558618666-06c4e33a0a51?w=500'),
-('Candles Set', 19.99, 4, 'Scented candles for home aromatherapy', 'https://images.unsplash.com/photo-1602874801006-e0a3a5a5ce84?w=500'),
-('Picture Frames', 27.99, 4, 'Set of 5 wooden picture frames', 'https://images.unsplash.com/photo-1583946099379-f9c9cb8bc030?w=500'),
-('Shower Curtain', 22.99, 4, 'Waterproof bathroom shower curtain', 'https://images.unsplash.com/photo-1620626011761-996317b8d101?w=500'),
-('Towel Set', 44.99, 4, 'Luxury cotton bath towel set', 'https://images.unsplash.com/photo-1507748387735-46a0b4e0ad8f?w=500'),
-('Mirror Wall', 89.99, 4, 'Large decorative wall mirror', 'https://images.unsplash.com/photo-1614332287897-cdc485fa562d?w=500'),
-('Clock Wall', 39.99, 4, 'Modern wall clock for living room', 'https://images.unsplash.com/photo-1563861826100-9cb868fdbe1c?w=500'),
-('Vase Decorative', 32.99, 4, 'Ceramic vase for flower arrangements', 'https://images.unsplash.com/photo-1578662996442-48f60103fc96?w=500'),
-('Bedding Set', 79.99, 4, 'Queen size comforter and pillow set', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Outdoor Cushions', 54.99, 4, 'Weather-resistant patio cushions', 'https://images.unsplash.com/photo-1493809842364-78817add7ffb?w=500'),
-('Watering Can', 16.99, 4, 'Galvanized steel watering can', 'https://images.unsplash.com/photo-1524334228333-0f6db392f8a1?w=500'),
-('Doormat', 21.99, 4, 'Welcome doormat for front entrance', 'https://images.unsplash.com/photo-1555041469-a586c61ea9bc?w=500'),
-('Air Freshener', 12.99, 4, 'Automatic air freshener dispenser', 'https://images.unsplash.com/photo-1563861826100-9cb868fdbe1c?w=500'),
-
--- Sports products (Category ID: 5) - 25 products with unique images
-('Yoga Mat', 39.99, 5, 'Non-slip yoga mat for exercise', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
-('Basketball', 29.99, 5, 'Official size basketball for outdoor play', 'https://images.unsplash.com/photo-1546519638-68e109498ffc?w=500'),
-('Dumbbells Set', 199.99, 5, 'Adjustable weight dumbbells for home gym', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Tennis Racket', 159.99, 5, 'Professional tennis racket with strings', 'https://images.unsplash.com/photo-1551698618-1dfe5d97d256?w=500'),
-('Bicycle Helmet', 69.99, 5, 'Safety helmet for cycling', 'https://images.unsplash.com/photo-1558618666-fcd25c85cd64?w=500'),
-('Soccer Ball', 24.99, 5, 'FIFA approved soccer ball', 'https://images.unsplash.com/photo-1614632537190-23e4146777db?w=500'),
-('Swimming Goggles', 19.99, 5, 'Anti-fog swimming goggles', 'https://images.unsplash.com/photo-1530549387789-4c1017266635?w=500'),
-('Exercise Bike', 499.99, 5, 'Stationary exercise bike with monitor', 'https://images.unsplash.com/photo-1558618666-fcd25c85cd64?w=500'),
-('Golf Clubs Set', 399.99, 5, 'Complete golf club set with bag', 'https://images.unsplash.com/photo-1535131749006-b7f58c99034b?w=500'),
-('Running Belt', 24.99, 5, 'Waterproof running belt for phones', 'https://images.unsplash.com/photo-1606107557195-0e29a4b5b4aa?w=500'),
-('Resistance Bands', 29.99, 5, 'Set of 5 resistance bands with handles', 'https://images.unsplash.com/photo-1598300042247-d088f8ab3a91?w=500'),
-('Pull-up Bar', 49.99, 5, 'Doorway pull-up bar for home workouts', 'https://images.unsplash.com/photo-1583500178951-3d3de5da3d17?w=500'),
-('Jump Rope', 14.99, 5, 'Speed jump rope for cardio workouts', 'https://images.unsplash.com/photo-1555949258-eb67b1ef0ceb?w=500'),
-('Gym Bag', 44.99, 5, 'Durable gym bag with shoe compartment', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
-('Protein Shaker', 16.99, 5, 'Leak-proof protein shaker bottle', 'https://images.unsplash.com/photo-1593095948071-474c5cc2989d?w=500'),
-('Athletic Shorts', 34.99, 5, 'Moisture-wicking athletic shorts', 'https://images.unsplash.com/photo-1506629905607-24473054e56e?w=500'),
-('Sports Watch', 129.99, 5, 'GPS sports watch with heart rate monitor', 'https://images.unsplash.com/photo-1575311373937-040b8e1fd5b6?w=500'),
-('Knee Pads', 22.99, 5, 'Protective knee pads for sports', 'https://images.unsplash.com/photo-1599058917212-d750089bc07e?w=500'),
-('Water Bottle Sports', 19.99, 5, 'Insulated sports water bottle', 'https://images.unsplash.com/photo-1523362628745-0c100150b504?w=500'),
-('Badminton Set', 59.99, 5, 'Complete badminton set with rackets and shuttlecocks', 'https://images.unsplash.com/photo-1602491673980-73aa38de027a?w=500'),
-('Volleyball', 32.99, 5, 'Official volleyball for indoor and outdoor play', 'https://images.unsplash.com/photo-1594736797933-d0401ba2fe65?w=500'),
-('Baseball Glove', 79.99, 5, 'Leather baseball glove for infield play', 'https://images.unsplash.com/photo-1566577739112-5180d4bf9390?w=500'),
-('Skateboard', 89.99, 5, 'Complete skateboard for beginners', 'https://images.unsplash.com/photo-1547447134-cd3f5c716030?w=500'),
-('Foam Roller', 34.99, 5, 'High-density foam roller for muscle recovery', 'https://images.unsplash.com/photo-1599058917765-a780eda07a3e?w=500'),
-('Athletic Socks', 24.99, 5, 'Moisture-wicking athletic sock pack', 'https://images.unsplash.com/photo-1586350158695-51219d4d6c4c?w=500'),
-
--- Beauty products (Category ID: 6) - 25 products with unique images
-('Skincare Set', 89.99, 6, 'Complete skincare routine set', 'https://images.unsplash.com/photo-1596462502278-27bfdc403348?w=500'),
-('Makeup Palette', 49.99, 6, 'Professional eyeshadow palette', 'https://images.unsplash.com/photo-1522335789203-aabd1fc54bc9?w=500'),
-('Hair Dryer', 79.99, 6, 'Professional ionic hair dryer', 'https://images.unsplash.com/photo-1522338242992-e1a54906a8da?w=500'),
-('Luxury Perfume', 129.99, 6, 'Elegant fragrance for special occasions', 'https://images.unsplash.com/photo-1541643600914-78b084683601?w=500'),
-('Face Mask Set', 24.99, 6, 'Hydrating face masks for all skin types', 'https://images.unsplash.com/photo-1570194065650-d99fb4bedf0a?w=500'),
-('Electric Toothbrush', 99.99, 6, 'Sonic electric toothbrush with timer', 'https://images.unsplash.com/photo-1607613009820-a29f7bb81c04?w=500'),
-('Hair Straightener', 69.99, 6, 'Ceramic hair straightener with heat control', 'https://images.unsplash.com/photo-1507248897048-1c0dc7e5e3b0?w=500'),
-('Nail Care Kit', 34.99, 6, 'Professional manicure and pedicure set', 'https://images.unsplash.com/photo-1607779097040-26e80aa78e66?w=500'),
-('Foundation Set', 54.99, 6, 'Full coverage foundation in multiple shades', 'https://images.unsplash.com/photo-1512207272156-74e4b642633b?w=500'),
-('Lipstick Collection', 39.99, 6, 'Set of 5 long-lasting lipsticks', 'https://images.unsplash.com/photo-1586495777744-4413f21062fa?w=500'),
-('Moisturizer', 29.99, 6, 'Anti-aging daily moisturizer with SPF', 'https://images.unsplash.com/photo-1620916566398-39f1143ab7be?w=500'),
-('Cleanser', 19.99, 6, 'Gentle facial cleanser for sensitive skin', 'https://images.unsplash.com/photo-1559839734-2b71ea197ec2?w=500'),
-('Makeup Brushes', 44.99, 6, 'Professional makeup brush set with case', 'https://images.unsplash.com/photo-1503236183932-6a00cba0e1a4?w=500'),
-('Hair Curler', 59.99, 6, 'Ceramic barrel hair curling iron', 'https://images.unsplash.com/photo-1560869713-7d0b29837c85?w=500'),
-('Serum', 64.99, 6, 'Vitamin C brightening facial serum', 'https://images.unsplash.com/photo-1608248543803-ba4f8c70ae0b?w=500'),
-('Shampoo Set', 27.99, 6, 'Sulfate-free shampoo and conditioner set', 'https://images.unsplash.com/photo-1535585209827-a15fcdbc4c2d?w=500'),
-('Sunscreen', 22.99, 6, 'Broad spectrum SPF 50 sunscreen', 'https://images.unsplash.com/photo-1556228720-195a672e8a03?w=500'),
-('Body Lotion', 18.99, 6, 'Hydrating body lotion with natural oils', 'https://images.unsplash.com/photo-1571781926291-c477ebfd024b?w=500'),
-('Makeup Remover', 14.99, 6, 'Gentle makeup remover wipes', 'https://images.unsplash.com/photo-1583484963886-cfe2bae511d1?w=500'),
-('Eye Cream', 49.99, 6, 'Anti-aging eye cream for dark circles', 'https://images.unsplash.com/photo-1608248787858-a62a43de6929?w=500'),
-('Toner', 24.99, 6, 'Balancing facial toner for all skin types', 'https://images.unsplash.com/photo-1556760544-74068565f05c?w=500'),
-('Mascara', 19.99, 6, 'Waterproof lengthening mascara', 'https://images.unsplash.com/photo-1611930022073-b7a4ba5fcccd?w=500'),
-('Blush', 26.99, 6, 'Natural-looking powder blush', 'https://images.unsplash.com/photo-1543070101-aacffeef9bd6?w=500'),
-('Concealer', 21.99, 6, 'Full coverage concealer stick', 'https://images.unsplash.com/photo-1567721913486-6585f069b332?w=500'),
-('Beauty Mirror', 79.99, 6, 'LED lighted makeup mirror with magnification', 'https://images.unsplash.com/photo-1522335789203-aabd1fc54bc9?w=500'),
-
--- Automotive products (Category ID: 7) - 25 products with unique images  
-('Car Phone Mount', 29.99, 7, 'Magnetic car phone holder for dashboard', 'https://images.unsplash.com/photo-1606664515524-ed2f786a0bd6?w=500'),
-('Car Charger', 19.99, 7, 'Dual USB car charger with fast charging', 'https://images.unsplash.com/photo-1606664515524-ed2f786a0bd6?w=500'),
-('Floor Mats', 49.99, 7, 'All-weather rubber floor mats set', 'https://images.unsplash.com/photo-1543411395-26e4e046daca?w=500'),
-('Car Cover', 89.99, 7, 'Waterproof outdoor car cover', 'https://images.unsplash.com/photo-1449965408869-eaa3f722e40d?w=500'),
-('Jump Starter', 79.99, 7, 'Portable car battery jump starter', 'https://images.unsplash.com/photo-1495853896071-1ccf051ad0aa?w=500'),
-('Dash Camera', 129.99, 7, 'HD dashboard camera with night vision', 'https://images.unsplash.com/photo-1491937089182-6e7f19f54b23?w=500'),
-('Seat Covers', 69.99, 7, 'Custom-fit car seat covers set', 'https://images.unsplash.com/photo-1462636171742-ab0e7de27c9e?w=500'),
-('Air Freshener Car', 8.99, 7, 'Long-lasting car air freshener', 'https://images.unsplash.com/photo-1556769103-d5b54ad8cdb6?w=500'),
-('Tire Pressure Gauge', 24.99, 7, 'Digital tire pressure monitoring gauge', 'https://images.unsplash.com/photo-1481451948929-b4e5f52e9c1a?w=500'),
-('Car Vacuum', 59.99, 7, 'Portable car vacuum cleaner', 'https://images.unsplash.com/photo-1494905998402-395d579af36f?w=500'),
-('Emergency Kit', 44.99, 7, 'Complete roadside emergency kit', 'https://images.unsplash.com/photo-1564513257672-4133e7e9ec8b?w=500'),
-('Window Tint', 34.99, 7, 'Professional window tinting film', 'https://images.unsplash.com/photo-1606003419803-7cddb75b7b2b?w=500'),
-('Car Wash Kit', 39.99, 7, 'Complete car washing and detailing kit', 'https://images.unsplash.com/photo-1582470442682-3f3d0e8a68a7?w=500'),
-('Steering Wheel Cover', 16.99, 7, 'Leather steering wheel cover', 'https://images.unsplash.com/photo-1600298881974-6be191ceeda1?w=500'),
-('Sunshade', 21.99, 7, 'Foldable windshield sunshade', 'https://images.unsplash.com/photo-1487754180451-c456f719a1fc?w=500'),
-('Cup Holder', 12.99, 7, 'Console cup holder organizer', 'https://images.unsplash.com/photo-1598300042247-d088f8ab3a91?w=500'),
-('Car Wax', 18.99, 7, 'Premium car wax for paint protection', 'https://images.unsplash.com/photo-1544696023-f79e0ce7db2e?w=500'),
-('Tool Kit Car', 54.99, 7, 'Emergency car tool kit with case', 'https://images.unsplash.com/photo-1504148455328-c376907d081c?w=500'),
-('Backup Camera', 99.99, 7, 'Wireless backup camera system', 'https://images.unsplash.com/photo-1581655353564-df123a1eb820?w=500'),
-('License Plate Frame', 14.99, 7, 'Decorative license plate frame', 'https://images.unsplash.com/photo-1593941707882-a5bac6861d75?w=500'),
-('Car Organizer', 27.99, 7, 'Trunk storage organizer with compartments', 'https://images.unsplash.com/photo-1558618047-3c8c76ca7d13?w=500'),
-('Windshield Wipers', 32.99, 7, 'All-season windshield wiper blades', 'https://images.unsplash.com/photo-1562219292-8f95b0c85ef5?w=500'),
-('Car Antenna', 19.99, 7, 'Short stubby car antenna replacement', 'https://images.unsplash.com/photo-1504756264752-e2fb4d43e2b0?w=500'),
-('Car Polish', 22.99, 7, 'High-gloss car polish for shine', 'https://images.unsplash.com/photo-1548740441-99b6f0d6c78a?w=500'),
-('Parking Sensor', 74.99, 7, 'Rear parking sensor system with display', 'https://images.unsplash.com/photo-1562219292-8f95b0c85ef5?w=500'),
-
--- Food & Beverages products (Category ID: 8) - 25 products with unique images
-('Organic Coffee Beans', 24.99, 8, 'Premium organic coffee beans from Colombia', 'https://images.unsplash.com/photo-1447933601403-0c6688de566e?w=500'),
-('Artisan Chocolate', 19.99, 8, 'Handcrafted dark chocolate collection', 'https://images.unsplash.com/photo-1481391319762-47dff72954d9?w=500'),
-('Olive Oil Set', 39.99, 8, 'Extra virgin olive oil variety pack', 'https://images.unsplash.com/photo-1474979266404-7eaacbcd87c5?w=500'),
-('Gourmet Tea Collection', 34.99, 8, 'Premium loose leaf tea sampler', 'https://images.unsplash.com/photo-1544787219-7f47ccb76574?w=500'),
-('Honey Variety Pack', 29.99, 8, 'Natural raw honey from different regions', 'https://images.unsplash.com/photo-1587049352846-4a222e784d38?w=500'),
-('Spice Gift Set', 44.99, 8, 'International spice collection for cooking', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Pasta Sauce Set', 16.99, 8, 'Gourmet pasta sauce trio pack', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Vinegar Collection', 27.99, 8, 'Balsamic and wine vinegar set', 'https://images.unsplash.com/photo-1474979266404-7eaacbcd87c5?w=500'),
-('Nuts Assortment', 22.99, 8, 'Mixed nuts and dried fruits collection', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
-('Hot Sauce Set', 18.99, 8, 'Variety pack of artisan hot sauces', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Craft Beer Pack', 32.99, 8, 'Local craft beer variety 6-pack', 'https://images.unsplash.com/photo-1608270586620-248524c67de9?w=500'),
-('Wine Bottle Red', 49.99, 8, 'Premium red wine from Napa Valley', 'https://images.unsplash.com/photo-1506377585622-bedcbb027afc?w=500'),
-('Cheese Selection', 39.99, 8, 'Artisan cheese board selection', 'https://images.unsplash.com/photo-1486297678162-eb2a19b0a32d?w=500'),
-('Jam Collection', 21.99, 8, 'Homemade fruit jam variety pack', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Crackers Gourmet', 14.99, 8, 'Artisan crackers for cheese pairing', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Energy Bars', 24.99, 8, 'Organic protein energy bar pack', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
-('Sparkling Water', 19.99, 8, 'Premium sparkling water 12-pack', 'https://images.unsplash.com/photo-1523362628745-0c100150b504?w=500'),
-('Salad Dressing', 12.99, 8, 'Organic salad dressing trio', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Protein Powder Food', 54.99, 8, 'Plant-based protein powder vanilla', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
-('Maple Syrup', 26.99, 8, 'Pure Canadian maple syrup', 'https://images.unsplash.com/photo-1587049352846-4a222e784d38?w=500'),
-('Pasta Premium', 8.99, 8, 'Italian imported pasta variety pack', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
-('Smoothie Mix', 17.99, 8, 'Superfood smoothie powder blend', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
-('Kombucha Pack', 23.99, 8, 'Probiotic kombucha variety 4-pack', 'https://images.unsplash.com/photo-1523362628745-0c100150b504?w=500'),
-('Coconut Oil', 15.99, 8, 'Organic virgin coconut oil jar', 'https://images.unsplash.com/photo-1474979266404-7eaacbcd87c5?w=500'),
-('Breakfast Cereal', 11.99, 8, 'Organic granola breakfast cereal', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
-
--- Toys & Games products (Category ID: 9) - 25 products with unique images
-('LEGO Building Set', 79.99, 9, 'Creative building blocks set for ages 8+', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Board Game Collection', 49.99, 9, 'Family board game for 2-6 players', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
-('Remote Control Car', 89.99, 9, 'High-speed RC car with rechargeable battery', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Puzzle 1000 Pieces', 24.99, 9, 'Challenging jigsaw puzzle with beautiful artwork', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
-('Action Figure Set', 34.99, 9, 'Collectible superhero action figures', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Art Supplies Kit', 39.99, 9, 'Complete drawing and painting set for kids', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Drone Kids', 129.99, 9, 'Kid-friendly drone with camera', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Stuffed Animal', 19.99, 9, 'Soft plush teddy bear toy', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Card Game Set', 14.99, 9, 'Classic card games collection', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
-('Building Blocks', 44.99, 9, 'Magnetic building blocks educational toy', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Toy Train Set', 159.99, 9, 'Electric train set with tracks', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Dolls House', 199.99, 9, 'Wooden dollhouse with furniture', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Play Kitchen', 149.99, 9, 'Toy kitchen set with accessories', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Science Kit', 59.99, 9, 'Educational science experiment kit', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Robot Toy', 99.99, 9, 'Programmable robot toy for learning', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Chess Set', 39.99, 9, 'Wooden chess set with board', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
-('Scooter Kids', 69.99, 9, 'Adjustable height kick scooter', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Coloring Books', 12.99, 9, 'Set of coloring books with crayons', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Ball Pit Balls', 29.99, 9, 'Colorful plastic ball pit balls pack', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Toy Cars Set', 24.99, 9, 'Die-cast toy cars collection', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Musical Toy', 34.99, 9, 'Electronic keyboard for kids', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Fidget Spinner', 8.99, 9, 'LED light fidget spinner toy', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Magic Set', 44.99, 9, 'Complete magic tricks set for kids', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Walkie Talkies', 29.99, 9, 'Kids walkie talkie set pair', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-('Toy Doctor Kit', 19.99, 9, 'Pretend play doctor medical kit', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
-
--- Music & Instruments products (Category ID: 10) - 25 products with unique images
-('Acoustic Guitar', 299.99, 10, 'Full-size acoustic guitar with case', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Electric Piano', 899.99, 10, '88-key digital piano with weighted keys', 'https://images.unsplash.com/photo-1520523839897-bd0b52f945a0?w=500'),
-('Violin', 199.99, 10, 'Student violin with bow and case', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Drum Set', 599.99, 10, 'Complete acoustic drum set with cymbals', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Microphone', 149.99, 10, 'Professional condenser microphone', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Music Stand', 29.99, 10, 'Adjustable folding music stand', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Guitar Strings', 14.99, 10, 'Set of 6 guitar strings for acoustic guitar', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Piano Bench', 79.99, 10, 'Adjustable piano bench with storage', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Violin Bow', 39.99, 10, 'Brazilwood violin bow with horsehair', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Drumsticks', 19.99, 10, 'Wooden drumsticks for drum set', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Sheet Music Stand', 24.99, 10, 'Portable sheet music stand', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Metronome', 34.99, 10, 'Mechanical metronome for musicians', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Tuner', 14.99, 10, 'Clip-on tuner for guitar and bass', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Trumpet', 499.99, 10, 'Bb trumpet with case and accessories', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Saxophone', 899.99, 10, 'Alto saxophone with case and mouthpiece', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Flute', 199.99, 10, 'Silver-plated concert flute', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Clarinet', 249.99, 10, 'Bb clarinet with case and reeds', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Harmonica', 29.99, 10, '10-hole diatonic harmonica in C', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Accordion', 699.99, 10, 'Piano accordion with 120 bass buttons', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Ukulele', 59.99, 10, 'Soprano ukulele with nylon strings', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-('Banjo', 199.99, 10, '5-string banjo with case', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
-
--- Office Supplies products (Category ID: 11) - 25 products with unique images
-('Office Chair', 249.99, 11, 'Ergonomic office chair with lumbar support', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Standing Desk', 399.99, 11, 'Height-adjustable standing desk', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Printer', 199.99, 11, 'All-in-one wireless printer scanner', 'https://images.unsplash.com/photo-1612198188060-c7c2a3b66eae?w=500'),
-('Paper Shredder', 89.99, 11, 'Cross-cut paper shredder for documents', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Desk Organizer', 34.99, 11, 'Bamboo desk organizer with compartments', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Whiteboard', 59.99, 11, 'Magnetic dry erase whiteboard with markers', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('File Cabinet', 199.99, 11, '2-drawer vertical file cabinet', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Desk Lamp', 49.99, 11, 'LED desk lamp with adjustable brightness', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Bulletin Board', 34.99, 11, 'Cork bulletin board for notes and reminders', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Stapler', 19.99, 11, 'Heavy-duty stapler for office use', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Tape Dispenser', 14.99, 11, 'Desktop tape dispenser with tape', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Scissors', 9.99, 11, 'Stainless steel office scissors', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Ruler', 4.99, 11, '30 cm plastic ruler', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Pencil Holder', 12.99, 11, 'Metal pencil holder for desk', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Notepad', 6.99, 11, 'A5 notepad with ruled pages', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Paper Clips', 3.99, 11, 'Pack of 100 paper clips', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Binder Clips', 4.99, 11, 'Set of 12 binder clips', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Index Cards', 5.99, 11, 'Pack of 100 index cards', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Envelopes', 9.99, 11, 'Box of 50 white envelopes', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-('Sticky Notes', 7.99, 11, 'Pack of 12 sticky note pads', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
-
--- Pet Supplies products (Category ID: 12) - 25 products with unique images
-('Dog Food Premium', 49.99, 12, 'High-quality dry dog food 30lb bag', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Litter Box', 39.99, 12, 'Self-cleaning automatic cat litter box', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Pet Bed', 69.99, 12, 'Orthopedic memory foam pet bed', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Dog Leash Set', 24.99, 12, 'Retractable dog leash with waste bags', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Fish Tank', 129.99, 12, '20-gallon aquarium starter kit', 'https://images.unsplash.com/photo-1520637836862-4d197d17c495?w=500'),
-('Pet Carrier', 79.99, 12, 'Airline-approved pet travel carrier', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Tree', 99.99, 12, 'Multi-level cat climbing tree with scratching posts', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Bird Cage', 89.99, 12, 'Spacious bird cage with perches and feeders', 'https://images.unsplash.com/photo-1552058544-f2b08422138a?w=500'),
-('Dog Harness', 34.99, 12, 'Adjustable dog harness with leash', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Scratching Post', 49.99, 12, 'Tall cat scratching post with condo', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Pet Water Fountain', 39.99, 12, 'Automatic pet water fountain', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Dog Training Collar', 59.99, 12, 'Rechargeable dog training collar', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Toy Bundle', 19.99, 12, 'Variety pack of cat toys', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Dog Chew Toys', 24.99, 12, 'Durable chew toys for aggressive chewers', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Pet First Aid Kit', 34.99, 12, 'Comprehensive first aid kit for pets', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Dog Grooming Kit', 49.99, 12, 'Complete dog grooming kit with clippers', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Grooming Gloves', 19.99, 12, 'Self-grooming gloves for cats', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Pet Odor Eliminator', 29.99, 12, 'Enzymatic cleaner for pet odors', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Dog Seat Cover', 39.99, 12, 'Waterproof dog car seat cover', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Bed', 49.99, 12, 'Cozy cat bed with removable cover', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Pet Blanket', 34.99, 12, 'Soft pet blanket for dogs and cats', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Dog Bowls Set', 19.99, 12, 'Stainless steel dog bowls with stand', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-('Cat Litter Mat', 24.99, 12, 'Cat litter mat with waterproof backing', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
-
--- Health & Wellness products (Category ID: 13) - 25 products with unique images
-('Protein Powder', 39.99, 13, 'Whey protein powder for muscle building', 'https://images.unsplash.com/photo-1593095948071-474c5cc2989d?w=500'),
-('Multivitamin Tablets', 24.99, 13, 'Daily multivitamin supplement', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
-('Essential Oils Set', 49.99, 13, 'Aromatherapy essential oils collection', 'https://images.unsplash.com/photo-1608571423902-eed4a5ad8108?w=500'),
-('Blood Pressure Monitor', 79.99, 13, 'Digital blood pressure monitoring device', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
-('Meditation Cushion', 34.99, 13, 'Comfortable meditation and yoga cushion', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
-('Resistance Bands Set', 19.99, 13, 'Elastic resistance bands for home workouts', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Digital Scale', 59.99, 13, 'Smart body composition scale', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
-('Foam Roller', 29.99, 13, 'Muscle recovery foam roller', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Yoga Mat Premium', 49.99, 13, 'High-density yoga mat for studio use', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
-('Pilates Ring', 34.99, 13, 'Magic circle resistance for Pilates', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
-('Dumbbells Adjustable', 199.99, 13, 'Adjustable dumbbells for strength training', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Kettlebell', 79.99, 13, 'Cast iron kettlebell for workouts', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Jump Rope Speed', 14.99, 13, 'Speed jump rope with ball bearings', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Resistance Bands Door Anchor', 9.99, 13, 'Door anchor for resistance bands', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Ab Roller', 29.99, 13, 'Abdominal roller for core workouts', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Balance Board', 39.99, 13, 'Wooden balance board for stability training', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Foam Block Yoga', 19.99, 13, 'Yoga foam blocks for support and balance', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Stretch Strap', 14.99, 13, 'Stretching strap with loops for yoga', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Massage Ball', 9.99, 13, 'Trigger point massage ball', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Neck Massager', 49.99, 13, 'Electric neck and shoulder massager', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Foot Massager', 59.99, 13, 'Electric foot massager with heat', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Hand Grip Strengthener', 19.99, 13, 'Adjustable hand grip strengthener', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Wrist Brace', 24.99, 13, 'Adjustable wrist brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Elbow Brace', 24.99, 13, 'Adjustable elbow brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Knee Brace', 29.99, 13, 'Adjustable knee brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-('Ankle Brace', 19.99, 13, 'Adjustable ankle brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
-
--- Jewelry & Accessories products (Category ID: 14) - 25 products with unique images
-('Diamond Necklace', 299.99, 14, 'Elegant diamond pendant necklace', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Silver Watch', 149.99, 14, 'Classic silver wristwatch', 'https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=500'),
-('Pearl Earrings', 89.99, 14, 'Cultured pearl stud earrings', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Leather Wallet', 39.99, 14, 'Genuine leather bifold wallet', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
-('Sunglasses', 79.99, 14, 'UV protection designer sunglasses', 'https://images.unsplash.com/photo-1473496169904-658ba7c44d8a?w=500'),
-('Gold Bracelet', 199.99, 14, '14k gold chain bracelet', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Silk Scarf', 59.99, 14, 'Luxury silk printed scarf', 'https://images.unsplash.com/photo-1520637836862-4d197d17c495?w=500'),
-('Cufflinks Set', 69.99, 14, 'Elegant silver cufflinks for formal wear', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Brooch Pin', 39.99, 14, 'Vintage style brooch pin', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Anklet Chain', 29.99, 14, 'Delicate anklet chain in gold or silver', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Hairpin Set', 19.99, 14, 'Set of 3 decorative hairpins', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Belt Buckle', 24.99, 14, 'Western style belt buckle', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
-('Keychain', 9.99, 14, 'Leather keychain with metal ring', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Locket Necklace', 34.99, 14, 'Heart-shaped locket necklace', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Friendship Bracelet', 14.99, 14, 'Colorful woven friendship bracelet', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('ID Bracelet', 19.99, 14, 'Customizable ID bracelet', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Charm Bracelet', 29.99, 14, 'Bracelet with interchangeable charms', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Cameo Brooch', 39.99, 14, 'Vintage cameo brooch', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Hair Comb', 14.99, 14, 'Decorative hair comb', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Pocket Watch', 49.99, 14, 'Antique style pocket watch', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Tie Clip', 19.99, 14, 'Classic tie clip in silver or gold', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Lapel Pin', 9.99, 14, 'Enamel lapel pin for jackets', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-('Watch Box', 59.99, 14, 'Luxury watch box for storage', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
-
--- Travel & Luggage products (Category ID: 15) - 25 products with unique images
-('Rolling Suitcase', 159.99, 15, 'Hard shell rolling suitcase 24-inch', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Travel Backpack', 89.99, 15, 'Durable travel backpack with laptop compartment', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
-('Passport Holder', 19.99, 15, 'RFID blocking passport wallet', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Travel Pillow', 24.99, 15, 'Memory foam neck travel pillow', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Packing Cubes', 34.99, 15, 'Set of 4 packing organizer cubes', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Carry-on Bag', 79.99, 15, 'Wheeled carry-on luggage', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Travel Adapter', 29.99, 15, 'Universal travel power adapter', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Luggage Scale', 14.99, 15, 'Digital luggage weight scale', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Duffel Bag', 49.99, 15, 'Canvas duffel bag with leather straps', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Toiletry Bag', 19.99, 15, 'Water-resistant toiletry bag', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Shoe Bag', 14.99, 15, 'Breathable shoe storage bag', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Laundry Bag', 9.99, 15, 'Foldable laundry bag for travel', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Travel Blanket', 29.99, 15, 'Compact travel blanket', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Cable Organizer', 12.99, 15, 'Travel cable organizer pouch', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('RFID Wallet', 39.99, 15, 'RFID blocking wallet for cards', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Portable Charger', 29.99, 15, 'Compact portable charger for devices', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Travel Journal', 19.99, 15, 'Leather travel journal with pen', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Map Case', 9.99, 15, 'Waterproof map case for navigation', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Compass', 14.99, 15, 'Classic brass compass', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Binoculars', 49.99, 15, 'Compact binoculars for travel', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-('Travel Sewing Kit', 12.99, 15, 'Portable sewing kit for emergencies', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
-
--- Baby & Kids products (Category ID: 16) - 25 products with unique images
-('Baby Stroller', 299.99, 16, 'Lightweight foldable baby stroller', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Car Seat', 199.99, 16, 'Safety-certified infant car seat', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Monitor', 129.99, 16, 'Video baby monitor with night vision', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Diaper Bag', 59.99, 16, 'Multi-pocket diaper changing bag', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Clothes Set', 34.99, 16, 'Organic cotton baby outfit set', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('High Chair', 149.99, 16, 'Adjustable baby high chair', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Bottles Set', 24.99, 16, 'BPA-free baby bottles with nipples', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Play Mat', 79.99, 16, 'Interactive baby play mat with toys', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Carrier', 69.99, 16, 'Ergonomic baby carrier backpack', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Pacifier Clip', 12.99, 16, 'Silicone pacifier clip for babies', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Teething Toy', 9.99, 16, 'Natural rubber teething toy', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Wipes Warmer', 34.99, 16, 'Electric baby wipes warmer', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Nursing Pillow', 39.99, 16, 'Support pillow for breastfeeding', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Swing', 149.99, 16, 'Portable baby swing with music', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Diaper Pail', 59.99, 16, 'Odor-locking diaper pail', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Thermometer', 24.99, 16, 'Digital baby thermometer with fever alarm', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Bottle Warmer', 29.99, 16, 'Electric bottle warmer for car and home', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Nail Clipper', 9.99, 16, 'Safety baby nail clipper', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Soft Toy', 19.99, 16, 'Plush soft toy for babies', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Baby Proofing Kit', 34.99, 16, 'Home safety proofing kit for babies', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Kids Backpack', 39.99, 16, 'Durable kids backpack for school', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Lunch Box', 19.99, 16, 'Insulated lunch box for kids', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Water Bottle Kids', 14.99, 16, 'BPA-free water bottle for kids', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Art Smock', 9.99, 16, 'Washable art smock for kids', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Puzzle Mat', 24.99, 16, 'Foam puzzle mat for playroom', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-('Building Blocks Set', 39.99, 16, 'Wooden building blocks set for toddlers', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
-
--- Kitchen & Dining products (Category ID: 17) - 25 products with unique images
-('Cast Iron Skillet', 49.99, 17, 'Pre-seasoned cast iron cooking pan', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Dinner Plate Set', 79.99, 17, '12-piece ceramic dinner plate set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Blender', 99.99, 17, 'High-speed blender for smoothies', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Wine Glasses', 39.99, 17, 'Crystal wine glass set of 6', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Cutting Board', 29.99, 17, 'Bamboo cutting board with juice groove', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Stand Mixer', 299.99, 17, 'Professional stand mixer for baking', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Silverware Set', 69.99, 17, '20-piece stainless steel flatware set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Rice Cooker', 79.99, 17, 'Digital rice cooker with steamer', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Cookbook', 24.99, 17, 'Popular cookbook with family recipes', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Oven Mitts', 19.99, 17, 'Silicone oven mitts for heat protection', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Dish Towels', 14.99, 17, 'Set of 5 cotton dish towels', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Salt and Pepper Shakers', 9.99, 17, 'Ceramic salt and pepper shaker set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Measuring Cups', 12.99, 17, 'Stainless steel measuring cups set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Mixing Bowls', 24.99, 17, 'Set of 3 nesting mixing bowls', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Baking Sheet Set', 29.99, 17, 'Set of 2 non-stick baking sheets', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Pasta Maker', 199.99, 17, 'Manual pasta maker machine', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Food Processor', 149.99, 17, 'Versatile food processor with multiple attachments', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Electric Kettle', 39.99, 17, 'Cordless electric kettle with auto shut-off', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Toaster', 29.99, 17, '2-slice toaster with adjustable browning control', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Slow Cooker', 79.99, 17, '6-quart programmable slow cooker', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Pressure Cooker', 99.99, 17, 'Electric pressure cooker with safety lock', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Deep Fryer', 129.99, 17, 'Countertop electric deep fryer', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Rice Paper Rolls Kit', 19.99, 17, 'DIY rice paper rolls making kit', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Herb Scissors', 14.99, 17, 'Multi-blade herb scissors', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Corn Peeler', 9.99, 17, 'Electric corn peeler', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Avocado Slicer', 12.99, 17, '3-in-1 avocado slicer and pitter', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Potato Masher', 9.99, 17, 'Stainless steel potato masher', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-('Apple Corer', 7.99, 17, 'Stainless steel apple corer', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
-
--- Art & Crafts products (Category ID: 18) - 25 products with unique images
-('Acrylic Paint Set', 34.99, 18, '24-color acrylic paint set with brushes', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Sketchbook', 19.99, 18, 'Professional drawing sketchpad', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Colored Pencils', 24.99, 18, '72-piece colored pencil set', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Easel', 89.99, 18, 'Adjustable wooden art easel', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Clay Set', 29.99, 18, 'Polymer clay sculpting kit', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Watercolor Set', 39.99, 18, 'Professional watercolor paint set', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Craft Knife Set', 19.99, 18, 'Precision craft cutting tools', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Canvas Pack', 24.99, 18, 'Stretched canvas boards for painting', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Paint Brushes Set', 14.99, 18, 'Set of 10 paint brushes for artists', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Palette Knife Set', 19.99, 18, 'Set of 5 palette knives for painting', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Oil Paint Set', 49.99, 18, '10-color oil paint set with brushes', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Acrylic Pouring Kit', 59.99, 18, 'Complete acrylic pouring art kit', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Embroidery Kit', 34.99, 18, 'Beginner embroidery kit with patterns', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Knitting Needles Set', 19.99, 18, 'Set of 4 knitting needles with yarn', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Crochet Hooks Set', 24.99, 18, 'Set of 9 crochet hooks with case', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Sewing Kit', 29.99, 18, 'Complete sewing kit with threads and needles', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Fabric Scissors', 14.99, 18, 'Sharp fabric scissors for sewing', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Tailor Chalk', 9.99, 18, 'Tailor chalk for marking fabrics', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Measuring Tape', 4.99, 18, '60-inch measuring tape for sewing', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Stencils Set', 12.99, 18, 'Set of 10 reusable stencils', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Craft Paper Pack', 19.99, 18, 'Assorted craft paper in different colors', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Glue Gun', 29.99, 18, 'Hot glue gun with glue sticks', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Spray Paint Set', 39.99, 18, 'Set of 6 spray paints for art and crafts', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-('Paint Markers', 24.99, 18, 'Set of 12 paint markers for artists', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
-
--- Outdoor & Camping products (Category ID: 19) - 25 products with unique images
-('Camping Tent', 199.99, 19, '4-person waterproof camping tent', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Sleeping Bag', 79.99, 19, 'All-season sleeping bag with compression sack', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Hiking Backpack', 149.99, 19, '50L hiking backpack with hydration system', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Portable Grill', 99.99, 19, 'Compact charcoal camping grill', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Headlamp', 29.99, 19, 'LED headlamp for outdoor activities', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Camping Chair', 39.99, 19, 'Foldable camping chair with cup holder', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Water Bottle', 24.99, 19, 'Insulated stainless steel water bottle', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('First Aid Kit', 34.99, 19, 'Comprehensive outdoor first aid kit', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Camping Cookware Set', 59.99, 19, 'Non-stick cookware set for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Portable Power Bank', 49.99, 19, 'Solar-powered portable charger', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Multi-tool Knife', 29.99, 19, 'Stainless steel multi-tool with knife', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Camping Lantern', 39.99, 19, 'LED camping lantern with dimmer', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Fire Starter Kit', 14.99, 19, 'Fire starter and tinder for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Compass', 9.99, 19, 'Outdoor compass for navigation', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Binoculars', 49.99, 19, 'Compact binoculars for hiking', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Trekking Poles', 39.99, 19, 'Adjustable trekking poles for hiking', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Sleeping Pad', 59.99, 19, 'Inflatable sleeping pad for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Camp Shower', 24.99, 19, 'Portable camp shower with solar bag', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Toilet Paper Holder', 12.99, 19, 'Portable toilet paper holder', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Trash Bags', 9.99, 19, 'Biodegradable trash bags for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('S mores Maker', 19.99, 19, 'Indoor s mores maker machine', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Portable Blender', 39.99, 19, 'USB rechargeable portable blender', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-('Camping Utensils', 14.99, 19, 'Reusable camping utensils set', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
-
--- Photography products (Category ID: 20) - 25 products with unique images
-('DSLR Camera', 899.99, 20, 'Professional DSLR camera with 24MP sensor', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Camera Lens', 399.99, 20, '50mm f/1.8 portrait lens', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Tripod', 79.99, 20, 'Carbon fiber camera tripod', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Memory Cards', 39.99, 20, 'High-speed SD memory card 64GB', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Camera Bag', 59.99, 20, 'Professional camera gear bag', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Flash Unit', 199.99, 20, 'External camera flash with diffuser', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Lens Filter Set', 49.99, 20, 'UV and polarizing filter set', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Photo Printer', 299.99, 20, 'Professional photo printer', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Light Reflector', 34.99, 20, '5-in-1 collapsible light reflector', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Camera Strap', 19.99, 20, 'Comfortable camera strap with padding', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Lens Cleaning Kit', 9.99, 20, 'Complete lens cleaning kit', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Tripod Monopod Combo', 129.99, 20, 'Aluminum tripod and monopod combo', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Camera Rain Cover', 24.99, 20, 'Waterproof camera cover', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Remote Shutter Release', 14.99, 20, 'Wireless remote shutter release', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Photography Backdrops', 49.99, 20, 'Set of 3 photography backdrops', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Softbox Lighting Kit', 199.99, 20, 'Photography softbox lighting kit', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Reflector Umbrella', 34.99, 20, 'Translucent reflector umbrella', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Light Stand', 59.99, 20, 'Adjustable light stand for photography', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Photography Gloves', 19.99, 20, 'Warm gloves for photographers', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Lens Hood', 14.99, 20, 'Lens hood for sun glare reduction', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-('Camera Cleaning Kit', 9.99, 20, 'Sensor and camera body cleaning kit', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
-
--- Gaming products (Category ID: 21) - 25 products with unique images
-('Gaming Console', 499.99, 21, 'Next-gen gaming console with 1TB storage', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Gaming Headset', 149.99, 21, '7.1 surround sound gaming headset', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Gaming Chair', 299.99, 21, 'Ergonomic racing-style gaming chair', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('VR Headset', 399.99, 21, 'Virtual reality headset with controllers', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Game Controller', 69.99, 21, 'Wireless game controller with vibration', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Gaming Monitor', 349.99, 21, '27-inch 144Hz gaming monitor', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('PC Games Bundle', 59.99, 21, 'Collection of popular PC games', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Gaming Desk', 199.99, 21, 'L-shaped gaming desk with RGB lighting', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Racing Wheel', 129.99, 21, 'Force feedback racing wheel', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Game Chair Mat', 59.99, 21, 'Large mat for gaming chair', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('LED Strip Lights', 24.99, 21, 'RGB LED strip lights for gaming setup', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Gaming Mouse Pad', 19.99, 21, 'Extended gaming mouse pad', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Steam Gift Card', 49.99, 21, 'Gift card for Steam platform', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Xbox Live Gold', 24.99, 21, '3-month subscription to Xbox Live Gold', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('PlayStation Plus', 24.99, 21, '3-month subscription to PlayStation Plus', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Nintendo eShop Card', 19.99, 21, 'Gift card for Nintendo eShop', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Gaming Network Adapter', 34.99, 21, 'Wireless network adapter for gaming', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Cooling Stand for PS5', 49.99, 21, 'Vertical cooling stand for PlayStation 5', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-('Cooling Stand for Xbox Series X', 49.99, 21, 'Vertical cooling stand for Xbox Series X', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
-
--- Furniture products (Category ID: 22) - 25 products with unique images
-('Sofa Set', 899.99, 22, '3-piece sectional sofa with cushions', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Coffee Table', 199.99, 22, 'Modern glass-top coffee table', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Bookshelf', 149.99, 22, '5-tier wooden bookshelf unit', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Bed Frame', 399.99, 22, 'Queen size platform bed frame', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Dining Set', 599.99, 22, '6-person dining table with chairs', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Wardrobe', 499.99, 22, 'Large wardrobe with sliding doors', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Nightstand', 89.99, 22, 'Bedside table with drawer', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Bar Stools', 129.99, 22, 'Set of 2 adjustable bar stools', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Dining Bench', 199.99, 22, 'Wooden dining bench for extra seating', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Accent Chair', 159.99, 22, 'Stylish accent chair for living room', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Ottoman', 79.99, 22, 'Fabric ottoman for living room', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Coffee Table Books', 39.99, 22, 'Set of 3 coffee table books', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Wall Art', 49.99, 22, 'Framed wall art for home decor', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Table Lamp', 59.99, 22, 'Modern table lamp with USB charging', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Floor Lamp', 89.99, 22, 'LED floor lamp with dimmer', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Area Rug', 199.99, 22, 'Large area rug for living room', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Curtains', 79.99, 22, 'Set of 2 blackout curtains', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Throw Blanket', 29.99, 22, 'Warm throw blanket for sofa', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Cushion Covers', 19.99, 22, 'Set of 4 decorative cushion covers', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Napkin Set', 14.99, 22, 'Cloth napkin set for dining table', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Table Runner', 24.99, 22, 'Decorative table runner for dining table', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Coasters Set', 9.99, 22, 'Set of 6 cork coasters', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Wine Rack', 39.99, 22, 'Wall-mounted wine rack', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Cutlery Tray', 19.99, 22, 'Expandable cutlery tray for kitchen drawer', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Spice Rack', 29.99, 22, 'Wall-mounted spice rack with jars', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Pot Rack', 39.99, 22, 'Ceiling-mounted pot rack', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
-('Knife Block', 49.99, 22, 'Wooden knife block with knives', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500');
-
--- Display inserted data count
-SELECT 'Categories inserted:' as info, COUNT(*) as count FROM category
-UNION ALL
-SELECT 'Products inserted:' as info, COUNT(*) as count FROM product
\ No newline at end of file
@@ -0,0 +1,13 @@
+-- Indexes for the EmployeeRepository finders, each of which otherwise scans the whole table.
+-- The finders return whole employees, so the indexes carry no included columns: the rows are read either way.
+
+-- findByDepartment, and findByDepartmentAndDateOfBirthBetween as one range scan within the department
+CREATE INDEX idx_employee_department_date_of_birth ON employee (department, date_of_birth);
+
+-- The range finders: findByDateOfBirthBetween, findBySalaryBetween and findByJoinedDateBetween
+CREATE INDEX idx_employee_date_of_birth ON employee (date_of_birth);
+CREATE INDEX idx_employee_salary ON employee (salary);
+CREATE INDEX idx_employee_joined_date ON employee (joined_date);
+
+-- findByEmail; employees without an email are never looked up by it
+CREATE INDEX idx_employee_email ON employee (email) WHERE email IS NOT NULL;
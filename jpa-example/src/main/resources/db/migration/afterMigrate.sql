@@ -0,0 +1,23 @@
+-- Runs after every migrate, including a startup with nothing to migrate, and fails the startup when the indexes
+-- the migrations created are missing or invalid (dropped by hand, or left behind by an interrupted rebuild).
+-- The table and sequence are checked against the entity by spring.jpa.hibernate.ddl-auto=validate,
+-- and edited or missing migrations by Flyway's own validation.
+DO $$
+DECLARE
+    drifted text;
+BEGIN
+    SELECT string_agg(v.index_name, ', ') INTO drifted
+    FROM (VALUES
+            ('employee_pkey'),
+            ('idx_employee_department_date_of_birth'),
+            ('idx_employee_date_of_birth'),
+            ('idx_employee_salary'),
+            ('idx_employee_joined_date'),
+            ('idx_employee_email')) AS v(index_name)
+    LEFT JOIN pg_class c ON c.relname = v.index_name AND c.relkind = 'i' AND c.relnamespace = current_schema()::regnamespace
+    LEFT JOIN pg_index i ON i.indexrelid = c.oid
+    WHERE i.indexrelid IS NULL OR NOT i.indisvalid;
+    IF drifted IS NOT NULL THEN
+        RAISE EXCEPTION 'Schema drift: indexes missing or invalid: %', drifted;
+    END IF;
+END $$;
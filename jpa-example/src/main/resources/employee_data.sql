@@ -1,50 +0,0 @@
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Alice Johnson', 'alice.johnson@example.com', 'Engineering', '1990-03-15', 70000.00, '2017-04-10');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Bob Smith', 'bob.smith@example.com', 'Finance', '1985-07-22', 85000.00, '2015-06-01');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Carol Williams', 'carol.williams@example.com', 'HR', '1978-11-05', 65000.00, '2012-09-15');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('David Brown', 'david.brown@example.com', 'Sales', '1992-01-30', 72000.00, '2018-01-20');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Eve Davis', 'eve.davis@example.com', 'Marketing', '1988-06-12', 68000.00, '2016-03-12');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Frank Miller', 'frank.miller@example.com', 'Support', '1975-09-18', 60000.00, '2010-11-05');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Grace Wilson', 'grace.wilson@example.com', 'Engineering', '1995-12-03', 71000.00, '2020-07-18');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Henry Moore', 'henry.moore@example.com', 'Finance', '1982-04-27', 90000.00, '2013-02-22');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Ivy Taylor', 'ivy.taylor@example.com', 'HR', '1998-02-14', 63000.00, '2021-05-10');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Jack Anderson', 'jack.anderson@example.com', 'Sales', '1987-08-09', 75000.00, '2014-08-30');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Karen Thomas', 'karen.thomas@example.com', 'Marketing', '1993-05-21', 67000.00, '2019-10-01');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Leo Jackson', 'leo.jackson@example.com', 'Support', '1979-10-11', 61000.00, '2011-12-12');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Mia White', 'mia.white@example.com', 'Engineering', '1991-07-17', 72000.00, '2017-03-15');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Noah Harris', 'noah.harris@example.com', 'Finance', '1984-03-29', 87000.00, '2012-07-07');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Olivia Martin', 'olivia.martin@example.com', 'HR', '1977-12-25', 66000.00, '2009-05-20');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Paul Thompson', 'paul.thompson@example.com', 'Sales', '1996-09-02', 73000.00, '2022-02-14');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Quinn Garcia', 'quinn.garcia@example.com', 'Marketing', '1989-11-19', 69000.00, '2015-09-09');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Ruby Martinez', 'ruby.martinez@example.com', 'Support', '1981-06-06', 62000.00, '2013-11-11');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Sam Clark', 'sam.clark@example.com', 'Engineering', '1994-04-13', 71000.00, '2020-04-04');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Tina Rodriguez', 'tina.rodriguez@example.com', 'Finance', '1986-01-28', 86000.00, '2016-06-06');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Uma Lewis', 'uma.lewis@example.com', 'HR', '1976-08-16', 64000.00, '2008-08-08');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Victor Lee', 'victor.lee@example.com', 'Sales', '1997-05-04', 74000.00, '2023-01-01');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Wendy Walker', 'wendy.walker@example.com', 'Marketing', '1983-02-23', 68000.00, '2011-03-03');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Xavier Hall', 'xavier.hall@example.com', 'Support', '1974-07-31', 63000.00, '2007-07-07');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Yara Allen', 'yara.allen@example.com', 'Engineering', '1999-10-20', 70000.00, '2022-09-09');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Zane Young', 'zane.young@example.com', 'Finance', '1980-05-15', 88000.00, '2010-10-10');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Abby King', 'abby.king@example.com', 'HR', '1992-11-08', 65000.00, '2018-12-12');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Ben Wright', 'ben.wright@example.com', 'Sales', '1985-03-12', 76000.00, '2014-04-04');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Cathy Scott', 'cathy.scott@example.com', 'Marketing', '1978-09-27', 67000.00, '2009-09-09');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Derek Green', 'derek.green@example.com', 'Support', '1990-12-14', 61000.00, '2017-07-07');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Ella Adams', 'ella.adams@example.com', 'Engineering', '1987-06-01', 73000.00, '2015-05-05');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Finn Baker', 'finn.baker@example.com', 'Finance', '1979-01-19', 89000.00, '2011-11-11');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Gina Nelson', 'gina.nelson@example.com', 'HR', '1995-08-23', 66000.00, '2020-10-10');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Hank Carter', 'hank.carter@example.com', 'Sales', '1982-04-05', 77000.00, '2013-03-03');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Iris Mitchell', 'iris.mitchell@example.com', 'Marketing', '1976-10-29', 68000.00, '2008-08-08');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Jake Perez', 'jake.perez@example.com', 'Support', '1993-02-17', 62000.00, '2019-09-09');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Kara Roberts', 'kara.roberts@example.com', 'Engineering', '1984-07-08', 72000.00, '2012-12-12');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Liam Evans', 'liam.evans@example.com', 'Finance', '1977-03-26', 90000.00, '2009-09-09');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Mona Turner', 'mona.turner@example.com', 'HR', '1998-12-11', 64000.00, '2021-11-11');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Nate Phillips', 'nate.phillips@example.com', 'Sales', '1989-09-03', 78000.00, '2016-06-06');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Olga Campbell', 'olga.campbell@example.com', 'Marketing', '1981-05-30', 69000.00, '2010-10-10');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Pete Parker', 'pete.parker@example.com', 'Support', '1975-11-16', 60000.00, '2007-07-07');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Rita Edwards', 'rita.edwards@example.com', 'Engineering', '1996-08-07', 71000.00, '2022-02-02');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Steve Collins', 'steve.collins@example.com', 'Finance', '1988-02-25', 85000.00, '2016-06-06');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Tara Stewart', 'tara.stewart@example.com', 'HR', '1974-06-19', 67000.00, '2007-07-07');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Umar Sanchez', 'umar.sanchez@example.com', 'Sales', '1991-10-02', 79000.00, '2018-08-08');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Vera Morris', 'vera.morris@example.com', 'Marketing', '1983-01-13', 68000.00, '2011-11-11');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Will Murphy', 'will.murphy@example.com', 'Support', '1978-08-28', 63000.00, '2009-09-09');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Xena Rogers', 'xena.rogers@example.com', 'Engineering', '1994-05-06', 70000.00, '2020-05-05');
-INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date) VALUES ('Yusuf Reed', 'yusuf.reed@example.com', 'Finance', '1986-12-21', 86000.00, '2016-12-12');
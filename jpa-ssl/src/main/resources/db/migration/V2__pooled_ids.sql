@@ -0,0 +1,23 @@
+-- Moves employee.id from IDENTITY to the pooled sequence the entity allocates from (allocationSize = 50),
+-- which lets Hibernate group inserts and updates into JDBC batches.
+--  * The sequence is created past the highest id ever handed out, so the first block Hibernate takes is above it
+--    and ids of deleted rows are not reused.
+--  * The identity is dropped and the column defaults to the sequence instead, so plain SQL inserts
+--    such as the seed data draw ids that no pooled block will hand out.
+-- Databases that already ran the pre-Flyway version of this script have the sequence and keep its value.
+DO $$
+DECLARE
+    identity_sequence text;
+    last_id bigint;
+BEGIN
+    IF to_regclass('employee_seq') IS NULL THEN
+        identity_sequence := pg_get_serial_sequence('employee', 'id');
+        IF identity_sequence IS NOT NULL THEN
+            EXECUTE format('SELECT last_value FROM %s', identity_sequence) INTO last_id;
+        END IF;
+        CREATE SEQUENCE employee_seq START WITH 1 INCREMENT BY 50;
+        PERFORM setval('employee_seq', GREATEST(COALESCE((SELECT MAX(id) FROM employee), 0), COALESCE(last_id, 0)) + 50);
+    END IF;
+    ALTER TABLE employee ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    ALTER TABLE employee ALTER COLUMN id SET DEFAULT nextval('employee_seq');
+END $$;
@@ -0,0 +1,57 @@
+-- Sample employees, formerly employee_data.sql.
+-- Only seeds an empty table, so a database that already has employees is left as it is.
+INSERT INTO employee (name, email, department, date_of_birth, salary, joined_date)
+SELECT v.name, v.email, v.department, v.date_of_birth::date, v.salary, v.joined_date::date
+FROM (VALUES
+    ('Alice Johnson', 'alice.johnson@example.com', 'Engineering', '1990-03-15', 70000.00, '2017-04-10'),
+    ('Bob Smith', 'bob.smith@example.com', 'Finance', '1985-07-22', 85000.00, '2015-06-01'),
+    ('Carol Williams', 'carol.williams@example.com', 'HR', '1978-11-05', 65000.00, '2012-09-15'),
+    ('David Brown', 'david.brown@example.com', 'Sales', '1992-01-30', 72000.00, '2018-01-20'),
+    ('Eve Davis', 'eve.davis@example.com', 'Marketing', '1988-06-12', 68000.00, '2016-03-12'),
+    ('Frank Miller', 'frank.miller@example.com', 'Support', '1975-09-18', 60000.00, '2010-11-05'),
+    ('Grace Wilson', 'grace.wilson@example.com', 'Engineering', '1995-12-03', 71000.00, '2020-07-18'),
+    ('Henry Moore', 'henry.moore@example.com', 'Finance', '1982-04-27', 90000.00, '2013-02-22'),
+    ('Ivy Taylor', 'ivy.taylor@example.com', 'HR', '1998-02-14', 63000.00, '2021-05-10'),
+    ('Jack Anderson', 'jack.anderson@example.com', 'Sales', '1987-08-09', 75000.00, '2014-08-30'),
+    ('Karen Thomas', 'karen.thomas@example.com', 'Marketing', '1993-05-21', 67000.00, '2019-10-01'),
+    ('Leo Jackson', 'leo.jackson@example.com', 'Support', '1979-10-11', 61000.00, '2011-12-12'),
+    ('Mia White', 'mia.white@example.com', 'Engineering', '1991-07-17', 72000.00, '2017-03-15'),
+    ('Noah Harris', 'noah.harris@example.com', 'Finance', '1984-03-29', 87000.00, '2012-07-07'),
+    ('Olivia Martin', 'olivia.martin@example.com', 'HR', '1977-12-25', 66000.00, '2009-05-20'),
+    ('Paul Thompson', 'paul.thompson@example.com', 'Sales', '1996-09-02', 73000.00, '2022-02-14'),
+    ('Quinn Garcia', 'quinn.garcia@example.com', 'Marketing', '1989-11-19', 69000.00, '2015-09-09'),
+    ('Ruby Martinez', 'ruby.martinez@example.com', 'Support', '1981-06-06', 62000.00, '2013-11-11'),
+    ('Sam Clark', 'sam.clark@example.com', 'Engineering', '1994-04-13', 71000.00, '2020-04-04'),
+    ('Tina Rodriguez', 'tina.rodriguez@example.com', 'Finance', '1986-01-28', 86000.00, '2016-06-06'),
+    ('Uma Lewis', 'uma.lewis@example.com', 'HR', '1976-08-16', 64000.00, '2008-08-08'),
+    ('Victor Lee', 'victor.lee@example.com', 'Sales', '1997-05-04', 74000.00, '2023-01-01'),
+    ('Wendy Walker', 'wendy.walker@example.com', 'Marketing', '1983-02-23', 68000.00, '2011-03-03'),
+    ('Xavier Hall', 'xavier.hall@example.com', 'Support', '1974-07-31', 63000.00, '2007-07-07'),
+    ('Yara Allen', 'yara.allen@example.com', 'Engineering', '1999-10-20', 70000.00, '2022-09-09'),
+    ('Zane Young', 'zane.young@example.com', 'Finance', '1980-05-15', 88000.00, '2010-10-10'),
+    ('Abby King', 'abby.king@example.com', 'HR', '1992-11-08', 65000.00, '2018-12-12'),
+    ('Ben Wright', 'ben.wright@example.com', 'Sales', '1985-03-12', 76000.00, '2014-04-04'),
+    ('Cathy Scott', 'cathy.scott@example.com', 'Marketing', '1978-09-27', 67000.00, '2009-09-09'),
+    ('Derek Green', 'derek.green@example.com', 'Support', '1990-12-14', 61000.00, '2017-07-07'),
+    ('Ella Adams', 'ella.adams@example.com', 'Engineering', '1987-06-01', 73000.00, '2015-05-05'),
+    ('Finn Baker', 'finn.baker@example.com', 'Finance', '1979-01-19', 89000.00, '2011-11-11'),
+    ('Gina Nelson', 'gina.nelson@example.com', 'HR', '1995-08-23', 66000.00, '2020-10-10'),
+    ('Hank Carter', 'hank.carter@example.com', 'Sales', '1982-04-05', 77000.00, '2013-03-03'),
+    ('Iris Mitchell', 'iris.mitchell@example.com', 'Marketing', '1976-10-29', 68000.00, '2008-08-08'),
+    ('Jake Perez', 'jake.perez@example.com', 'Support', '1993-02-17', 62000.00, '2019-09-09'),
+    ('Kara Roberts', 'kara.roberts@example.com', 'Engineering', '1984-07-08', 72000.00, '2012-12-12'),
+    ('Liam Evans', 'liam.evans@example.com', 'Finance', '1977-03-26', 90000.00, '2009-09-09'),
+    ('Mona Turner', 'mona.turner@example.com', 'HR', '1998-12-11', 64000.00, '2021-11-11'),
+    ('Nate Phillips', 'nate.phillips@example.com', 'Sales', '1989-09-03', 78000.00, '2016-06-06'),
+    ('Olga Campbell', 'olga.campbell@example.com', 'Marketing', '1981-05-30', 69000.00, '2010-10-10'),
+    ('Pete Parker', 'pete.parker@example.com', 'Support', '1975-11-16', 60000.00, '2007-07-07'),
+    ('Rita Edwards', 'rita.edwards@example.com', 'Engineering', '1996-08-07', 71000.00, '2022-02-02'),
+    ('Steve Collins', 'steve.collins@example.com', 'Finance', '1988-02-25', 85000.00, '2016-06-06'),
+    ('Tara Stewart', 'tara.stewart@example.com', 'HR', '1974-06-19', 67000.00, '2007-07-07'),
+    ('Umar Sanchez', 'umar.sanchez@example.com', 'Sales', '1991-10-02', 79000.00, '2018-08-08'),
+    ('Vera Morris', 'vera.morris@example.com', 'Marketing', '1983-01-13', 68000.00, '2011-11-11'),
+    ('Will Murphy', 'will.murphy@example.com', 'Support', '1978-08-28', 63000.00, '2009-09-09'),
+    ('Xena Rogers', 'xena.rogers@example.com', 'Engineering', '1994-05-06', 70000.00, '2020-05-05'),
+    ('Yusuf Reed', 'yusuf.reed@example.com', 'Finance', '1986-12-21', 86000.00, '2016-12-12')
+) AS v(name, email, department, date_of_birth, salary, joined_date)
+WHERE NOT EXISTS (SELECT 1 FROM employee);
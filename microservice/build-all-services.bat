@@ -13,6 +13,36 @@ if %errorlevel% neq 0 (
     exit /b 1
 )
 
+echo.
+echo Building shop-wire (shared wire records)...
+cd /d "%BASE_DIR%shop-wire"
+call mvn clean install
+if %errorlevel% neq 0 (
+    echo Failed to build shop-wire
+    pause
+    exit /b 1
+)
+
+echo.
+echo Building shop-http (shared HTTP client support)...
+cd /d "%BASE_DIR%shop-http"
+call mvn clean install
+if %errorlevel% neq 0 (
+    echo Failed to build shop-http
+    pause
+    exit /b 1
+)
+
+echo.
+echo Building shop-threads (shared virtual-thread support)...
+cd /d "%BASE_DIR%shop-threads"
+call mvn clean install
+if %errorlevel% neq 0 (
+    echo Failed to build shop-threads
+    pause
+    exit /b 1
+)
+
 echo.
 echo Building product-service (Port: 9091)...
 cd /d "%BASE_DIR%product-service"
@@ -53,6 +83,16 @@ if %errorlevel% neq 0 (
     exit /b 1
 )
 
+echo.
+echo Building cart-service-reactive (alternative to cart-service, same port)...
+cd /d "%BASE_DIR%cart-service-reactive"
+call mvn clean compile
+if %errorlevel% neq 0 (
+    echo Failed to build cart-service-reactive
+    pause
+    exit /b 1
+)
+
 echo.
 echo Building category-service (Port: 9095)...
 cd /d "%BASE_DIR%category-service"
@@ -0,0 +1,11 @@
+package com.shop;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CartServiceReactiveApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(CartServiceReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,29 @@
+package com.shop.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.InMemoryWebSessionStore;
+
+// Sessions are kept in memory, configured under server.reactive.session like cart-service's servlet sessions.
+// The store refuses new sessions beyond its limit (10000 by default), which a busy cart service reaches well
+// within a session timeout, so the limit is raised to cart.session.max-sessions.
+@Configuration
+public class SessionConfig {
+
+    @Bean
+    public static BeanPostProcessor sessionStoreLimit(@Value("${cart.session.max-sessions:100000}") int maxSessions) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DefaultWebSessionManager manager
+                        && manager.getSessionStore() instanceof InMemoryWebSessionStore store) {
+                    store.setMaxSessions(maxSessions);
+                }
+                return bean;
+            }
+        };
+    }
+}
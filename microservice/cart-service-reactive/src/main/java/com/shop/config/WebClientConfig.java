@@ -0,0 +1,64 @@
+package com.shop.config;
+
+import com.shop.wire.WireMediaTypes;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// One non-blocking client for all calls to other services, with the limits of cart-service's RestTemplate:
+// pooled keep-alive connections, a bounded wait for one and timeouts on connecting and on the response.
+// Built from Boot's WebClient.Builder, so each call is timed in http.client.requests; the pool is reported
+// in reactor.netty.connection.provider.* under the name downstream.
+@Configuration
+public class WebClientConfig {
+
+    // Reactor Netty keeps a pool per service, so this is the limit per service
+    @Value("${http.client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${http.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${http.client.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${http.client.pool-timeout:2s}")
+    private Duration poolTimeout;
+
+    @Value("${http.client.keep-alive:15s}")
+    private Duration keepAlive;
+
+    @Value("${http.client.smile:false}")
+    private boolean smile;
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("downstream")
+                .maxConnections(maxConnectionsPerRoute)
+                .pendingAcquireTimeout(poolTimeout)
+                // Callers waiting for a connection are only bounded by pool-timeout, not turned away past a queue length
+                .pendingAcquireMaxCount(-1)
+                // Idle connections are closed before the server's own keep-alive timeout (20s on Tomcat) closes them
+                .maxIdleTime(keepAlive)
+                .evictInBackground(keepAlive)
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        builder = builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (smile) {
+            // Every call here reads records, which the Smile decoder can read; JSON stays acceptable
+            builder = builder.defaultHeader(HttpHeaders.ACCEPT, WireMediaTypes.SMILE + ", application/json;q=0.9");
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.shop.controller;
+
+import com.shop.service.CartService;
+import com.shop.wire.CartLine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+// The /cart API of cart-service
+@RestController
+@RequestMapping("/cart")
+public class CartController {
+
+    @Autowired
+    private CartService cartService;
+
+    // Started so the session is saved and its cookie sent, as request.getSession(true) does
+    private String getSessionId(WebSession session) {
+        session.start();
+        return session.getId();
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<CartLine>>> getCart(WebSession session) {
+        return cartService.getCartItems(getSessionId(session))
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/count")
+    public Mono<ResponseEntity<Map<String, Integer>>> getCartCount(WebSession session) {
+        return cartService.getCartItemCount(getSessionId(session))
+                .map(count -> ResponseEntity.ok(Map.of("count", count)));
+    }
+
+    @PostMapping("/items")
+    public Mono<ResponseEntity<CartLine>> addItem(@RequestBody Map<String, Object> request, WebSession session) {
+        Long productId = Long.valueOf(request.get("productId").toString());
+        Integer quantity = Integer.valueOf(request.get("quantity").toString());
+        return cartService.addItemToCart(getSessionId(session), productId, quantity)
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/items/{itemId}")
+    public Mono<ResponseEntity<CartLine>> updateItem(@PathVariable Long itemId,
+                                                     @RequestBody Map<String, Integer> request) {
+        return cartService.updateCartItem(itemId, request.get("quantity"))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.noContent().build());
+    }
+
+    @DeleteMapping("/items/{itemId}")
+    public Mono<ResponseEntity<Void>> removeItem(@PathVariable Long itemId) {
+        return cartService.removeCartItem(itemId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<Void>> clearCart(WebSession session) {
+        return cartService.clearCart(getSessionId(session))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.shop.repository;
+
+import com.shop.wire.CartLine;
+import com.shop.wire.ProductSummary;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// cart_items through R2DBC, with the statements of cart-service's CartRepository. Items are read with their
+// product and category in one join, as the servlet version's entity graph does, straight into the records
+// cart-service sends.
+@Repository
+public class CartRepository {
+
+    private static final String SELECT_ITEMS = "SELECT ci.id, ci.quantity, " +
+            "p.id AS product_id, p.name AS product_name, p.price AS product_price, p.image_url AS product_image_url, " +
+            "c.name AS category_name " +
+            "FROM cart_items ci LEFT JOIN product p ON p.id = ci.product_id " +
+            "LEFT JOIN category c ON c.id = p.category_id ";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<CartLine> findBySessionId(String sessionId) {
+        return databaseClient.sql(SELECT_ITEMS + "WHERE ci.session_id = :sessionId ORDER BY ci.id")
+                .bind("sessionId", sessionId)
+                .map(CartRepository::toLine)
+                .all();
+    }
+
+    public Mono<CartLine> findById(Long id) {
+        return databaseClient.sql(SELECT_ITEMS + "WHERE ci.id = :id")
+                .bind("id", id)
+                .map(CartRepository::toLine)
+                .one();
+    }
+
+    // Adds to the quantity of the (sessionId, productId) row, creating it if needed, in one statement.
+    // A new row takes a whole value of the pooled sequence, which is never inside a block Hibernate allocates.
+    public Mono<CartLine> upsertItem(String sessionId, ProductSummary product, Integer quantity, LocalDateTime touchedAt) {
+        return databaseClient.sql("INSERT INTO cart_items (id, session_id, product_id, quantity, last_touched_at) " +
+                        "VALUES (nextval('cart_items_seq'), :sessionId, :productId, :quantity, :touchedAt) " +
+                        "ON CONFLICT (session_id, product_id) DO UPDATE SET quantity = cart_items.quantity + EXCLUDED.quantity, " +
+                        "last_touched_at = EXCLUDED.last_touched_at " +
+                        "RETURNING id, quantity")
+                .bind("sessionId", sessionId)
+                .bind("productId", product.id())
+                .bind("quantity", quantity)
+                .bind("touchedAt", touchedAt)
+                .map(row -> new CartLine(row.get("id", Long.class), row.get("quantity", Integer.class), product))
+                .one();
+    }
+
+    // Emits the number of rows updated
+    public Mono<Long> updateQuantity(Long id, Integer quantity, LocalDateTime touchedAt) {
+        return databaseClient.sql("UPDATE cart_items SET quantity = :quantity, last_touched_at = :touchedAt WHERE id = :id")
+                .bind("id", id)
+                .bind("quantity", quantity)
+                .bind("touchedAt", touchedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM cart_items WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteBySessionId(String sessionId) {
+        return databaseClient.sql("DELETE FROM cart_items WHERE session_id = :sessionId")
+                .bind("sessionId", sessionId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> countItemsBySessionId(String sessionId) {
+        return databaseClient.sql("SELECT COALESCE(SUM(quantity), 0) AS count FROM cart_items WHERE session_id = :sessionId")
+                .bind("sessionId", sessionId)
+                .map(row -> row.get("count", Long.class).intValue())
+                .one();
+    }
+
+    private static CartLine toLine(Readable row) {
+        Long productId = row.get("product_id", Long.class);
+        ProductSummary product = productId == null ? null : new ProductSummary(productId,
+                row.get("product_name", String.class), row.get("product_price", Double.class),
+                row.get("product_image_url", String.class), row.get("category_name", String.class));
+        return new CartLine(row.get("id", Long.class), row.get("quantity", Integer.class), product);
+    }
+}
@@ -0,0 +1,58 @@
+package com.shop.service;
+
+import com.shop.repository.CartRepository;
+import com.shop.wire.CartLine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+public class CartService {
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private ProductClient productClient;
+
+    public Flux<CartLine> getCartItems(String sessionId) {
+        return cartRepository.findBySessionId(sessionId);
+    }
+
+    public Mono<CartLine> addItemToCart(String sessionId, Long productId, Integer quantity) {
+        return productClient.getProduct(productId)
+                .onErrorMap(WebClientException.class,
+                        e -> new RuntimeException("Failed to fetch product details: " + e.getMessage()))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Product not found")))
+                .flatMap(product -> cartRepository.upsertItem(sessionId, product, quantity, LocalDateTime.now()));
+    }
+
+    // Empty when the item was removed because quantity is not positive
+    public Mono<CartLine> updateCartItem(Long itemId, Integer quantity) {
+        Mono<Long> updated = quantity <= 0
+                ? cartRepository.deleteById(itemId)
+                : cartRepository.updateQuantity(itemId, quantity, LocalDateTime.now());
+        return updated.flatMap(rows -> {
+            if (rows == 0) {
+                return Mono.error(new RuntimeException("Cart item not found"));
+            }
+            return quantity <= 0 ? Mono.empty() : cartRepository.findById(itemId);
+        });
+    }
+
+    public Mono<Void> removeCartItem(Long itemId) {
+        return cartRepository.deleteById(itemId).then();
+    }
+
+    public Mono<Void> clearCart(String sessionId) {
+        return cartRepository.deleteBySessionId(sessionId).then();
+    }
+
+    public Mono<Integer> getCartItemCount(String sessionId) {
+        return cartRepository.countItemsBySessionId(sessionId);
+    }
+}
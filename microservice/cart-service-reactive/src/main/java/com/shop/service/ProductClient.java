@@ -0,0 +1,31 @@
+package com.shop.service;
+
+import com.shop.wire.ProductSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+// Looks products up in product-service without holding a thread while it answers
+@Component
+public class ProductClient {
+
+    @Autowired
+    private WebClient webClient;
+
+    @Value("${product.service.url}")
+    private String productServiceUrl;
+
+    @Value("${product.service.api.path}")
+    private String productServiceApiPath;
+
+    // Empty when product-service has no product with this id
+    public Mono<ProductSummary> getProduct(Long id) {
+        return webClient.get()
+                .uri(productServiceUrl + productServiceApiPath + "?ids={id}", id)
+                .retrieve()
+                .bodyToFlux(ProductSummary.class)
+                .next();
+    }
+}
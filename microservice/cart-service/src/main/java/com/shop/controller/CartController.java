@@ -1,7 +1,7 @@
 package com.shop.controller;
 
-import com.shop.model.CartItem;
 import com.shop.service.CartService;
+import com.shop.wire.CartLine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,9 +26,9 @@ public class CartController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CartItem>> getCart(HttpServletRequest request) {
+    public ResponseEntity<List<CartLine>> getCart(HttpServletRequest request) {
         String sessionId = getSessionId(request);
-        List<CartItem> cartItems = cartService.getCartItems(sessionId);
+        List<CartLine> cartItems = cartService.getCartItems(sessionId);
         return ResponseEntity.ok(cartItems);
     }
 
@@ -40,23 +40,23 @@ public class CartController {
     }
 
     @PostMapping("/items")
-    public ResponseEntity<CartItem> addItem(
+    public ResponseEntity<CartLine> addItem(
             @RequestBody Map<String, Object> request,
             HttpServletRequest httpRequest) {
         String sessionId = getSessionId(httpRequest);
         Long productId = Long.valueOf(request.get("productId").toString());
         Integer quantity = Integer.valueOf(request.get("quantity").toString());
         
-        CartItem cartItem = cartService.addItemToCart(sessionId, productId, quantity);
+        CartLine cartItem = cartService.addItemToCart(sessionId, productId, quantity);
         return ResponseEntity.ok(cartItem);
     }
 
     @PutMapping("/items/{itemId}")
-    public ResponseEntity<CartItem> updateItem(
+    public ResponseEntity<CartLine> updateItem(
             @PathVariable Long itemId,
             @RequestBody Map<String, Integer> request) {
         Integer quantity = request.get("quantity");
-        CartItem updatedItem = cartService.updateCartItem(itemId, quantity);
+        CartLine updatedItem = cartService.updateCartItem(itemId, quantity);
         
         if (updatedItem == null) {
             return ResponseEntity.noContent().build();
@@ -1,23 +1,64 @@
 package com.shop.repository;
 
 import com.shop.model.CartItem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartRepository extends JpaRepository<CartItem, Long> {
     
+    @EntityGraph(attributePaths = {"product", "product.category"})
     List<CartItem> findBySessionId(String sessionId);
     
     Optional<CartItem> findBySessionIdAndProductId(String sessionId, Long productId);
+
+    // Adds to the quantity of the (sessionId, productId) row, creating it if needed, in one statement.
+    // A new row takes a whole value of the pooled sequence, which is never inside a block Hibernate allocates.
+    // Only the id and quantity come back, so the row is not mapped to an entity that would load its product.
+    @Query(value = "INSERT INTO cart_items (id, session_id, product_id, quantity, last_touched_at) " +
+            "VALUES (nextval('cart_items_seq'), :sessionId, :productId, :quantity, :touchedAt) " +
+            "ON CONFLICT (session_id, product_id) DO UPDATE SET quantity = cart_items.quantity + EXCLUDED.quantity, " +
+            "last_touched_at = EXCLUDED.last_touched_at " +
+            "RETURNING id AS \"id\", quantity AS \"quantity\"", nativeQuery = true)
+    UpsertedItem upsertItem(@Param("sessionId") String sessionId, @Param("productId") Long productId,
+                            @Param("quantity") Integer quantity, @Param("touchedAt") LocalDateTime touchedAt);
     
     @Query("SELECT SUM(c.quantity) FROM CartItem c WHERE c.sessionId = :sessionId")
     Integer countItemsBySessionId(@Param("sessionId") String sessionId);
     
-    void deleteBySessionId(String sessionId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CartItem c WHERE c.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") String sessionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CartItem c WHERE c.id = :id")
+    int deleteItemById(@Param("id") Long id);
+
+    // A cart is abandoned when none of its rows has been touched since the cutoff.
+    // Sessions are walked in session_id order from the cursor so each call scans a bounded range.
+    @Query(value = "SELECT session_id FROM cart_items WHERE session_id > :cursor GROUP BY session_id " +
+            "HAVING MAX(last_touched_at) < :cutoff " +
+            "ORDER BY session_id LIMIT :limit", nativeQuery = true)
+    List<String> findAbandonedSessionIds(@Param("cursor") String cursor, @Param("cutoff") LocalDateTime cutoff,
+                                         @Param("limit") int limit);
+
+    // Re-checks the cutoff so a cart touched after it was selected is left alone
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM cart_items c WHERE c.session_id IN (:sessionIds) AND NOT EXISTS " +
+            "(SELECT 1 FROM cart_items r WHERE r.session_id = c.session_id AND r.last_touched_at >= :cutoff)",
+            nativeQuery = true)
+    int deleteAbandonedCarts(@Param("sessionIds") List<String> sessionIds, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT COUNT(*) FROM cart_items WHERE last_touched_at < :cutoff", nativeQuery = true)
+    long countRowsUntouchedSince(@Param("cutoff") LocalDateTime cutoff);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.shop.repository;
+
+// Id and resulting quantity of the cart row an upsert wrote
+public interface UpsertedItem {
+    Long getId();
+
+    Integer getQuantity();
+}
@@ -0,0 +1,135 @@
+package com.shop.service;
+
+import com.shop.repository.CartRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Removes the cart_items rows of sessions that expired without clearing their cart.
+// Each batch is its own short transaction, and the session_id cursor carries over between runs
+// so a large backlog is worked off gradually instead of in one long delete. With write-behind carts, sessions
+// whose cart is held in memory are live and skipped.
+@Service
+@ConditionalOnProperty(name = "cart.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class CartReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(CartReaper.class);
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private WriteBehindCartStore writeBehindCartStore;
+
+    @Value("${cart.reaper.abandoned-after:2h}")
+    private Duration abandonedAfter;
+
+    @Value("${cart.reaper.batch-size:200}")
+    private int batchSize;
+
+    @Value("${cart.reaper.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${cart.reaper.pause-between-batches-ms:100}")
+    private long pauseBetweenBatchesMs;
+
+    // Counting the backlog scans the whole table, so it is only done this often
+    @Value("${cart.reaper.backlog-sample-interval:10m}")
+    private Duration backlogSampleInterval;
+
+    private final AtomicLong backlog = new AtomicLong();
+    // Keeps runs from overlapping; a lock rather than synchronized, since a run waits on the database and sleeps
+    // between batches, and a virtual thread doing that inside synchronized would hold on to its carrier thread
+    private final ReentrantLock running = new ReentrantLock();
+    private String cursor = "";
+    private long nextBacklogSample = System.nanoTime();
+    private Counter rowsReaped;
+    private DistributionSummary rowsReapedPerRun;
+
+    @PostConstruct
+    void registerMetrics() {
+        rowsReaped = Counter.builder("cart.reaper.rows.reaped")
+                .description("Abandoned cart rows deleted")
+                .register(meterRegistry);
+        rowsReapedPerRun = DistributionSummary.builder("cart.reaper.rows.reaped.per.run")
+                .description("Abandoned cart rows deleted by a single run")
+                .register(meterRegistry);
+        Gauge.builder("cart.reaper.backlog.rows", backlog, AtomicLong::get)
+                .description("Cart rows not touched within the abandoned-after window, as last counted less the rows reaped since")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${cart.reaper.interval-ms:60000}",
+            initialDelayString = "${cart.reaper.interval-ms:60000}")
+    public void reap() {
+        running.lock();
+        try {
+            reapBatches();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private void reapBatches() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(abandonedAfter);
+        int reaped = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (batch > 0) {
+                    Thread.sleep(pauseBetweenBatchesMs);
+                }
+                List<String> sessionIds = cartRepository.findAbandonedSessionIds(cursor, cutoff, batchSize);
+                if (!sessionIds.isEmpty()) {
+                    reaped += delete(sessionIds, cutoff);
+                }
+                if (sessionIds.size() < batchSize) {
+                    // Reached the end of the table; the next run starts over from the beginning
+                    cursor = "";
+                    break;
+                }
+                cursor = sessionIds.get(sessionIds.size() - 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            rowsReaped.increment(reaped);
+            rowsReapedPerRun.record(reaped);
+        }
+        long now = System.nanoTime();
+        if (now - nextBacklogSample >= 0) {
+            backlog.set(cartRepository.countRowsUntouchedSince(cutoff));
+            nextBacklogSample = now + backlogSampleInterval.toNanos();
+        } else {
+            long reapedRows = reaped;
+            backlog.updateAndGet(rows -> Math.max(0, rows - reapedRows));
+        }
+        if (reaped > 0) {
+            log.info("Reaped {} abandoned cart rows, {} untouched rows left", reaped, backlog.get());
+        }
+    }
+
+    private int delete(List<String> sessionIds, LocalDateTime cutoff) {
+        if (writeBehindCartStore == null) {
+            return cartRepository.deleteAbandonedCarts(sessionIds, cutoff);
+        }
+        return writeBehindCartStore.reapUnheld(sessionIds, unheld -> cartRepository.deleteAbandonedCarts(unheld, cutoff));
+    }
+}
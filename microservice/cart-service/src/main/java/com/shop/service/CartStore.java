@@ -0,0 +1,22 @@
+package com.shop.service;
+
+import com.shop.wire.CartLine;
+import com.shop.wire.ProductSummary;
+
+import java.util.List;
+
+public interface CartStore {
+
+    List<CartLine> getItems(String sessionId);
+
+    CartLine addItem(String sessionId, ProductSummary product, Integer quantity);
+
+    // Returns null when the item was removed because the quantity dropped to zero
+    CartLine updateItem(Long itemId, Integer quantity);
+
+    void removeItem(Long itemId);
+
+    void clear(String sessionId);
+
+    Integer countItems(String sessionId);
+}
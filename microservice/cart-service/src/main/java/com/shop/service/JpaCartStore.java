@@ -0,0 +1,68 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.repository.CartRepository;
+import com.shop.repository.UpsertedItem;
+import com.shop.wire.CartLine;
+import com.shop.wire.ProductSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Override
+    public List<CartLine> getItems(String sessionId) {
+        return cartRepository.findBySessionId(sessionId).stream().map(WireMapper::toLine).toList();
+    }
+
+    @Override
+    public CartLine addItem(String sessionId, ProductSummary product, Integer quantity) {
+        UpsertedItem item = cartRepository.upsertItem(sessionId, product.id(), quantity, LocalDateTime.now());
+        return new CartLine(item.getId(), item.getQuantity(), product);
+    }
+
+    @Override
+    public CartLine updateItem(Long itemId, Integer quantity) {
+        Optional<CartItem> itemOpt = cartRepository.findById(itemId);
+        if (itemOpt.isEmpty()) {
+            throw new RuntimeException("Cart item not found");
+        }
+
+        CartItem item = itemOpt.get();
+        if (quantity <= 0) {
+            cartRepository.delete(item);
+            return null;
+        } else {
+            item.setQuantity(quantity);
+            return WireMapper.toLine(cartRepository.save(item));
+        }
+    }
+
+    @Override
+    public void removeItem(Long itemId) {
+        cartRepository.deleteItemById(itemId);
+    }
+
+    @Override
+    public void clear(String sessionId) {
+        cartRepository.deleteBySessionId(sessionId);
+    }
+
+    @Override
+    public Integer countItems(String sessionId) {
+        Integer count = cartRepository.countItemsBySessionId(sessionId);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,243 @@
+package com.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.wire.ProductSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+// Products for adding to carts, from a bounded local cache kept current by product-service's change feed
+// (GET /products/changes). Products are only cached while the feed is connected: when it drops, the cache is
+// cleared and every lookup goes to product-service until the feed is back. Category details are not covered
+// by the feed, so they may be up to ttl old.
+// When product-service fails or turns the call away, the last copy fetched of the product is served instead,
+// for up to fallback-ttl after it was fetched, unless the feed has since reported the product changed.
+@Component
+public class ProductCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCache.class);
+
+    @Autowired
+    private ProductClient productClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${product.service.url}")
+    private String productServiceUrl;
+
+    @Value("${product.service.api.path}")
+    private String productServiceApiPath;
+
+    @Value("${product.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${product.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${product.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${product.cache.fallback-ttl:1h}")
+    private Duration fallbackTtl;
+
+    @Value("${product.cache.feed-idle-timeout:45s}")
+    private Duration feedIdleTimeout;
+
+    @Value("${product.cache.reconnect-delay:2s}")
+    private Duration reconnectDelay;
+
+    @Value("${http.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    private Cache<Long, ProductSummary> products;
+    private Cache<Long, ProductSummary> lastFetched;
+    // Bumped by every invalidation, guarded by this; a fetch that overlapped one is not cached
+    private long generation;
+    private volatile boolean subscribed;
+    private volatile boolean running;
+    private Thread feedThread;
+    private boolean feedDownLogged;
+
+    @PostConstruct
+    void createCache() {
+        products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "products");
+        lastFetched = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(fallbackTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lastFetched, "productFallbacks");
+    }
+
+    // Null when product-service has no product with this id
+    public ProductSummary getProduct(Long id) {
+        if (subscribed) {
+            ProductSummary product = products.getIfPresent(id);
+            if (product != null) {
+                return product;
+            }
+        }
+        long fetchedGeneration;
+        synchronized (this) {
+            fetchedGeneration = generation;
+        }
+        ProductSummary product;
+        try {
+            product = productClient.getProduct(id);
+        } catch (RuntimeException e) {
+            ProductSummary fallback = lastFetched.getIfPresent(id);
+            if (fallback == null) {
+                throw e;
+            }
+            log.debug("Serving the last fetched copy of product {}: {}", id, e.getMessage());
+            return fallback;
+        }
+        if (product != null) {
+            synchronized (this) {
+                if (generation == fetchedGeneration) {
+                    lastFetched.put(id, product);
+                    if (subscribed) {
+                        products.put(id, product);
+                    }
+                }
+            }
+        }
+        return product;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        feedThread = new Thread(this::follow, "product-change-feed");
+        feedThread.setDaemon(true);
+        feedThread.start();
+    }
+
+    private void follow() {
+        // Its own client: the read timeout has to outlast the feed's heartbeat interval, and a stream held open
+        // for hours would only skew the call timings of the shared one
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) connectTimeout.toMillis());
+        requestFactory.setReadTimeout((int) feedIdleTimeout.toMillis());
+        RestTemplate feedClient = new RestTemplate(requestFactory);
+        while (running) {
+            try {
+                feedClient.execute(productServiceUrl + productServiceApiPath + "/changes", HttpMethod.GET,
+                        request -> request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM)),
+                        response -> {
+                            read(response.getBody());
+                            return null;
+                        });
+            } catch (RuntimeException e) {
+                // Once per outage rather than once per attempt to reconnect
+                if (running && !feedDownLogged) {
+                    log.warn("Product change feed is down, products are not cached until it is back: {}", e.getMessage());
+                    feedDownLogged = true;
+                }
+            }
+            unsubscribed();
+            try {
+                Thread.sleep(reconnectDelay.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void read(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String event = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (event != null) {
+                    onEvent(event, data.toString());
+                }
+                event = null;
+                data.setLength(0);
+            } else if (line.startsWith("event:")) {
+                event = line.substring("event:".length()).trim();
+            } else if (line.startsWith("data:")) {
+                data.append(line.substring("data:".length()).trim());
+            }
+            // Lines starting with ':' are heartbeats
+        }
+    }
+
+    private void onEvent(String event, String data) {
+        switch (event) {
+            case "subscribed" -> {
+                // Anything cached before may have missed changes
+                invalidateAll();
+                subscribed = true;
+                feedDownLogged = false;
+                log.info("Following product changes, products are cached");
+            }
+            case "product-changed" -> invalidate(Long.valueOf(data));
+            case "catalog-changed" -> {
+                invalidateAll();
+                lastFetched.invalidateAll();
+            }
+            default -> {
+                // Events added to the feed later
+            }
+        }
+    }
+
+    private void unsubscribed() {
+        subscribed = false;
+        invalidateAll();
+    }
+
+    // A changed or deleted product is not served as a fallback either
+    private synchronized void invalidate(Long id) {
+        generation++;
+        products.invalidate(id);
+        lastFetched.invalidate(id);
+    }
+
+    // Losing the feed keeps the fallbacks, which are for exactly that kind of trouble
+    private synchronized void invalidateAll() {
+        generation++;
+        products.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (feedThread != null) {
+            feedThread.interrupt();
+        }
+    }
+}
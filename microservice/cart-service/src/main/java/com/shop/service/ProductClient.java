@@ -0,0 +1,187 @@
+package com.shop.service;
+
+import com.shop.wire.ProductSummary;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Fetches products from product-service. Single lookups made within batch-window of each other are sent as one
+// GET /products?ids= call: the first caller of a window waits it out and then fetches for everyone who joined,
+// or whoever fills the batch up to max-batch-size fetches it at once. Callers asking for the same id share the answer.
+// Each call passes the product-service bulkhead, which caps the calls in flight, and circuit breaker, which fails
+// calls at once while product-service keeps failing or answering slowly; both are set up under resilience4j.*.
+@Component
+public class ProductClient {
+
+    // Longer id lists go in the body of POST /products/lookup rather than the query string
+    private static final int MAX_IDS_IN_QUERY = 100;
+
+    private static final ParameterizedTypeReference<List<ProductSummary>> PRODUCT_LIST = new ParameterizedTypeReference<>() {};
+
+    private static final String PRODUCT_SERVICE = "product-service";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private ProductHedging productHedging;
+
+    @Value("${product.service.url}")
+    private String productServiceUrl;
+
+    @Value("${product.service.api.path}")
+    private String productServiceApiPath;
+
+    @Value("${product.client.batch-window:2ms}")
+    private Duration batchWindow;
+
+    @Value("${product.client.max-batch-size:100}")
+    private int maxBatchSize;
+
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+
+    private final Object lock = new Object();
+    private Batch current;
+
+    private static class Batch {
+        final Map<Long, CompletableFuture<ProductSummary>> products = new LinkedHashMap<>();
+        boolean closed;
+    }
+
+    @PostConstruct
+    void createGuards() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(PRODUCT_SERVICE);
+        bulkhead = bulkheadRegistry.bulkhead(PRODUCT_SERVICE);
+    }
+
+    // Null when product-service has no product with this id
+    public ProductSummary getProduct(Long id) {
+        if (batchWindow.isZero()) {
+            return getProducts(List.of(id)).get(id);
+        }
+        Batch batch;
+        CompletableFuture<ProductSummary> product;
+        boolean opened = false;
+        boolean filled = false;
+        synchronized (lock) {
+            if (current == null) {
+                current = new Batch();
+                opened = true;
+            }
+            batch = current;
+            product = batch.products.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.products.size() >= maxBatchSize) {
+                batch.closed = true;
+                current = null;
+                filled = true;
+            }
+        }
+        if (!filled && opened) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(batchWindow.toNanos());
+            } catch (InterruptedException e) {
+                // Fetch now rather than leave the others waiting
+                Thread.currentThread().interrupt();
+            }
+            synchronized (lock) {
+                if (!batch.closed) {
+                    batch.closed = true;
+                    current = null;
+                    filled = true;
+                }
+            }
+        }
+        if (filled) {
+            fetch(batch);
+        }
+        try {
+            return product.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // The products found, by id, fetched max-batch-size at a time
+    public Map<Long, ProductSummary> getProducts(Collection<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, ProductSummary> products = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += maxBatchSize) {
+            for (ProductSummary product : request(distinct.subList(from, Math.min(from + maxBatchSize, distinct.size())))) {
+                products.put(product.id(), product);
+            }
+        }
+        return products;
+    }
+
+    private void fetch(Batch batch) {
+        try {
+            Map<Long, ProductSummary> products = getProducts(batch.products.keySet());
+            batch.products.forEach((id, product) -> product.complete(products.get(id)));
+        } catch (RuntimeException e) {
+            batch.products.values().forEach(product -> product.completeExceptionally(e));
+        }
+    }
+
+    // Calls over the bulkhead limit are turned away before the breaker sees them, so a burst of traffic alone
+    // does not open it
+    private List<ProductSummary> request(List<Long> ids) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, () -> send(ids))).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Product service is unavailable: " + e.getMessage());
+        }
+    }
+
+    private List<ProductSummary> send(List<Long> ids) {
+        List<ProductSummary> products;
+        if (ids.size() <= MAX_IDS_IN_QUERY) {
+            String joined = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+            products = productHedging.isEnabled()
+                    ? productHedging.call(baseUrl -> get(baseUrl, joined))
+                    : get(productServiceUrl, joined);
+        } else {
+            products = restTemplate.exchange(RequestEntity.post(URI.create(productServiceUrl + productServiceApiPath + "/lookup"))
+                    .body(ids), PRODUCT_LIST).getBody();
+        }
+        return products == null ? List.of() : products;
+    }
+
+    private List<ProductSummary> get(String baseUrl, String ids) {
+        return restTemplate.exchange(baseUrl + productServiceApiPath + "?ids={ids}", HttpMethod.GET, null, PRODUCT_LIST, ids).getBody();
+    }
+}
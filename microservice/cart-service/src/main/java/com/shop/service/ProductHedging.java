@@ -0,0 +1,241 @@
+package com.shop.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Hedged product lookups, when product.client.hedging.enabled=true. A lookup that has not answered within the
+// configured percentile of recent lookup times is sent again to another product-service instance, and whichever
+// answers first is used. Hedges are limited to budget-percent of lookups, so a product-service that is slow
+// everywhere gets at most that much extra load. A hedge also needs a product-service bulkhead permit of its own.
+// Hedged lookups are counted in product.client.hedging.lookups and hedges in product.client.hedges by outcome: won
+// (answered first), lost (answered later, wasted) or failed; hedges the budget or the bulkhead ruled out in
+// product.client.hedges.throttled.
+@Component
+public class ProductHedging {
+
+    // Lookup times kept for the percentile, which is recomputed every RECOMPUTE_EVERY lookups
+    private static final int WINDOW_SIZE = 512;
+    private static final int RECOMPUTE_EVERY = 64;
+    // Hedges that can be saved up while lookups are answered fast
+    private static final double MAX_BUDGET = 10;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Value("${product.service.url}")
+    private String productServiceUrl;
+
+    @Value("${product.client.hedging.enabled:false}")
+    private boolean enabled;
+
+    // Base URLs of the product-service instances to hedge to; empty hedges to product.service.url
+    @Value("${product.client.hedging.instances:}")
+    private String[] instances;
+
+    @Value("${product.client.hedging.percentile:0.95}")
+    private double percentile;
+
+    @Value("${product.client.hedging.min-delay:5ms}")
+    private Duration minDelay;
+
+    @Value("${product.client.hedging.budget-percent:10}")
+    private double budgetPercent;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Attempts run here. The primary attempt runs on the caller's product-service bulkhead permit and the hedge on a
+    // permit of its own, held until both attempts are done, so an attempt still running after the caller has its
+    // answer keeps counting against the bulkhead and the bulkhead bounds how many attempts run at once
+    private ExecutorService executor;
+    private Bulkhead bulkhead;
+    private final long[] window = new long[WINDOW_SIZE];
+    private long recorded;
+    // No hedging until a first window of lookup times has been seen
+    private volatile long delayNanos = Long.MAX_VALUE;
+    private double budget = MAX_BUDGET;
+    private List<String> hedgeUrls;
+    private final AtomicInteger nextHedgeUrl = new AtomicInteger();
+
+    private Counter lookups;
+    private Counter won;
+    private Counter lost;
+    private Counter failed;
+    private Counter throttled;
+
+    @PostConstruct
+    void start() {
+        executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-hedging-", 0).factory())
+                : Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "product-hedging");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        hedgeUrls = new ArrayList<>(Arrays.stream(instances).map(String::trim)
+                .filter(url -> !url.isEmpty() && !url.equals(productServiceUrl)).toList());
+        if (hedgeUrls.isEmpty()) {
+            hedgeUrls.add(productServiceUrl);
+        }
+        bulkhead = bulkheadRegistry.bulkhead("product-service");
+        lookups = Counter.builder("product.client.hedging.lookups").register(meterRegistry);
+        won = hedgeCounter("won");
+        lost = hedgeCounter("lost");
+        failed = hedgeCounter("failed");
+        throttled = Counter.builder("product.client.hedges.throttled").register(meterRegistry);
+        Gauge.builder("product.client.hedging.delay", this, hedging -> hedging.delayNanos == Long.MAX_VALUE
+                        ? Double.NaN : hedging.delayNanos / 1e9)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private Counter hedgeCounter(String outcome) {
+        return Counter.builder("product.client.hedges").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Runs attempt against product.service.url, hedged to another instance when it is slow. Called holding a
+    // product-service bulkhead permit.
+    public <T> T call(Function<String, T> attempt) {
+        lookups.increment();
+        earn();
+        CompletableFuture<T> primary = timed(attempt, productServiceUrl);
+        try {
+            return primary.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slower than the percentile, hedge below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for product-service", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+        if (!spend()) {
+            throttled.increment();
+            return join(primary);
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            refund();
+            throttled.increment();
+            return join(primary);
+        }
+        CompletableFuture<T> hedge;
+        try {
+            hedge = timed(attempt, hedgeUrls.get(Math.floorMod(nextHedgeUrl.getAndIncrement(), hedgeUrls.size())));
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            throw e;
+        }
+        CompletableFuture.allOf(primary, hedge).whenComplete((result, error) -> bulkhead.onComplete());
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> settle(first, result, error, failures));
+        hedge.whenComplete((result, error) -> {
+            if (error != null) {
+                failed.increment();
+            }
+            if (settle(first, result, error, failures)) {
+                won.increment();
+            } else if (error == null) {
+                lost.increment();
+            }
+        });
+        return join(first);
+    }
+
+    // The first answer wins, which settle reports; an error only counts once both attempts have failed
+    private static <T> boolean settle(CompletableFuture<T> first, T result, Throwable error, AtomicInteger failures) {
+        if (error == null) {
+            return first.complete(result);
+        }
+        if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(error);
+        }
+        return false;
+    }
+
+    private <T> CompletableFuture<T> timed(Function<String, T> attempt, String url) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            T result = attempt.apply(url);
+            record(System.nanoTime() - start);
+            return result;
+        }, executor);
+    }
+
+    private synchronized void record(long nanos) {
+        window[(int) (recorded % WINDOW_SIZE)] = nanos;
+        recorded++;
+        if (recorded % RECOMPUTE_EVERY == 0) {
+            long[] sorted = Arrays.copyOf(window, (int) Math.min(recorded, WINDOW_SIZE));
+            Arrays.sort(sorted);
+            long threshold = sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))];
+            delayNanos = Math.max(threshold, minDelay.toNanos());
+        }
+    }
+
+    // Every lookup earns budget-percent of a hedge
+    private synchronized void earn() {
+        budget = Math.min(MAX_BUDGET, budget + budgetPercent / 100);
+    }
+
+    private synchronized boolean spend() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    // Gives back a hedge that was spent but could not be sent
+    private synchronized void refund() {
+        budget = Math.min(MAX_BUDGET, budget + 1);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for product-service", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,29 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+import com.shop.wire.CartLine;
+import com.shop.wire.ProductSummary;
+
+// Maps the entities cart-service stores to the records it exchanges with product-service and the browser
+final class WireMapper {
+
+    private WireMapper() {
+    }
+
+    static ProductSummary toSummary(Product product) {
+        return new ProductSummary(product.getId(), product.getName(), product.getPrice(), product.getImageUrl(),
+                product.getCategory() == null ? null : product.getCategory().getName());
+    }
+
+    static CartLine toLine(CartItem item) {
+        return new CartLine(item.getId(), item.getQuantity(), item.getProduct() == null ? null : toSummary(item.getProduct()));
+    }
+
+    // Only the id, which is all a new cart_items row needs of its product
+    static Product toReference(ProductSummary product) {
+        Product reference = new Product();
+        reference.setId(product.id());
+        return reference;
+    }
+}
@@ -0,0 +1,465 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.repository.CartRepository;
+import com.shop.wire.CartLine;
+import com.shop.wire.ProductSummary;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// Keeps live carts in memory, keyed by session ID, and writes the changes to cart_items in batches
+// on a schedule, when the session ends and on shutdown. Items that have not been flushed yet are
+// exposed with negative temporary IDs, which stay valid for the lifetime of the session.
+@Service
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "true")
+public class WriteBehindCartStore implements CartStore, HttpSessionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCartStore.class);
+
+    public enum Durability {
+        // Only the scheduled flush writes; a crash loses up to one flush interval of changes
+        PERIODIC,
+        // Also flushes on the request thread once max-unflushed-changes is reached
+        BOUNDED,
+        // Flushes the session's cart on every change; nothing is lost but the request path hits the database
+        WRITE_THROUGH
+    }
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${cart.write-behind.durability:BOUNDED}")
+    private Durability durability;
+
+    @Value("${cart.write-behind.max-unflushed-changes:100}")
+    private int maxUnflushedChanges;
+
+    private final Map<String, SessionCart> carts = new ConcurrentHashMap<>();
+    private final Map<Long, SessionCart> cartsByItemId = new ConcurrentHashMap<>();
+    private final AtomicLong temporaryIds = new AtomicLong();
+    private final AtomicInteger unflushedChanges = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Shared while a cart is first loaded from cart_items and exclusive while the reaper deletes, so a cart is never
+    // loaded from rows that are being reaped
+    private final ReentrantReadWriteLock loadLock = new ReentrantReadWriteLock();
+
+    @Override
+    public List<CartLine> getItems(String sessionId) {
+        SessionCart cart = cartFor(sessionId);
+        synchronized (cart) {
+            List<CartLine> items = new ArrayList<>();
+            for (Entry entry : cart.entries.values()) {
+                items.add(toLine(entry));
+            }
+            return items;
+        }
+    }
+
+    @Override
+    public CartLine addItem(String sessionId, ProductSummary product, Integer quantity) {
+        SessionCart cart = cartFor(sessionId);
+        CartLine result;
+        synchronized (cart) {
+            Entry entry = cart.entries.get(product.id());
+            if (entry != null) {
+                entry.quantity += quantity;
+                entry.version++;
+            } else {
+                entry = new Entry(product, null, -temporaryIds.incrementAndGet(), quantity);
+                cart.entries.put(product.id(), entry);
+                cartsByItemId.put(entry.temporaryId, cart);
+            }
+            result = toLine(entry);
+        }
+        changed(cart);
+        return result;
+    }
+
+    @Override
+    public CartLine updateItem(Long itemId, Integer quantity) {
+        SessionCart cart = cartForItem(itemId);
+        CartLine result = null;
+        synchronized (cart) {
+            Entry entry = cart.find(itemId);
+            if (entry == null) {
+                throw new RuntimeException("Cart item not found");
+            }
+            if (quantity <= 0) {
+                remove(cart, entry);
+            } else {
+                entry.quantity = quantity;
+                entry.version++;
+                result = toLine(entry);
+            }
+        }
+        changed(cart);
+        return result;
+    }
+
+    @Override
+    public void removeItem(Long itemId) {
+        SessionCart cart = cartForItem(itemId);
+        synchronized (cart) {
+            Entry entry = cart.find(itemId);
+            if (entry == null) {
+                return;
+            }
+            remove(cart, entry);
+        }
+        changed(cart);
+    }
+
+    @Override
+    public void clear(String sessionId) {
+        SessionCart cart = cartFor(sessionId);
+        synchronized (cart) {
+            for (Entry entry : cart.entries.values()) {
+                entry.removed = true;
+                unindex(entry);
+            }
+            cart.entries.clear();
+            cart.deletedIds.clear();
+            cart.clearPending = true;
+        }
+        changed(cart);
+    }
+
+    @Override
+    public Integer countItems(String sessionId) {
+        SessionCart cart = cartFor(sessionId);
+        synchronized (cart) {
+            int count = 0;
+            for (Entry entry : cart.entries.values()) {
+                count += entry.quantity;
+            }
+            return count;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval-ms:2000}")
+    public void flush() {
+        flush(carts.values());
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        SessionCart cart = carts.get(event.getSession().getId());
+        if (cart != null) {
+            cart.ended = true;
+            flush(List.of(cart));
+        }
+    }
+
+    // Runs the reaper's delete for the sessions without a cart here. A cart held here belongs to a live session
+    // however long ago its rows were last written, and deleting them would leave it pointing at rows that are gone.
+    public int reapUnheld(List<String> sessionIds, Function<List<String>, Integer> reap) {
+        loadLock.writeLock().lock();
+        try {
+            List<String> unheld = sessionIds.stream().filter(sessionId -> !carts.containsKey(sessionId)).toList();
+            return unheld.isEmpty() ? 0 : reap.apply(unheld);
+        } finally {
+            loadLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private SessionCart cartFor(String sessionId) {
+        SessionCart loaded = carts.get(sessionId);
+        if (loaded != null) {
+            return loaded;
+        }
+        // The first access in this instance reads whatever an earlier flush left in cart_items. The query runs
+        // before computeIfAbsent rather than inside it, where the map's lock would pin a virtual thread to its
+        // carrier; of two first accesses racing, the cart published first is kept.
+        loadLock.readLock().lock();
+        try {
+            return load(sessionId);
+        } finally {
+            loadLock.readLock().unlock();
+        }
+    }
+
+    private SessionCart load(String sessionId) {
+        List<CartItem> items = cartRepository.findBySessionId(sessionId);
+        return carts.computeIfAbsent(sessionId, id -> {
+            SessionCart cart = new SessionCart(id);
+            for (CartItem item : items) {
+                cart.entries.put(item.getProduct().getId(),
+                        new Entry(WireMapper.toSummary(item.getProduct()), item.getId(), null, item.getQuantity()));
+                cartsByItemId.put(item.getId(), cart);
+            }
+            return cart;
+        });
+    }
+
+    private SessionCart cartForItem(Long itemId) {
+        SessionCart cart = cartsByItemId.get(itemId);
+        if (cart != null) {
+            return cart;
+        }
+        // Item of a session that has not been loaded into this instance yet
+        CartItem item = cartRepository.findById(itemId)
+                .orElseThrow(() -> new RuntimeException("Cart item not found"));
+        return cartFor(item.getSessionId());
+    }
+
+    private void remove(SessionCart cart, Entry entry) {
+        entry.removed = true;
+        cart.entries.remove(entry.product.id());
+        unindex(entry);
+        if (entry.persistedId != null) {
+            cart.deletedIds.add(entry.persistedId);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        if (entry.temporaryId != null) {
+            cartsByItemId.remove(entry.temporaryId);
+        }
+        if (entry.persistedId != null) {
+            cartsByItemId.remove(entry.persistedId);
+        }
+    }
+
+    private void changed(SessionCart cart) {
+        synchronized (cart) {
+            cart.unflushedChanges++;
+        }
+        int pending = unflushedChanges.incrementAndGet();
+        if (durability == Durability.WRITE_THROUGH) {
+            flush(List.of(cart));
+        } else if (durability == Durability.BOUNDED && pending >= maxUnflushedChanges) {
+            flush();
+        }
+    }
+
+    private void flush(Collection<SessionCart> toFlush) {
+        flushLock.lock();
+        try {
+            List<CartChanges> changes = new ArrayList<>();
+            for (SessionCart cart : toFlush) {
+                synchronized (cart) {
+                    CartChanges cartChanges = cart.takeChanges();
+                    if (cartChanges != null) {
+                        unflushedChanges.addAndGet(-cartChanges.unflushedChanges);
+                        changes.add(cartChanges);
+                    } else if (cart.ended) {
+                        evict(cart);
+                    }
+                }
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            List<CartItem> inserted;
+            try {
+                inserted = transactionTemplate.execute(status -> write(changes));
+            } catch (RuntimeException e) {
+                for (CartChanges cartChanges : changes) {
+                    synchronized (cartChanges.cart) {
+                        cartChanges.restore();
+                    }
+                    unflushedChanges.addAndGet(cartChanges.unflushedChanges);
+                }
+                log.warn("Cart flush failed, {} carts will be retried: {}", changes.size(), e.getMessage());
+                return;
+            }
+
+            int index = 0;
+            for (CartChanges cartChanges : changes) {
+                synchronized (cartChanges.cart) {
+                    for (EntrySnapshot snapshot : cartChanges.inserts) {
+                        Long id = inserted.get(index++).getId();
+                        snapshot.entry.persistedId = id;
+                        if (snapshot.entry.removed) {
+                            // Removed while the insert was in flight
+                            cartChanges.cart.deletedIds.add(id);
+                        } else {
+                            cartsByItemId.put(id, cartChanges.cart);
+                        }
+                    }
+                    cartChanges.markFlushed();
+                    if (cartChanges.cart.ended && !cartChanges.cart.hasChanges()) {
+                        evict(cartChanges.cart);
+                    }
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<CartItem> write(List<CartChanges> changes) {
+        List<Object[]> clears = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<CartItem> inserts = new ArrayList<>();
+        Timestamp touchedAt = Timestamp.valueOf(LocalDateTime.now());
+        for (CartChanges cartChanges : changes) {
+            if (cartChanges.clear) {
+                clears.add(new Object[] { cartChanges.cart.sessionId });
+            }
+            for (Long id : cartChanges.deletedIds) {
+                deletes.add(new Object[] { id });
+            }
+            for (EntrySnapshot snapshot : cartChanges.updates) {
+                updates.add(new Object[] { snapshot.quantity, touchedAt, snapshot.entry.persistedId });
+            }
+            for (EntrySnapshot snapshot : cartChanges.inserts) {
+                inserts.add(new CartItem(WireMapper.toReference(snapshot.entry.product), snapshot.quantity,
+                        cartChanges.cart.sessionId));
+            }
+        }
+        if (!clears.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM cart_items WHERE session_id = ?", clears);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM cart_items WHERE id = ?", deletes);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE cart_items SET quantity = ?, last_touched_at = ? WHERE id = ?", updates);
+        }
+        return cartRepository.saveAll(inserts);
+    }
+
+    private void evict(SessionCart cart) {
+        carts.remove(cart.sessionId, cart);
+        for (Entry entry : cart.entries.values()) {
+            unindex(entry);
+        }
+    }
+
+    private static CartLine toLine(Entry entry) {
+        return new CartLine(entry.persistedId != null ? entry.persistedId : entry.temporaryId, entry.quantity, entry.product);
+    }
+
+    private static final class SessionCart {
+        final String sessionId;
+        final Map<Long, Entry> entries = new LinkedHashMap<>(); // keyed by product ID
+        final List<Long> deletedIds = new ArrayList<>();
+        boolean clearPending;
+        boolean ended;
+        int unflushedChanges;
+
+        SessionCart(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        Entry find(Long itemId) {
+            for (Entry entry : entries.values()) {
+                if (itemId.equals(entry.persistedId) || itemId.equals(entry.temporaryId)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        boolean hasChanges() {
+            if (clearPending || !deletedIds.isEmpty()) {
+                return true;
+            }
+            for (Entry entry : entries.values()) {
+                if (entry.persistedId == null || entry.version != entry.flushedVersion) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Called under the flush lock, so an entry is never picked up by two flushes at once
+        CartChanges takeChanges() {
+            if (!hasChanges()) {
+                return null;
+            }
+            List<EntrySnapshot> inserts = new ArrayList<>();
+            List<EntrySnapshot> updates = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                if (entry.persistedId == null) {
+                    inserts.add(new EntrySnapshot(entry, entry.quantity, entry.version));
+                } else if (entry.version != entry.flushedVersion) {
+                    updates.add(new EntrySnapshot(entry, entry.quantity, entry.version));
+                }
+            }
+            CartChanges changes = new CartChanges(this, clearPending, new ArrayList<>(deletedIds),
+                    inserts, updates, unflushedChanges);
+            clearPending = false;
+            deletedIds.clear();
+            unflushedChanges = 0;
+            return changes;
+        }
+    }
+
+    private static final class Entry {
+        final ProductSummary product;
+        final Long temporaryId;
+        Long persistedId;
+        int quantity;
+        long version;
+        long flushedVersion;
+        boolean removed;
+
+        Entry(ProductSummary product, Long persistedId, Long temporaryId, int quantity) {
+            this.product = product;
+            this.persistedId = persistedId;
+            this.temporaryId = temporaryId;
+            this.quantity = quantity;
+        }
+    }
+
+    private record EntrySnapshot(Entry entry, int quantity, long version) {
+    }
+
+    private record CartChanges(SessionCart cart, boolean clear, List<Long> deletedIds,
+                               List<EntrySnapshot> inserts, List<EntrySnapshot> updates, int unflushedChanges) {
+
+        void markFlushed() {
+            for (EntrySnapshot snapshot : inserts) {
+                snapshot.entry.flushedVersion = snapshot.version;
+            }
+            for (EntrySnapshot snapshot : updates) {
+                snapshot.entry.flushedVersion = snapshot.version;
+            }
+        }
+
+        void restore() {
+            cart.clearPending |= clear;
+            cart.deletedIds.addAll(0, deletedIds);
+            cart.unflushedChanges += unflushedChanges;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.shop.wire.ProductSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Change feed events are fed into the cache as product-service would send them, and lookups it cannot answer go
+// to a stubbed product-service
+class ProductCacheTest {
+
+	private ProductServiceStub stub;
+	private ProductServiceStub.Instance productService;
+	private ProductCache cache;
+
+	@BeforeEach
+	void createCache() throws Exception {
+		stub = new ProductServiceStub();
+		productService = stub.instance("products");
+		cache = new ProductCache();
+		ReflectionTestUtils.setField(cache, "productClient", stub.client("products", Duration.ZERO, 100));
+		ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "productServiceUrl", stub.url("products"));
+		ReflectionTestUtils.setField(cache, "productServiceApiPath", ProductServiceStub.API_PATH);
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 100L);
+		ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(10));
+		ReflectionTestUtils.setField(cache, "fallbackTtl", Duration.ofHours(1));
+		ReflectionTestUtils.setField(cache, "feedIdleTimeout", Duration.ofSeconds(45));
+		// Long enough that the feed is not back before a test is done with it
+		ReflectionTestUtils.setField(cache, "reconnectDelay", Duration.ofSeconds(30));
+		ReflectionTestUtils.setField(cache, "connectTimeout", Duration.ofSeconds(2));
+		cache.createCache();
+		ReflectionTestUtils.setField(cache, "running", true);
+	}
+
+	@AfterEach
+	void stopProductService() {
+		cache.shutdown();
+		stub.close();
+	}
+
+	@Test
+	void aFetchOverlappingAnInvalidationIsNotCached() throws Exception {
+		feed("subscribed", "");
+		productService.gate = new CountDownLatch(1);
+
+		CompletableFuture<ProductSummary> lookup = CompletableFuture.supplyAsync(() -> cache.getProduct(1L));
+		productService.arrivals.poll(5, TimeUnit.SECONDS);
+		feed("product-changed", "1");
+		productService.gate.countDown();
+		assertThat(lookup.get(5, TimeUnit.SECONDS).id()).isEqualTo(1L);
+
+		// The copy fetched before the change is not served, the one fetched after it is
+		cache.getProduct(1L);
+		assertThat(productService.requests).hasSize(2);
+		cache.getProduct(1L);
+		assertThat(productService.requests).hasSize(2);
+	}
+
+	@Test
+	void aChangedProductIsNotServedAsFallback() {
+		cache.getProduct(1L);
+		cache.getProduct(2L);
+		feed("product-changed", "1");
+		productService.status = 500;
+
+		assertThatThrownBy(() -> cache.getProduct(1L)).isInstanceOf(HttpServerErrorException.class);
+		assertThat(cache.getProduct(2L).id()).isEqualTo(2L);
+	}
+
+	@Test
+	void losingTheFeedClearsTheCache() throws Exception {
+		cache.start();
+		productService.send("subscribed", "");
+		await(() -> subscribed());
+		cache.getProduct(1L);
+		assertThat(products().asMap()).containsOnlyKeys(1L);
+
+		productService.dropFeed();
+
+		// Subscribed is cleared just before the cache is
+		await(() -> !subscribed() && products().asMap().isEmpty());
+		cache.getProduct(1L);
+		assertThat(productService.requests).hasSize(2);
+	}
+
+	private void feed(String event, String data) {
+		String stream = "event: " + event + "\ndata: " + data + "\n\n";
+		ReflectionTestUtils.invokeMethod(cache, "read", new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private boolean subscribed() {
+		return (boolean) ReflectionTestUtils.getField(cache, "subscribed");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<Long, ProductSummary> products() {
+		return (Cache<Long, ProductSummary>) ReflectionTestUtils.getField(cache, "products");
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("Timed out waiting").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.shop.service;
+
+import com.shop.wire.ProductSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Single lookups made at the same time against a stubbed product-service, to check how they are collapsed into
+// GET /products?ids= calls
+class ProductClientTest {
+
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	private ProductServiceStub stub;
+	private ProductServiceStub.Instance products;
+
+	@BeforeEach
+	void startProductService() throws Exception {
+		stub = new ProductServiceStub();
+		products = stub.instance("products");
+	}
+
+	@AfterEach
+	void stopProductService() {
+		callers.shutdownNow();
+		stub.close();
+	}
+
+	@Test
+	void lookupsWithinTheBatchWindowAreFetchedInOneCall() throws Exception {
+		ProductClient client = stub.client("products", Duration.ofMillis(500), 100);
+
+		List<Future<ProductSummary>> lookups = lookUp(client, 1L, 2L, 3L, 4L, 5L);
+
+		for (int i = 0; i < lookups.size(); i++) {
+			assertThat(lookups.get(i).get(5, TimeUnit.SECONDS).id()).isEqualTo(i + 1L);
+		}
+		assertThat(products.requests).hasSize(1);
+		assertThat(products.requests.get(0)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+	}
+
+	@Test
+	void aFullBatchIsFetchedWithoutWaitingOutTheWindow() throws Exception {
+		ProductClient client = stub.client("products", Duration.ofSeconds(2), 3);
+
+		List<Future<ProductSummary>> lookups = lookUp(client, 1L, 2L, 3L);
+
+		List<Long> ids = products.arrivals.poll(1, TimeUnit.SECONDS);
+		assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L);
+		for (int i = 0; i < lookups.size(); i++) {
+			assertThat(lookups.get(i).get(5, TimeUnit.SECONDS).id()).isEqualTo(i + 1L);
+		}
+		assertThat(products.requests).hasSize(1);
+	}
+
+	@Test
+	void aFailedBatchCallFailsEveryCallerInIt() throws Exception {
+		ProductClient client = stub.client("products", Duration.ofMillis(300), 100);
+		products.status = 500;
+
+		List<Future<ProductSummary>> lookups = lookUp(client, 1L, 2L, 3L);
+
+		for (Future<ProductSummary> lookup : lookups) {
+			assertThatThrownBy(() -> lookup.get(5, TimeUnit.SECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(HttpServerErrorException.class);
+		}
+		assertThat(products.requests).hasSize(1);
+	}
+
+	// Looks up each id on a thread of its own, all released together
+	private List<Future<ProductSummary>> lookUp(ProductClient client, Long... ids) {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<ProductSummary>> lookups = new ArrayList<>();
+		for (Long id : ids) {
+			lookups.add(callers.submit(() -> {
+				start.await();
+				return client.getProduct(id);
+			}));
+		}
+		start.countDown();
+		return lookups;
+	}
+}
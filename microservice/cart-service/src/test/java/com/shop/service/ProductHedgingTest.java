@@ -0,0 +1,171 @@
+package com.shop.service;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lookups go through ProductClient to a stubbed product-service with two instances: the primary, at
+// product.service.url, and one to hedge to. Each answers with products named after itself.
+class ProductHedgingTest {
+
+	private static final Duration MIN_DELAY = Duration.ofMillis(100);
+	private static final int BULKHEAD_PERMITS = 10;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+			.maxConcurrentCalls(BULKHEAD_PERMITS)
+			.maxWaitDuration(Duration.ZERO)
+			.build());
+
+	private ProductServiceStub stub;
+	private ProductServiceStub.Instance primary;
+	private ProductServiceStub.Instance hedge;
+	private ProductHedging hedging;
+	private ProductClient client;
+
+	@BeforeEach
+	void startProductService() throws Exception {
+		stub = new ProductServiceStub();
+		primary = stub.instance("primary");
+		hedge = stub.instance("hedge");
+	}
+
+	@AfterEach
+	void stopProductService() {
+		if (hedging != null) {
+			hedging.shutdown();
+		}
+		stub.close();
+	}
+
+	@Test
+	void aSlowPrimaryIsHedgedExactlyOnce() throws Exception {
+		startHedging(10);
+		primary.delay = Duration.ofMillis(600);
+
+		assertThat(client.getProduct(1L).name()).isEqualTo("hedge");
+
+		awaitAttemptsDone();
+		assertThat(primary.requests).hasSize(1);
+		assertThat(hedge.requests).hasSize(1);
+		assertThat(hedges("won")).isEqualTo(1);
+		assertThat(count("product.client.hedging.lookups")).isEqualTo(65);
+	}
+
+	@Test
+	void aHedgeOverTheBudgetIsThrottled() throws Exception {
+		// Nothing is earned, so only the budget saved up to start with can be spent
+		startHedging(0);
+		primary.delay = Duration.ofMillis(300);
+
+		for (long id = 1; id <= 10; id++) {
+			assertThat(client.getProduct(id).name()).isEqualTo("hedge");
+		}
+		assertThat(count("product.client.hedges.throttled")).isZero();
+
+		assertThat(client.getProduct(11L).name()).isEqualTo("primary");
+		assertThat(count("product.client.hedges.throttled")).isEqualTo(1);
+		assertThat(hedge.requests).hasSize(10);
+	}
+
+	@Test
+	void theHedgePermitIsHeldUntilBothAttemptsAreDone() throws Exception {
+		startHedging(10);
+		primary.delay = Duration.ofMillis(800);
+
+		assertThat(client.getProduct(1L).name()).isEqualTo("hedge");
+
+		// The lookup's own permit is back, the hedge's is held while the primary attempt still runs
+		assertThat(availablePermits()).isEqualTo(BULKHEAD_PERMITS - 1);
+		awaitAttemptsDone();
+		assertThat(primary.requests).hasSize(1);
+	}
+
+	@Test
+	void aHedgeAnsweringFirstIsCountedWon() throws Exception {
+		startHedging(10);
+		primary.delay = Duration.ofMillis(400);
+
+		assertThat(client.getProduct(1L).name()).isEqualTo("hedge");
+
+		awaitAttemptsDone();
+		assertThat(hedges("won")).isEqualTo(1);
+		assertThat(hedges("lost")).isZero();
+	}
+
+	@Test
+	void aHedgeAnsweringAfterThePrimaryIsCountedLost() throws Exception {
+		startHedging(10);
+		primary.delay = Duration.ofMillis(200);
+		hedge.delay = Duration.ofMillis(400);
+
+		assertThat(client.getProduct(1L).name()).isEqualTo("primary");
+
+		await(() -> hedges("lost") == 1);
+		assertThat(hedges("won")).isZero();
+	}
+
+	// Hedging starts once a first window of lookup times has been seen. All of them are fast here, so lookups are
+	// hedged after min-delay from then on.
+	private void startHedging(double budgetPercent) {
+		hedging = new ProductHedging();
+		ReflectionTestUtils.setField(hedging, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(hedging, "bulkheadRegistry", bulkheadRegistry);
+		ReflectionTestUtils.setField(hedging, "productServiceUrl", stub.url("primary"));
+		ReflectionTestUtils.setField(hedging, "enabled", true);
+		ReflectionTestUtils.setField(hedging, "instances", new String[] {stub.url("hedge")});
+		ReflectionTestUtils.setField(hedging, "percentile", 0.95);
+		ReflectionTestUtils.setField(hedging, "minDelay", MIN_DELAY);
+		ReflectionTestUtils.setField(hedging, "budgetPercent", budgetPercent);
+		hedging.start();
+
+		client = stub.client("primary", Duration.ZERO, 100);
+		ReflectionTestUtils.setField(client, "bulkheadRegistry", bulkheadRegistry);
+		ReflectionTestUtils.setField(client, "productHedging", hedging);
+		client.createGuards();
+
+		for (long id = 1; id <= 64; id++) {
+			client.getProduct(id);
+		}
+		assertThat(meterRegistry.get("product.client.hedging.delay").gauge().value())
+				.isEqualTo(MIN_DELAY.toNanos() / 1e9);
+		assertThat(hedge.requests).isEmpty();
+		primary.requests.clear();
+	}
+
+	// Every permit is back once no attempt is running any more
+	private void awaitAttemptsDone() throws InterruptedException {
+		await(() -> availablePermits() == BULKHEAD_PERMITS);
+	}
+
+	private int availablePermits() {
+		return bulkheadRegistry.bulkhead("product-service").getMetrics().getAvailableConcurrentCalls();
+	}
+
+	private double hedges(String outcome) {
+		return meterRegistry.get("product.client.hedges").tag("outcome", outcome).counter().count();
+	}
+
+	private double count(String counter) {
+		return meterRegistry.get(counter).counter().count();
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("Timed out waiting").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.shop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.wire.ProductSummary;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Stands in for product-service on a free local port. Each instance is served under a path of its own and answers
+// GET <instance>/products?ids= with a product per id, named after the instance, once its delay has passed.
+// GET <instance>/products/changes streams whatever is sent to the instance's change feed until it is dropped.
+class ProductServiceStub implements AutoCloseable {
+
+	static final String API_PATH = "/products";
+
+	private static final String END_OF_FEED = "";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final Map<String, Instance> instances = new ConcurrentHashMap<>();
+	private final HttpServer server;
+
+	static class Instance {
+		final String name;
+		// The ids asked for by each request, in arrival order
+		final List<List<Long>> requests = new CopyOnWriteArrayList<>();
+		final BlockingQueue<List<Long>> arrivals = new LinkedBlockingQueue<>();
+		volatile Duration delay = Duration.ZERO;
+		volatile int status = 200;
+		// When set, requests are held until it is counted down
+		volatile CountDownLatch gate;
+		private final BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+
+		Instance(String name) {
+			this.name = name;
+		}
+
+		void send(String event, String data) {
+			changes.add("event: " + event + "\ndata: " + data + "\n\n");
+		}
+
+		// Ends the change feed stream a client is following
+		void dropFeed() {
+			changes.add(END_OF_FEED);
+		}
+	}
+
+	ProductServiceStub() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	Instance instance(String name) {
+		return instances.computeIfAbsent(name, key -> {
+			Instance instance = new Instance(key);
+			server.createContext("/" + key + API_PATH, exchange -> products(instance, exchange));
+			server.createContext("/" + key + API_PATH + "/changes", exchange -> changes(instance, exchange));
+			return instance;
+		});
+	}
+
+	String url(String name) {
+		return "http://localhost:" + server.getAddress().getPort() + "/" + name;
+	}
+
+	// A ProductClient calling this instance, without hedging
+	ProductClient client(String name, Duration batchWindow, int maxBatchSize) {
+		instance(name);
+		ProductClient client = new ProductClient();
+		ReflectionTestUtils.setField(client, "restTemplate", new RestTemplate());
+		ReflectionTestUtils.setField(client, "circuitBreakerRegistry", CircuitBreakerRegistry.ofDefaults());
+		ReflectionTestUtils.setField(client, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+		ReflectionTestUtils.setField(client, "productHedging", new ProductHedging());
+		ReflectionTestUtils.setField(client, "productServiceUrl", url(name));
+		ReflectionTestUtils.setField(client, "productServiceApiPath", API_PATH);
+		ReflectionTestUtils.setField(client, "batchWindow", batchWindow);
+		ReflectionTestUtils.setField(client, "maxBatchSize", maxBatchSize);
+		client.createGuards();
+		return client;
+	}
+
+	private void products(Instance instance, HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+			List<Long> ids = Arrays.stream(query.substring("ids=".length()).split(",")).map(Long::valueOf).toList();
+			instance.requests.add(ids);
+			instance.arrivals.add(ids);
+			CountDownLatch gate = instance.gate;
+			if (gate != null) {
+				gate.await();
+			}
+			Thread.sleep(instance.delay.toMillis());
+			if (instance.status != 200) {
+				exchange.sendResponseHeaders(instance.status, -1);
+				return;
+			}
+			byte[] body = objectMapper.writeValueAsBytes(ids.stream()
+					.map(id -> new ProductSummary(id, instance.name, 1.0, null, "Stub"))
+					.toList());
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void changes(Instance instance, HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+			exchange.sendResponseHeaders(200, 0);
+			OutputStream out = exchange.getResponseBody();
+			String change;
+			while (!(change = instance.changes.take()).equals(END_OF_FEED)) {
+				out.write(change.getBytes(StandardCharsets.UTF_8));
+				out.flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
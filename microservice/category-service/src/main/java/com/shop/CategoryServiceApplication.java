@@ -2,8 +2,10 @@ package com.shop;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CategoryServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(CategoryServiceApplication.class, args);
@@ -0,0 +1,20 @@
+package com.shop.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Loads the category list into the cache at startup
+@Component
+@ConditionalOnProperty(name = "catalog.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogCacheWarmer {
+    @Autowired
+    private CategoryService categoryService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCaches() {
+        categoryService.getAllCategories();
+    }
+}
@@ -0,0 +1,55 @@
+package com.shop.service;
+
+import com.shop.repository.CatalogStamp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+// A catalog list serialized once to JSON and gzip. The JSON has the stamp's ETag, the one the list gets when it is
+// loaded instead, and the gzip bytes the same with a -gzip suffix.
+public class EncodedCatalog {
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipETag;
+    private final long lastModified;
+
+    private EncodedCatalog(byte[] json, byte[] gzip, String etag, String gzipETag, long lastModified) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.gzipETag = gzipETag;
+        this.lastModified = lastModified;
+    }
+
+    public static EncodedCatalog encode(String name, byte[] json, CatalogStamp stamp) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+        String etag = stamp.etag(name);
+        return new EncodedCatalog(json, compressed.toByteArray(), etag,
+                etag.substring(0, etag.length() - 1) + "-gzip\"", stamp.lastModifiedMillis());
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getETag() {
+        return etag;
+    }
+
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
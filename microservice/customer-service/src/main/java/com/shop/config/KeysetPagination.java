@@ -0,0 +1,41 @@
+package com.shop.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Keyset pages for the list endpoints: ?after=<last id seen>&limit=<rows>.
+// The page is returned as a plain JSON array and the cursor for the next page in the X-Next-Cursor header.
+@Component
+public class KeysetPagination {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    @Value("${pagination.default-limit:50}")
+    private int defaultLimit;
+
+    @Value("${pagination.max-limit:200}")
+    private int maxLimit;
+
+    public Pageable firstRows(Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be at least 1");
+        }
+        return PageRequest.of(0, limit == null ? defaultLimit : Math.min(limit, maxLimit));
+    }
+
+    public <T> ResponseEntity<List<T>> respond(List<T> rows, Pageable pageable, Function<T, Long> idOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (rows.size() == pageable.getPageSize()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(idOf.apply(rows.get(rows.size() - 1))));
+        }
+        return response.body(rows);
+    }
+}
@@ -0,0 +1,136 @@
+package com.shop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.repository.StreamingQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Export endpoints: ?format=ndjson (default) or ?format=csv, one line per row.
+// Rows are read from a repository stream inside a read-only transaction on the response thread,
+// so the database cursor is consumed as the client reads and memory does not grow with the table.
+@Component
+public class StreamingExport {
+
+    // Rows kept in the persistence context at once: one fetch of the streaming queries
+    private static final int ROWS_PER_CLEAR = Integer.parseInt(StreamingQueries.FETCH_SIZE);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public StreamingExport(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> respond(String format, String name, List<String> columns,
+                                                             Supplier<Stream<T>> rows, Function<T, List<Object>> values) {
+        boolean csv;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            csv = false;
+        } else if ("csv".equalsIgnoreCase(format)) {
+            csv = true;
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or csv");
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            if (csv) {
+                writeCsvLine(writer, columns);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    int sinceClear = 0;
+                    for (T row : (Iterable<T>) stream::iterator) {
+                        List<Object> line = values.apply(row);
+                        if (csv) {
+                            writeCsvLine(writer, line);
+                        } else {
+                            writeJsonLine(writer, columns, line);
+                        }
+                        // Written rows are detached so the persistence context stays at one fetch's worth
+                        if (++sinceClear == ROWS_PER_CLEAR) {
+                            entityManager.clear();
+                            sinceClear = 0;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + (csv ? ".csv" : ".ndjson")).build().toString())
+                .body(body);
+    }
+
+    private void writeJsonLine(Writer writer, List<String> columns, List<Object> values) throws IOException {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            object.put(columns.get(i), values.get(i));
+        }
+        writer.write(objectMapper.writeValueAsString(object));
+        writer.write('\n');
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(csvField(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, with quotes doubled
+    private static String csvField(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
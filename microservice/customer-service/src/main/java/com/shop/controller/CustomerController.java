@@ -1,11 +1,18 @@
 package com.shop.controller;
 
+import com.shop.config.KeysetPagination;
+import com.shop.config.StreamingExport;
 import com.shop.model.Customer;
 import com.shop.service.CustomerService;
+import com.shop.wire.CustomerDetails;
+import com.shop.wire.CustomerSummary;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +23,27 @@ public class CustomerController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired
+    private StreamingExport export;
+
     @GetMapping
-    public List<Customer> getAllCustomers() {
-        return customerService.getAllCustomers();
+    public ResponseEntity<List<Customer>> getAllCustomers(@RequestParam(required = false) Long after,
+                                                          @RequestParam(required = false) Integer limit) {
+        Pageable pageable = pagination.firstRows(limit);
+        List<Customer> customers = customerService.getCustomersAfter(after == null ? 0L : after, pageable);
+        return pagination.respond(customers, pageable, Customer::getId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(@RequestParam(defaultValue = "ndjson") String format) {
+        return export.respond(format, "customers",
+                List.of("id", "name", "email", "phone", "address", "createdAt"),
+                customerService::streamAllCustomers,
+                customer -> Arrays.asList(customer.getId(), customer.getName(), customer.getEmail(),
+                        customer.getPhone(), customer.getAddress(), customer.getCreatedAt()));
     }
 
     @GetMapping("/{id}")
@@ -35,6 +60,17 @@ public class CustomerController {
                       .orElse(ResponseEntity.notFound().build());
     }
 
+    // Finds or creates the customer with this email in one call; the body is only used to create it.
+    // Called by order-service, which gets a summary back, as JSON or as Smile when it asks for it
+    @PutMapping("/by-email/{email}")
+    public ResponseEntity<CustomerSummary> upsertCustomerByEmail(@PathVariable String email,
+                                                                 @RequestBody CustomerDetails details) {
+        if (email.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(toSummary(customerService.upsertByEmail(email, details)));
+    }
+
     @PostMapping
     public ResponseEntity<Customer> createCustomer(@RequestBody Customer customer) {
         try {
@@ -63,4 +99,9 @@ public class CustomerController {
         customerService.deleteCustomer(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static CustomerSummary toSummary(Customer customer) {
+        return new CustomerSummary(customer.getId(), customer.getName(), customer.getEmail(), customer.getPhone(),
+                customer.getAddress());
+    }
 }
@@ -2,11 +2,15 @@ package com.shop.service;
 
 import com.shop.model.Customer;
 import com.shop.repository.CustomerRepository;
+import com.shop.wire.CustomerDetails;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class CustomerService {
@@ -18,6 +22,15 @@ public class CustomerService {
         return customerRepository.findAll();
     }
 
+    public List<Customer> getCustomersAfter(Long afterId, Pageable pageable) {
+        return customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+
+    // Must be consumed and closed inside a transaction
+    public Stream<Customer> streamAllCustomers() {
+        return customerRepository.streamAllOrderById();
+    }
+
     public Optional<Customer> getCustomerById(Long id) {
         return customerRepository.findById(id);
     }
@@ -26,6 +39,16 @@ public class CustomerService {
         return customerRepository.findByEmail(email);
     }
 
+    // The customer with this email, created from the given details if there is none yet
+    public Customer upsertByEmail(String email, CustomerDetails details) {
+        Optional<Customer> existing = customerRepository.findByEmail(email);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        return customerRepository.upsertByEmail(email, details.name(), details.phone(), details.address(),
+                LocalDateTime.now());
+    }
+
     public Customer saveCustomer(Customer customer) {
         return customerRepository.save(customer);
     }
@@ -22,6 +22,23 @@ const cartAxios = axios.create({
   }
 });
 
+// /customers and /orders return one keyset page per request; the next page starts after the id in X-Next-Cursor.
+// Collects every page into a single response for the list views.
+const PAGE_SIZE = 200;
+
+const getAllPages = async (getPage) => {
+  const rows = [];
+  let after;
+  for (;;) {
+    const response = await getPage({ after, limit: PAGE_SIZE });
+    rows.push(...response.data);
+    after = response.headers['x-next-cursor'];
+    if (!after) {
+      return { ...response, data: rows };
+    }
+  }
+};
+
 export const productService = {
   getAll: () => axios.get(`${SERVICE_ENDPOINTS.PRODUCT_SERVICE}/products`),
   getById: (id) => axios.get(`${SERVICE_ENDPOINTS.PRODUCT_SERVICE}/products/${id}`),
@@ -32,7 +49,7 @@ export const productService = {
 };
 
 export const customerService = {
-  getAll: () => axios.get(`${SERVICE_ENDPOINTS.CUSTOMER_SERVICE}/customers`),
+  getAll: () => getAllPages((params) => axios.get(`${SERVICE_ENDPOINTS.CUSTOMER_SERVICE}/customers`, { params })),
   getById: (id) => axios.get(`${SERVICE_ENDPOINTS.CUSTOMER_SERVICE}/customers/${id}`),
   create: (customer) => axios.post(`${SERVICE_ENDPOINTS.CUSTOMER_SERVICE}/customers`, customer),
   update: (id, customer) => axios.put(`${SERVICE_ENDPOINTS.CUSTOMER_SERVICE}/customers/${id}`, customer),
@@ -40,7 +57,7 @@ export const customerService = {
 };
 
 export const orderService = {
-  getAll: () => axios.get(`${SERVICE_ENDPOINTS.ORDER_SERVICE}/orders`),
+  getAll: () => getAllPages((params) => axios.get(`${SERVICE_ENDPOINTS.ORDER_SERVICE}/orders`, { params })),
   getById: (id) => axios.get(`${SERVICE_ENDPOINTS.ORDER_SERVICE}/orders/${id}`),
   create: (order) => axios.post(`${SERVICE_ENDPOINTS.ORDER_SERVICE}/orders`, order),
   updateStatus: (id, status) => axios.patch(`${SERVICE_ENDPOINTS.ORDER_SERVICE}/orders/${id}/status`, { status }),
@@ -0,0 +1,234 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Load test for the /cart API, to compare cart-service with cart-service-reactive. Start product-service and one of
+// the two on port 9091, then run with Java 21 (sessions run on virtual threads):
+//
+//   java loadtest/CartLoadTest.java [baseUrl] [sessions] [seconds] [thinkMillis] [productIds]
+//   java loadtest/CartLoadTest.java http://localhost:9091 5000 60 1000 1,2
+//
+// Each session keeps its own cart cookie and, until the time is up, adds a product, reads the cart and reads the
+// count, pausing thinkMillis between rounds. Sessions start spread over one think time (at least a tenth and at
+// most half of the run), so requests arrive at a steady rate from the start; that ramp-up is not measured.
+// While it runs, the service's actuator metrics and this host's sockets are sampled once a second; the report
+// gives the latency percentiles and the most threads, database connections (and requests waiting for one),
+// product-service connections and open client connections the service held at any sample, and the virtual thread
+// pinnings it had counted. LatencyProxy.java describes the virtual-thread ceiling benchmark built on this.
+public class CartLoadTest {
+
+    private static final Pattern SESSION_COOKIE = Pattern.compile("CART_SESSION=([^;]+)");
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\":([0-9.E+-]+)");
+
+    // Each figure is read from the first of its metrics the service has
+    private static final Map<String, List<String>> SAMPLED = new LinkedHashMap<>();
+
+    static {
+        SAMPLED.put("live threads", List.of("jvm.threads.live"));
+        SAMPLED.put("database connections in use", List.of("hikaricp.connections.active", "r2dbc.pool.acquired"));
+        SAMPLED.put("requests waiting for a database connection", List.of("hikaricp.connections.pending", "r2dbc.pool.pending"));
+        SAMPLED.put("product-service connections", List.of(
+                "httpcomponents.httpclient.pool.total.connections",
+                "reactor.netty.connection.provider.total.connections"));
+        SAMPLED.put("virtual thread pinnings", List.of("jvm.threads.virtual.pinned"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:9091";
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+        Duration think = Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : 1000);
+        long[] productIds = Arrays.stream((args.length > 4 ? args[4] : "1,2").split(","))
+                .mapToLong(Long::parseLong).toArray();
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long rampUp = Math.min(Math.max(think.toNanos(), duration.toNanos() / 10), duration.toNanos() / 2);
+        long start = System.nanoTime();
+        long measureFrom = start + rampUp;
+        long end = start + duration.toNanos();
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        Map<String, Double> peaks = new LinkedHashMap<>();
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> sample(client, baseUrl, end, peaks));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                long startAt = start + rampUp * i / sessions;
+                executor.submit(() -> runSession(client, baseUrl, productIds, think, startAt, measureFrom, end,
+                        latencies, errors));
+            }
+        }
+        sampler.join();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double measuredSeconds = (end - measureFrom) / 1e9;
+        System.out.printf("%s, %d sessions, %ds, %dms think time%n", baseUrl, sessions, duration.toSeconds(), think.toMillis());
+        System.out.printf("requests: %d (%.0f/s), errors: %d%n", all.length, all.length / measuredSeconds, errors.get());
+        if (all.length > 0) {
+            System.out.printf("latency ms: p50 %.1f, p95 %.1f, p99 %.1f, max %.1f%n", percentile(all, 0.50),
+                    percentile(all, 0.95), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        }
+        peaks.forEach((name, value) -> System.out.printf("most %s: %.0f%n", name, value));
+    }
+
+    private static void runSession(HttpClient client, String baseUrl, long[] productIds, Duration think, long startAt,
+                                   long measureFrom, long end, ConcurrentLinkedQueue<long[]> latencies, AtomicLong errors) {
+        Session session = new Session();
+        try {
+            sleepUntil(startAt);
+            while (System.nanoTime() < end) {
+                long productId = productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+                session.call(client, session.request(baseUrl + "/cart/items")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"productId\":" + productId + ",\"quantity\":1}"))
+                        .build(), measureFrom, errors);
+                session.call(client, session.request(baseUrl + "/cart").GET().build(), measureFrom, errors);
+                session.call(client, session.request(baseUrl + "/cart/count").GET().build(), measureFrom, errors);
+                Thread.sleep(think.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            latencies.add(Arrays.copyOf(session.latencies, session.count));
+        }
+    }
+
+    // One user's cart cookie and the latencies measured for it
+    private static class Session {
+        String cookie;
+        long[] latencies = new long[64];
+        int count;
+
+        HttpRequest.Builder request(String url) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30));
+            return cookie == null ? builder : builder.header("Cookie", cookie);
+        }
+
+        void call(HttpClient client, HttpRequest request, long measureFrom, AtomicLong errors) throws InterruptedException {
+            long sent = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                errors.incrementAndGet();
+                return;
+            }
+            long took = System.nanoTime() - sent;
+            if (response.statusCode() >= 400) {
+                errors.incrementAndGet();
+            } else if (sent >= measureFrom) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = took;
+            }
+            if (cookie == null) {
+                cookie = response.headers().allValues("Set-Cookie").stream()
+                        .map(SESSION_COOKIE::matcher)
+                        .filter(Matcher::find)
+                        .map(matcher -> "CART_SESSION=" + matcher.group(1))
+                        .findFirst().orElse(null);
+            }
+        }
+    }
+
+    private static void sample(HttpClient client, String baseUrl, long end, Map<String, Double> peaks) {
+        int port = URI.create(baseUrl).getPort();
+        while (System.nanoTime() < end) {
+            for (Map.Entry<String, List<String>> figure : SAMPLED.entrySet()) {
+                for (String metric : figure.getValue()) {
+                    Double value = metric(client, baseUrl, metric);
+                    if (value != null) {
+                        synchronized (peaks) {
+                            peaks.merge(figure.getKey(), value, Math::max);
+                        }
+                        break;
+                    }
+                }
+            }
+            long connections = establishedConnections(port);
+            if (connections >= 0) {
+                synchronized (peaks) {
+                    peaks.merge("client connections open", (double) connections, Math::max);
+                }
+            }
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static Double metric(HttpClient client, String baseUrl, String name) {
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name))
+                    .timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            Matcher matcher = METRIC_VALUE.matcher(response.body());
+            return matcher.find() ? Double.parseDouble(matcher.group(1)) : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // Established TCP connections accepted on port, from /proc on Linux; -1 elsewhere
+    private static long establishedConnections(int port) {
+        String local = String.format(":%04X ", port);
+        long count = 0;
+        for (String table : List.of("/proc/net/tcp", "/proc/net/tcp6")) {
+            Path path = Path.of(table);
+            if (!Files.exists(path)) {
+                return -1;
+            }
+            try {
+                for (String line : Files.readAllLines(path)) {
+                    String[] fields = line.trim().split("\\s+");
+                    // fields[1] is the local address, fields[3] the state; 01 is ESTABLISHED
+                    if (fields.length > 3 && (fields[1] + " ").endsWith(local) && fields[3].equals("01")) {
+                        count++;
+                    }
+                }
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+        return count;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))] / 1e6;
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long wait = nanoTime - System.nanoTime();
+        if (wait > 0) {
+            Thread.sleep(Duration.ofNanos(wait));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+// Forwards HTTP calls to a service after a fixed delay, to stand in for a slow dependency. Run with Java 21:
+//
+//   java loadtest/LatencyProxy.java [port] [targetBaseUrl] [delayMillis]
+//   java loadtest/LatencyProxy.java 9096 http://localhost:9095 3000
+//
+// Used to find the throughput ceiling of cart-service with and without virtual threads. With product-service behind
+// the proxy, each add to cart holds its request thread for the delay; on Tomcat's 200 pooled threads adds then top
+// out at about 200 / delay per second, while with virtual threads they are limited by CPU and the pools instead.
+// Both runs keep the Hikari pool at its default of 10, skip the product cache and batching so every add calls
+// product-service, and raise the product-service bulkhead and HTTP connection pool so they are not the limit:
+//
+//   mvn spring-boot:run -Dspring-boot.run.arguments="--product.service.url=http://localhost:9096
+//       --product.cache.enabled=false --product.client.batch-window=0 --spring.jpa.show-sql=false
+//       --resilience4j.bulkhead.instances.product-service.max-concurrent-calls=2000
+//       --resilience4j.circuitbreaker.instances.product-service.slow-call-duration-threshold=10s
+//       --http.client.max-connections=2000 --http.client.max-connections-per-route=2000
+//       [--spring.threads.virtual.enabled=true]"
+//   java loadtest/CartLoadTest.java http://localhost:9091 1000 90 0 1,2
+public class LatencyProxy {
+
+    // Copied both ways; hop-by-hop and length headers are left to the HTTP clients
+    private static final List<String> FORWARDED_HEADERS = List.of("Accept", "Content-Type");
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9096;
+        String target = args.length > 1 ? args[1] : "http://localhost:9095";
+        Duration delay = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 3000);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1000);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> forward(client, target, delay, exchange));
+        server.start();
+        System.out.printf("Forwarding :%d to %s after %dms%n", port, target, delay.toMillis());
+    }
+
+    private static void forward(HttpClient client, String target, Duration delay, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target + exchange.getRequestURI()))
+                    .method(exchange.getRequestMethod(), body.length == 0
+                            ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+            for (String header : FORWARDED_HEADERS) {
+                String value = exchange.getRequestHeaders().getFirst(header);
+                if (value != null) {
+                    request.header(header, value);
+                }
+            }
+            HttpResponse<byte[]> response;
+            try {
+                Thread.sleep(delay);
+                response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                exchange.sendResponseHeaders(502, -1);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            for (String header : FORWARDED_HEADERS) {
+                response.headers().firstValue(header).ifPresent(value -> exchange.getResponseHeaders().set(header, value));
+            }
+            exchange.sendResponseHeaders(response.statusCode(), response.body().length == 0 ? -1 : response.body().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body());
+            }
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package com.shop.controller;
 
-import com.shop.model.Customer;
+import com.shop.config.IdempotencyKeys;
+import com.shop.config.KeysetPagination;
+import com.shop.config.StreamingExport;
 import com.shop.model.Order;
+import com.shop.model.OrderIntake;
+import com.shop.model.OrderItem;
+import com.shop.model.Product;
 import com.shop.repository.OrderRepository;
+import com.shop.service.OrderIntakeService;
+import com.shop.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,14 +33,56 @@ public class OrderController {
     private OrderRepository orderRepository;
     
     @Autowired
-    private RestTemplate restTemplate;
-    
-    @Value("${customer.service.url}")
-    private String customerServiceUrl;
+    private OrderService orderService;
+
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired
+    private StreamingExport export;
+
+    @Autowired
+    private IdempotencyKeys idempotencyKeys;
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Value("${order.intake.async.enabled:false}")
+    private boolean asyncIntake;
+
+    @Value("${order.intake.backlogged-retry-after:10s}")
+    private Duration backloggedRetryAfter;
+
 
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    public ResponseEntity<List<Order>> getAllOrders(@RequestParam(required = false) Long after,
+                                                    @RequestParam(required = false) Integer limit) {
+        Pageable pageable = pagination.firstRows(limit);
+        List<Order> orders = orderService.getOrdersAfter(after == null ? 0L : after, pageable);
+        return pagination.respond(orders, pageable, Order::getId);
+    }
+
+    // One line per order item, repeating the order's columns; an order without items gets a single line
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "ndjson") String format) {
+        return export.respond(format, "orders",
+                List.of("orderId", "orderDate", "status", "total", "customerId", "customerName", "customerEmail",
+                        "customerPhone", "shippingAddress", "itemId", "productId", "productName", "quantity", "price"),
+                orderService::streamOrderLines,
+                line -> {
+                    Order order = (Order) line[0];
+                    OrderItem item = (OrderItem) line[1];
+                    Product product = item == null ? null : item.getProduct();
+                    return Arrays.asList(order.getId(), order.getOrderDate(), order.getStatus(), order.getTotal(),
+                            order.getCustomer() == null ? null : order.getCustomer().getId(),
+                            order.getCustomerName(), order.getCustomerEmail(), order.getCustomerPhone(),
+                            order.getShippingAddress(),
+                            item == null ? null : item.getId(),
+                            product == null ? null : product.getId(),
+                            product == null ? null : product.getName(),
+                            item == null ? null : item.getQuantity(),
+                            item == null ? null : item.getPrice());
+                });
     }
 
     @GetMapping("/{id}")
@@ -40,82 +90,41 @@ public class OrderController {
         return orderRepository.findById(id);
     }
 
+    // A retry carrying the same Idempotency-Key gets the response of the first request.
+    // With asynchronous intake the order is only validated and queued here, and placed by OrderIntakeWorkers.
     @PostMapping
-    public Order createOrder(@RequestBody Order order) {
-        try {
-            // Check if customer exists by email using RestTemplate
-            Customer existingCustomer = null;
-            try {
-                ResponseEntity<Customer> response = restTemplate.getForEntity(
-                    customerServiceUrl + "/customers/email/" + order.getCustomerEmail(),
-                    Customer.class
-                );
-                if (response.getStatusCode().is2xxSuccessful()) {
-                    existingCustomer = response.getBody();
-                }
-            } catch (RestClientException e) {
-                // Customer not found, will create new one
-                existingCustomer = null;
-            }
-            
-            Customer customer;
-            if (existingCustomer != null) {
-                // Customer exists, use existing customer
-                customer = existingCustomer;
-            } else {
-                // Customer doesn't exist, create new customer via API
-                customer = new Customer();
-                customer.setName(order.getCustomerName());
-                customer.setEmail(order.getCustomerEmail());
-                customer.setPhone(order.getCustomerPhone());
-                customer.setAddress(order.getShippingAddress());
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                HttpEntity<Customer> request = new HttpEntity<>(customer, headers);
-                
-                ResponseEntity<Customer> createResponse = restTemplate.postForEntity(
-                    customerServiceUrl + "/customers",
-                    request,
-                    Customer.class
-                );
-                
-                if (createResponse.getStatusCode().is2xxSuccessful()) {
-                    customer = createResponse.getBody();
-                } else {
-                    throw new RuntimeException("Failed to create customer");
-                }
-            }
-            
-            // Associate the customer with the order
-            order.setCustomer(customer);
-            
-            // Set order date if not already set
-            if (order.getOrderDate() == null) {
-                order.setOrderDate(LocalDateTime.now());
-            }
-            
-            // Calculate total if not set or if items are present
-            if (order.getTotal() == null || order.getTotal() == 0.0) {
-                order.calculateTotal();
-            }
-            
-            // Set default status if not provided
-            if (order.getStatus() == null || order.getStatus().isEmpty()) {
-                order.setStatus("PENDING");
-            }
-            
-            return orderRepository.save(order);
-            
-        } catch (RestClientException e) {
-            throw new RuntimeException("Failed to communicate with customer service: " + e.getMessage());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create order: " + e.getMessage());
+    public ResponseEntity<?> createOrder(@RequestBody Order order,
+                                         @RequestHeader(value = IdempotencyKeys.HEADER, required = false) String idempotencyKey) {
+        if (asyncIntake) {
+            return idempotencyKeys.execute("orders", idempotencyKey, order, () -> queueOrder(order));
+        }
+        return idempotencyKeys.execute("orders", idempotencyKey, order, () -> ResponseEntity.ok(orderService.placeOrder(order)));
+    }
+
+    // 202 with the URL to poll for the outcome, or 503 while too many orders are waiting
+    private ResponseEntity<OrderIntake> queueOrder(Order order) {
+        if (orderIntakeService.isBacklogged()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(backloggedRetryAfter.toSeconds()))
+                    .build();
+        }
+        OrderIntake intake = orderIntakeService.enqueue(order);
+        return ResponseEntity.accepted().location(URI.create("/orders/intake/" + intake.getId())).body(intake);
+    }
+
+    // Status of a queued order; once DONE, Location points at the order that was placed
+    @GetMapping("/intake/{id}")
+    public ResponseEntity<OrderIntake> getIntake(@PathVariable Long id) {
+        OrderIntake intake = orderIntakeService.getIntake(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Order intake not found"));
+        if (intake.getOrderId() == null) {
+            return ResponseEntity.ok(intake);
         }
+        return ResponseEntity.ok().location(URI.create("/orders/" + intake.getOrderId())).body(intake);
     }
 
     @DeleteMapping("/{id}")
     public void deleteOrder(@PathVariable Long id) {
-        orderRepository.deleteById(id);
+        orderService.deleteOrder(id);
     }
 }
@@ -0,0 +1,61 @@
+package com.shop.repository;
+
+import com.shop.model.OrderIntake;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderIntakeRepository extends JpaRepository<OrderIntake, Long> {
+
+    // Marks the oldest available row as claimed and returns it, skipping rows other workers are claiming.
+    // A row claimed before staleBefore belongs to a worker that died or hung, and is claimed again if it has
+    // attempts left; one that has used maxAttempts is failed instead, so an order that keeps killing or hanging
+    // its worker is not retried forever.
+    @Transactional
+    @Query(value = "WITH expired AS (UPDATE order_intake SET status = 'FAILED', " +
+            "error = 'Lease ran out on the last attempt' " +
+            "WHERE id IN (SELECT id FROM order_intake WHERE status = 'PROCESSING' AND claimed_at < :staleBefore " +
+            "AND attempts >= :maxAttempts FOR UPDATE SKIP LOCKED)) " +
+            "UPDATE order_intake SET status = 'PROCESSING', attempts = attempts + 1, claimed_at = :now " +
+            "WHERE id = (SELECT id FROM order_intake " +
+            "WHERE status IN ('QUEUED', 'PROCESSING') AND available_at <= :now " +
+            "AND (status = 'QUEUED' OR (claimed_at < :staleBefore AND attempts < :maxAttempts)) " +
+            "ORDER BY available_at, id LIMIT 1 FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *", nativeQuery = true)
+    List<OrderIntake> claimNext(@Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore,
+                                @Param("maxAttempts") int maxAttempts);
+
+    // Rows waiting or being processed, counted up to limit
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM order_intake " +
+            "WHERE status IN ('QUEUED', 'PROCESSING') LIMIT :limit) pending", nativeQuery = true)
+    int countPending(@Param("limit") int limit);
+
+    // Each update only applies while the row is still held by the claim that made this attempt
+    @Modifying
+    @Query(value = "UPDATE order_intake SET status = 'DONE', order_id = :orderId, error = NULL " +
+            "WHERE id = :id AND status = 'PROCESSING' AND attempts = :attempts", nativeQuery = true)
+    int markDone(@Param("id") Long id, @Param("attempts") int attempts, @Param("orderId") Long orderId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE order_intake SET status = 'QUEUED', available_at = :availableAt, error = :error " +
+            "WHERE id = :id AND status = 'PROCESSING' AND attempts = :attempts", nativeQuery = true)
+    int requeue(@Param("id") Long id, @Param("attempts") int attempts,
+                @Param("availableAt") LocalDateTime availableAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE order_intake SET status = 'FAILED', error = :error " +
+            "WHERE id = :id AND status = 'PROCESSING' AND attempts = :attempts", nativeQuery = true)
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM order_intake WHERE status IN ('DONE', 'FAILED') AND created_at < :cutoff", nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
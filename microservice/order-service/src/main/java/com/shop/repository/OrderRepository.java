@@ -1,7 +1,46 @@
 package com.shop.repository;
 
 import com.shop.model.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"customer", "items", "items.product", "items.product.category"})
+    List<Order> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"customer", "items", "items.product", "items.product.category"})
+    Optional<Order> findById(Long id);
+
+    // A collection fetch cannot be limited in SQL, so a page is selected by id first and then fetched in one query
+    @Query("SELECT o.id FROM Order o WHERE o.id > :id ORDER BY o.id")
+    List<Long> findIdsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"customer", "items", "items.product", "items.product.category"})
+    List<Order> findByIdInOrderByIdAsc(List<Long> ids);
+
+    // One row per order line (or a single row with a null line for an order without items), ordered by order.
+    // Joining the lines instead of fetching the collection keeps every row independent of the ones before it.
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT o, i FROM Order o LEFT JOIN FETCH o.customer LEFT JOIN o.items i " +
+            "LEFT JOIN FETCH i.product p LEFT JOIN FETCH p.category ORDER BY o.id, i.id")
+    Stream<Object[]> streamOrderLines();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Order o WHERE o.id = :id")
+    int deleteOrderById(@Param("id") Long id);
 }
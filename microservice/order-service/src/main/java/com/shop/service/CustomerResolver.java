@@ -0,0 +1,151 @@
+package com.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import com.shop.wire.CustomerDetails;
+import com.shop.wire.CustomerSummary;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+// Maps an order's email to its customer. Repeat customers are answered from a bounded local cache; anyone else
+// costs one upsert call to customer-service, which finds or creates the customer atomically. Only the summary
+// customer-service sends back is kept; each order gets its own Customer built from it, holding just what the
+// order row needs.
+// Calls pass the customer-service bulkhead and circuit breaker (resilience4j.*), so a slow customer-service fails
+// them at once instead of holding every order thread. When customer-service is cut off, unreachable or answers 5xx,
+// the customer last resolved for the email within fallback-ttl is used instead; an email not seen in that time cannot
+// be placed until customer-service is back. A 4xx answer is about the order itself and is passed on.
+@Component
+public class CustomerResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerResolver.class);
+
+    private static final String CUSTOMER_SERVICE = "customer-service";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Value("${customer.service.url}")
+    private String customerServiceUrl;
+
+    @Value("${customer.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${customer.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${customer.cache.fallback-ttl:24h}")
+    private Duration fallbackTtl;
+
+    private Cache<String, CustomerSummary> customers;
+    private Cache<String, CustomerSummary> lastResolved;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+
+    @PostConstruct
+    void createCache() {
+        customers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        lastResolved = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(fallbackTtl)
+                .build();
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(CUSTOMER_SERVICE);
+        bulkhead = bulkheadRegistry.bulkhead(CUSTOMER_SERVICE);
+    }
+
+    public Customer resolve(Order order) {
+        String email = order.getCustomerEmail();
+        if (email == null || email.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "customerEmail is required");
+        }
+        CustomerSummary customer = customers.getIfPresent(email);
+        if (customer != null) {
+            return toCustomer(customer);
+        }
+
+        CustomerDetails details = new CustomerDetails(order.getCustomerName(), order.getCustomerPhone(),
+                order.getShippingAddress());
+
+        try {
+            customer = Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, () -> upsert(email, details))).get();
+        } catch (CallNotPermittedException | BulkheadFullException | ResourceAccessException | HttpServerErrorException e) {
+            CustomerSummary fallback = lastResolved.getIfPresent(email);
+            if (fallback != null) {
+                log.debug("Using the customer last resolved for {}: {}", email, e.getMessage());
+                return toCustomer(fallback);
+            }
+            if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Customer service is unavailable: " + e.getMessage());
+            }
+            throw e;
+        }
+        customers.put(email, customer);
+        lastResolved.put(email, customer);
+        return toCustomer(customer);
+    }
+
+    private CustomerSummary upsert(String email, CustomerDetails details) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<CustomerSummary> response = restTemplate.exchange(
+                customerServiceUrl + "/customers/by-email/{email}",
+                HttpMethod.PUT,
+                new HttpEntity<>(details, headers),
+                CustomerSummary.class,
+                email
+        );
+        CustomerSummary customer = response.getBody();
+        if (customer == null || customer.id() == null) {
+            throw new RuntimeException("Failed to resolve customer");
+        }
+        return customer;
+    }
+
+    // Not loaded from the database, so createdAt is left out rather than guessed
+    private static Customer toCustomer(CustomerSummary summary) {
+        Customer customer = new Customer(summary.name(), summary.email(), summary.phone(), summary.address());
+        customer.setId(summary.id());
+        customer.setCreatedAt(null);
+        return customer;
+    }
+
+    // Drops the cached customer, for when it turned out to be gone or changed in customer-service
+    public void invalidate(String email) {
+        customers.invalidate(email);
+        lastResolved.invalidate(email);
+    }
+}
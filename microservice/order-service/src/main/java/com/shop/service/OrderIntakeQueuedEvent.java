@@ -0,0 +1,5 @@
+package com.shop.service;
+
+// Published after an order has been queued, so an idle worker picks it up without waiting for its next poll
+public class OrderIntakeQueuedEvent {
+}
@@ -0,0 +1,136 @@
+package com.shop.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import com.shop.model.OrderIntake;
+import com.shop.model.OrderItem;
+import com.shop.repository.OrderIntakeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// The table-backed queue behind asynchronous order intake: POST /orders stores the order here and answers at once,
+// and the workers place it later, retrying failed attempts with a growing delay
+@Service
+public class OrderIntakeService {
+
+    @Autowired
+    private OrderIntakeRepository orderIntakeRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${order.intake.max-queued:10000}")
+    private int maxQueued;
+
+    @Value("${order.intake.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${order.intake.retry-backoff:5s}")
+    private Duration retryBackoff;
+
+    @Value("${order.intake.lease:5m}")
+    private Duration lease;
+
+    @Value("${order.intake.retention:7d}")
+    private Duration retention;
+
+    // True when max-queued orders are already waiting, and new ones should be turned away
+    public boolean isBacklogged() {
+        return orderIntakeRepository.countPending(maxQueued) >= maxQueued;
+    }
+
+    public OrderIntake enqueue(Order order) {
+        validate(order);
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Order cannot be queued: " + e.getOriginalMessage());
+        }
+        OrderIntake intake = orderIntakeRepository.save(new OrderIntake(payload, LocalDateTime.now()));
+        eventPublisher.publishEvent(new OrderIntakeQueuedEvent());
+        return intake;
+    }
+
+    // Only what can be checked without calling other services; the rest is up to the worker
+    private void validate(Order order) {
+        if (order.getCustomerEmail() == null || order.getCustomerEmail().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "customerEmail is required");
+        }
+        List<OrderItem> items = order.getItems();
+        if (items == null) {
+            return;
+        }
+        for (OrderItem item : items) {
+            if (item.getProduct() == null || item.getProduct().getId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every item needs a product id");
+            }
+            if (item.getQuantity() == null || item.getQuantity() < 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every item needs a quantity of at least 1");
+            }
+        }
+    }
+
+    public Optional<OrderIntake> getIntake(Long id) {
+        return orderIntakeRepository.findById(id);
+    }
+
+    // The next order to place, or null when none is waiting
+    public OrderIntake claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderIntake> claimed = orderIntakeRepository.claimNext(now, now.minus(lease), maxAttempts);
+        return claimed.isEmpty() ? null : claimed.get(0);
+    }
+
+    public Order readOrder(OrderIntake intake) {
+        try {
+            return objectMapper.readValue(intake.getPayload(), Order.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Queued order cannot be read: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    // Inserts the order and marks the intake done in one transaction, unless another worker has claimed it since
+    @Transactional
+    public Order complete(OrderIntake intake, Order order, Customer customer) {
+        Order saved = orderService.saveNewOrder(order, customer);
+        if (orderIntakeRepository.markDone(intake.getId(), intake.getAttempts(), saved.getId()) == 0) {
+            throw new IllegalStateException("Order intake " + intake.getId() + " was claimed by another worker");
+        }
+        return saved;
+    }
+
+    // Queues the order again after retry-backoff times the attempts so far, or fails it for good
+    public void fail(OrderIntake intake, Exception cause, boolean retryable) {
+        String error = cause.getMessage() == null ? cause.getClass().getName() : cause.getMessage();
+        int attempts = intake.getAttempts();
+        if (retryable && attempts < maxAttempts) {
+            LocalDateTime availableAt = LocalDateTime.now().plus(retryBackoff.multipliedBy(attempts));
+            orderIntakeRepository.requeue(intake.getId(), attempts, availableAt, error);
+        } else {
+            orderIntakeRepository.markFailed(intake.getId(), attempts, error);
+        }
+    }
+
+    public int purgeFinished() {
+        return orderIntakeRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+    }
+}
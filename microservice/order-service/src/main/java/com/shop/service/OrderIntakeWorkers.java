@@ -0,0 +1,168 @@
+package com.shop.service;
+
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import com.shop.model.OrderIntake;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Places queued orders, concurrency at a time. Each worker claims one order, resolves its customer through
+// customer-service without holding a transaction, then inserts it. A worker with nothing to do sleeps until an
+// order is queued on this instance or poll-interval passes, which picks up orders queued elsewhere and retries.
+@Component
+@ConditionalOnProperty(name = "order.intake.async.enabled", havingValue = "true")
+public class OrderIntakeWorkers {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIntakeWorkers.class);
+
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private CustomerResolver customerResolver;
+
+    @Value("${order.intake.concurrency:4}")
+    private int concurrency;
+
+    @Value("${order.intake.poll-interval:1s}")
+    private Duration pollInterval;
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private ExecutorService executor;
+    private final Object wakeUp = new Object();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executor = Executors.newFixedThreadPool(concurrency + 1, runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < concurrency; i++) {
+            executor.submit(this::work);
+        }
+        executor.submit(this::purge);
+    }
+
+    @EventListener
+    public void onOrderQueued(OrderIntakeQueuedEvent event) {
+        synchronized (wakeUp) {
+            wakeUp.notify();
+        }
+    }
+
+    private void work() {
+        while (running) {
+            OrderIntake intake;
+            try {
+                intake = orderIntakeService.claimNext();
+            } catch (RuntimeException e) {
+                log.warn("Claiming a queued order failed", e);
+                intake = null;
+            }
+            if (intake == null) {
+                idle(pollInterval);
+                continue;
+            }
+            try {
+                place(intake);
+            } catch (RuntimeException e) {
+                // Recording the outcome failed; the claim runs out after order.intake.lease and the order is retried
+                log.warn("Recording the outcome of queued order {} failed", intake.getId(), e);
+            }
+        }
+    }
+
+    private void place(OrderIntake intake) {
+        Order order;
+        try {
+            order = orderIntakeService.readOrder(intake);
+        } catch (RuntimeException e) {
+            orderIntakeService.fail(intake, e, false);
+            return;
+        }
+        Customer customer;
+        try {
+            customer = customerResolver.resolve(order);
+        } catch (RuntimeException e) {
+            log.warn("Resolving the customer of queued order {} failed on attempt {}", intake.getId(), intake.getAttempts(), e);
+            orderIntakeService.fail(intake, e, true);
+            return;
+        }
+        try {
+            orderIntakeService.complete(intake, order, customer);
+        } catch (RuntimeException e) {
+            // The cached customer may be why, if it has been deleted since; the retry asks customer-service
+            customerResolver.invalidate(order.getCustomerEmail());
+            log.warn("Placing queued order {} failed on attempt {}", intake.getId(), intake.getAttempts(), e);
+            orderIntakeService.fail(intake, e, true);
+        }
+    }
+
+    private void purge() {
+        while (running) {
+            try {
+                int purged = orderIntakeService.purgeFinished();
+                if (purged > 0) {
+                    log.info("Purged {} finished order intakes", purged);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Purging finished order intakes failed", e);
+            }
+            try {
+                if (stopped.await(PURGE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void idle(Duration timeout) {
+        synchronized (wakeUp) {
+            try {
+                wakeUp.wait(timeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        stopped.countDown();
+        synchronized (wakeUp) {
+            wakeUp.notifyAll();
+        }
+        if (executor == null) {
+            return;
+        }
+        // Workers finish the order in hand; one cut off after that is claimed again once its lease runs out
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,22 +1,49 @@
 package com.shop.service;
 
+import com.shop.model.Customer;
 import com.shop.model.Order;
+import com.shop.repository.OrderItemRepository;
 import com.shop.repository.OrderRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CustomerResolver customerResolver;
+
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
 
+    public List<Order> getOrdersAfter(Long afterId, Pageable pageable) {
+        List<Long> ids = orderRepository.findIdsByIdGreaterThan(afterId, pageable);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findByIdInOrderByIdAsc(ids);
+    }
+
+    // Pairs of order and order item (null for an order without items); must be consumed and closed inside a transaction
+    public Stream<Object[]> streamOrderLines() {
+        return orderRepository.streamOrderLines();
+    }
+
     public Optional<Order> getOrderById(Long id) {
         return orderRepository.findById(id);
     }
@@ -25,7 +52,53 @@ public class OrderService {
         return orderRepository.save(order);
     }
 
+    // Resolves the customer through customer-service and saves the order
+    public Order placeOrder(Order order) {
+        try {
+            Customer customer = customerResolver.resolve(order);
+            try {
+                return saveNewOrder(order, customer);
+            } catch (RuntimeException e) {
+                // The cached customer may be why, if it has been deleted since; the next attempt asks customer-service
+                customerResolver.invalidate(order.getCustomerEmail());
+                throw e;
+            }
+        } catch (ResponseStatusException e) {
+            throw e;
+        } catch (RestClientException e) {
+            throw new RuntimeException("Failed to communicate with customer service: " + e.getMessage());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create order: " + e.getMessage());
+        }
+    }
+
+    // Fills in what the client may leave out and inserts the order with its items
+    public Order saveNewOrder(Order order, Customer customer) {
+        // Associate the customer with the order
+        order.setCustomer(customer);
+
+        // Set order date if not already set
+        if (order.getOrderDate() == null) {
+            order.setOrderDate(LocalDateTime.now());
+        }
+
+        // Calculate total if not set or if items are present
+        if (order.getTotal() == null || order.getTotal() == 0.0) {
+            order.calculateTotal();
+        }
+
+        // Set default status if not provided
+        if (order.getStatus() == null || order.getStatus().isEmpty()) {
+            order.setStatus("PENDING");
+        }
+
+        return orderRepository.save(order);
+    }
+
+    // One statement per table instead of loading the order and cascading over its items
+    @Transactional
     public void deleteOrder(Long id) {
-        orderRepository.deleteById(id);
+        orderItemRepository.deleteByOrderId(id);
+        orderRepository.deleteOrderById(id);
     }
 }
@@ -0,0 +1,75 @@
+package com.shop.controller;
+
+import com.shop.repository.OrderIntakeRepository;
+import com.shop.service.OrderIntakeService;
+import com.shop.service.OrderIntakeWorkers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The workers are mocked out, so queued orders stay queued
+@SpringBootTest(properties = {
+		"order.intake.async.enabled=true",
+		"order.intake.backlogged-retry-after=10s"
+})
+@AutoConfigureMockMvc
+class OrderIntakeBackpressureTest {
+
+	private static final String ORDER = "{\"customerEmail\":\"intake-backpressure@example.com\",\"items\":[]}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OrderIntakeService orderIntakeService;
+
+	@Autowired
+	private OrderIntakeRepository orderIntakeRepository;
+
+	@MockBean
+	private OrderIntakeWorkers orderIntakeWorkers;
+
+	private final List<Long> ids = new ArrayList<>();
+
+	@AfterEach
+	void cleanUp() {
+		orderIntakeRepository.deleteAllById(ids);
+		ReflectionTestUtils.setField(orderIntakeService, "maxQueued", 10000);
+	}
+
+	@Test
+	void ordersAreQueuedUntilMaxQueuedAreWaitingThenTurnedAwayWithRetryAfter() throws Exception {
+		// Room for exactly one more, whatever else is waiting in the table
+		ReflectionTestUtils.setField(orderIntakeService, "maxQueued", orderIntakeRepository.countPending(10000) + 1);
+
+		MvcResult accepted = mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON).content(ORDER))
+				.andExpect(status().isAccepted())
+				.andReturn();
+		String location = accepted.getResponse().getHeader(HttpHeaders.LOCATION);
+		assertThat(location).startsWith("/orders/intake/");
+		ids.add(Long.valueOf(location.substring("/orders/intake/".length())));
+
+		int pending = orderIntakeRepository.countPending(10000);
+		mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON).content(ORDER))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"));
+		// Turned away without being queued
+		assertThat(orderIntakeRepository.countPending(10000)).isEqualTo(pending);
+	}
+}
@@ -0,0 +1,189 @@
+package com.shop.repository;
+
+import com.shop.model.OrderIntake;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+// Rows are made available in the year 2000 and claimed with a clock set just after, so only they can be claimed
+@SpringBootTest
+class OrderIntakeRepositoryTest {
+
+	private static final LocalDateTime QUEUED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+	private static final LocalDateTime NOW = QUEUED_AT.plusHours(1);
+
+	private static final Duration LEASE = Duration.ofMinutes(5);
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Autowired
+	private OrderIntakeRepository orderIntakeRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<Long> ids = new ArrayList<>();
+
+	@AfterEach
+	void cleanUp() {
+		orderIntakeRepository.deleteAllById(ids);
+	}
+
+	@Test
+	void concurrentWorkersClaimEachRowOnce() throws Exception {
+		queue(20);
+		Set<Long> claimed = ConcurrentHashMap.newKeySet();
+		List<Long> duplicates = new ArrayList<>();
+		ExecutorService workers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> done = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				done.add(workers.submit(() -> {
+					OrderIntake intake;
+					while ((intake = claim(NOW)) != null) {
+						if (!claimed.add(intake.getId())) {
+							synchronized (duplicates) {
+								duplicates.add(intake.getId());
+							}
+						}
+					}
+				}));
+			}
+			for (Future<?> future : done) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			workers.shutdownNow();
+		}
+
+		assertThat(duplicates).isEmpty();
+		assertThat(claimed).containsExactlyInAnyOrderElementsOf(ids);
+		for (OrderIntake intake : orderIntakeRepository.findAllById(ids)) {
+			assertThat(intake.getStatus()).isEqualTo(OrderIntake.PROCESSING);
+			assertThat(intake.getAttempts()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void claimSkipsARowLockedByAnotherTransactionWithoutWaiting() throws Exception {
+		queue(2);
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService holder = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> lock = holder.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.queryForList("SELECT id FROM order_intake WHERE id = ? FOR UPDATE", ids.get(0));
+				locked.countDown();
+				try {
+					release.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+			OrderIntake intake = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> claim(NOW));
+			assertThat(intake.getId()).isEqualTo(ids.get(1));
+			assertThat(assertTimeoutPreemptively(Duration.ofSeconds(5), () -> claim(NOW))).isNull();
+
+			release.countDown();
+			lock.get(10, TimeUnit.SECONDS);
+		} finally {
+			release.countDown();
+			holder.shutdownNow();
+		}
+		assertThat(claim(NOW).getId()).isEqualTo(ids.get(0));
+	}
+
+	@Test
+	void anExpiredLeaseIsTakenOverAndFencesOffTheFirstClaim() {
+		queue(1);
+		OrderIntake first = claim(NOW);
+		assertThat(claim(NOW.plus(LEASE).minusSeconds(1))).isNull();
+
+		OrderIntake takeover = claim(NOW.plus(LEASE).plusSeconds(1));
+		assertThat(takeover.getId()).isEqualTo(first.getId());
+		assertThat(takeover.getAttempts()).isEqualTo(2);
+
+		// The first worker comes back and finds the row no longer its own
+		assertThat(markDone(first, 42L)).isZero();
+		assertThat(orderIntakeRepository.requeue(first.getId(), first.getAttempts(), NOW, "late")).isZero();
+		assertThat(orderIntakeRepository.markFailed(first.getId(), first.getAttempts(), "late")).isZero();
+		assertThat(orderIntakeRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(OrderIntake.PROCESSING);
+
+		assertThat(markDone(takeover, 42L)).isEqualTo(1);
+		OrderIntake done = orderIntakeRepository.findById(first.getId()).orElseThrow();
+		assertThat(done.getStatus()).isEqualTo(OrderIntake.DONE);
+		assertThat(done.getOrderId()).isEqualTo(42L);
+	}
+
+	@Test
+	void requeueOnlyAppliesToTheCurrentClaim() {
+		queue(1);
+		OrderIntake intake = claim(NOW);
+
+		assertThat(orderIntakeRepository.requeue(intake.getId(), intake.getAttempts() + 1, NOW, "wrong attempt")).isZero();
+		assertThat(orderIntakeRepository.requeue(intake.getId(), intake.getAttempts(), NOW.plusMinutes(10), "retry")).isEqualTo(1);
+
+		OrderIntake requeued = orderIntakeRepository.findById(intake.getId()).orElseThrow();
+		assertThat(requeued.getStatus()).isEqualTo(OrderIntake.QUEUED);
+		assertThat(requeued.getError()).isEqualTo("retry");
+		// Not available again until the backoff has passed
+		assertThat(claim(NOW.plusMinutes(10).minusSeconds(1))).isNull();
+		assertThat(claim(NOW.plusMinutes(10)).getAttempts()).isEqualTo(2);
+	}
+
+	@Test
+	void anExpiredLeaseOnTheLastAttemptIsFailedInsteadOfClaimed() {
+		queue(1);
+		LocalDateTime now = NOW;
+		for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			OrderIntake intake = claim(now);
+			assertThat(intake.getAttempts()).isEqualTo(attempt);
+			now = now.plus(LEASE).plusSeconds(1);
+		}
+
+		assertThat(claim(now)).isNull();
+		OrderIntake failed = orderIntakeRepository.findById(ids.get(0)).orElseThrow();
+		assertThat(failed.getStatus()).isEqualTo(OrderIntake.FAILED);
+		assertThat(failed.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+		assertThat(failed.getError()).isNotBlank();
+	}
+
+	private void queue(int count) {
+		for (int i = 0; i < count; i++) {
+			ids.add(orderIntakeRepository.save(new OrderIntake("{}", QUEUED_AT.plusSeconds(i))).getId());
+		}
+	}
+
+	private OrderIntake claim(LocalDateTime now) {
+		List<OrderIntake> claimed = orderIntakeRepository.claimNext(now, now.minus(LEASE), MAX_ATTEMPTS);
+		return claimed.isEmpty() ? null : claimed.get(0);
+	}
+
+	private int markDone(OrderIntake intake, Long orderId) {
+		return transactionTemplate.execute(status -> orderIntakeRepository.markDone(intake.getId(), intake.getAttempts(), orderId));
+	}
+}
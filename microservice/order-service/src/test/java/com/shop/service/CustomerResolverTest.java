@@ -0,0 +1,89 @@
+package com.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseActions;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+// The mock server replaces the shared RestTemplate's request factory, so the context is not reused afterwards
+@SpringBootTest
+@DirtiesContext
+class CustomerResolverTest {
+
+	private static final String EMAIL = "resolver@example.com";
+
+	@Autowired
+	private CustomerResolver customerResolver;
+
+	@Autowired
+	private RestTemplate restTemplate;
+
+	private MockRestServiceServer customerService;
+
+	@BeforeEach
+	void resolveOnce() {
+		customerService = MockRestServiceServer.bindTo(restTemplate).build();
+		expectUpsert().andRespond(withSuccess(
+				"{\"id\": 7, \"name\": \"Resolver\", \"email\": \"" + EMAIL + "\"}", MediaType.APPLICATION_JSON));
+		assertThat(customerResolver.resolve(order()).getId()).isEqualTo(7L);
+		customerService.verify();
+		customerService.reset();
+		forgetCachedCustomer();
+	}
+
+	@Test
+	void aServerErrorFallsBackToTheLastResolvedCustomer() {
+		expectUpsert().andRespond(withServerError());
+
+		Customer customer = customerResolver.resolve(order());
+
+		assertThat(customer.getId()).isEqualTo(7L);
+		customerService.verify();
+	}
+
+	@Test
+	void aClientErrorIsPassedOnEvenWithACustomerToFallBackTo() {
+		expectUpsert().andRespond(withBadRequest());
+
+		assertThatThrownBy(() -> customerResolver.resolve(order())).isInstanceOf(HttpClientErrorException.BadRequest.class);
+		customerService.verify();
+	}
+
+	private ResponseActions expectUpsert() {
+		return customerService.expect(requestTo(startsWith("http://localhost:9093/customers/by-email/")))
+				.andExpect(method(HttpMethod.PUT));
+	}
+
+	// Leaves only the fallback copy, as if ttl had passed
+	@SuppressWarnings("unchecked")
+	private void forgetCachedCustomer() {
+		((Cache<String, ?>) ReflectionTestUtils.getField(customerResolver, "customers")).invalidate(EMAIL);
+	}
+
+	private static Order order() {
+		Order order = new Order();
+		order.setCustomerName("Resolver");
+		order.setCustomerEmail(EMAIL);
+		return order;
+	}
+}
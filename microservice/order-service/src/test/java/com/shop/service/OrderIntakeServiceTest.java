@@ -0,0 +1,80 @@
+package com.shop.service;
+
+import com.shop.model.OrderIntake;
+import com.shop.repository.OrderIntakeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The row is made available in the year 2000 and claimed with a clock set then, so only it can be claimed
+@SpringBootTest(properties = {
+		"order.intake.max-attempts=2",
+		"order.intake.retry-backoff=1m",
+		"order.intake.lease=5m"
+})
+class OrderIntakeServiceTest {
+
+	private static final LocalDateTime QUEUED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+	@Autowired
+	private OrderIntakeService orderIntakeService;
+
+	@Autowired
+	private OrderIntakeRepository orderIntakeRepository;
+
+	private Long id;
+
+	@BeforeEach
+	void queue() {
+		id = orderIntakeRepository.save(new OrderIntake("{}", QUEUED_AT)).getId();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		orderIntakeRepository.deleteById(id);
+	}
+
+	@Test
+	void failedAttemptsAreRetriedAfterTheBackoffTimesTheAttemptsUpToMaxAttempts() {
+		OrderIntake first = claim(QUEUED_AT);
+		LocalDateTime before = LocalDateTime.now();
+		orderIntakeService.fail(first, new RuntimeException("customer-service is down"), true);
+		LocalDateTime after = LocalDateTime.now();
+
+		OrderIntake requeued = orderIntakeRepository.findById(id).orElseThrow();
+		assertThat(requeued.getStatus()).isEqualTo(OrderIntake.QUEUED);
+		assertThat(requeued.getError()).isEqualTo("customer-service is down");
+		assertThat(requeued.getAvailableAt()).isBetween(before.plusMinutes(1), after.plusMinutes(1));
+
+		assertThat(claim(requeued.getAvailableAt().minusSeconds(1))).isNull();
+		OrderIntake second = claim(requeued.getAvailableAt());
+		assertThat(second.getAttempts()).isEqualTo(2);
+		orderIntakeService.fail(second, new RuntimeException("still down"), true);
+
+		OrderIntake failed = orderIntakeRepository.findById(id).orElseThrow();
+		assertThat(failed.getStatus()).isEqualTo(OrderIntake.FAILED);
+		assertThat(failed.getError()).isEqualTo("still down");
+	}
+
+	@Test
+	void aFailureThatCannotBeRetriedFailsAtOnce() {
+		OrderIntake intake = claim(QUEUED_AT);
+		orderIntakeService.fail(intake, new IllegalArgumentException("unreadable"), false);
+
+		OrderIntake failed = orderIntakeRepository.findById(id).orElseThrow();
+		assertThat(failed.getStatus()).isEqualTo(OrderIntake.FAILED);
+		assertThat(failed.getAttempts()).isEqualTo(1);
+	}
+
+	private OrderIntake claim(LocalDateTime now) {
+		List<OrderIntake> claimed = orderIntakeRepository.claimNext(now, now.minusMinutes(5), 2);
+		return claimed.isEmpty() ? null : claimed.get(0);
+	}
+}
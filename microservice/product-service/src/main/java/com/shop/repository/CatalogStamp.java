@@ -0,0 +1,27 @@
+package com.shop.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Row count and latest modification time of a catalog resource; changes whenever its JSON would change
+public interface CatalogStamp {
+    Long getCount();
+
+    LocalDateTime getLastModified();
+
+    // The catalog version as an ETag, the same whether the resource is served from the snapshot or loaded
+    default String etag(String resource) {
+        long version = 0;
+        if (getLastModified() != null) {
+            Instant lastModified = getLastModified().atZone(ZoneId.systemDefault()).toInstant();
+            version = lastModified.getEpochSecond() * 1_000_000 + lastModified.getNano() / 1_000;
+        }
+        return "\"" + resource + "-" + getCount() + "-" + Long.toString(version, 36) + "\"";
+    }
+
+    // -1 when the resource has no rows
+    default long lastModifiedMillis() {
+        return getLastModified() == null ? -1 : getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,13 @@
+package com.shop.repository;
+
+import com.shop.model.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+// Categories belong to category-service; this service only looks them up by name when importing products
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    List<Category> findByNameIn(Collection<String> names);
+}
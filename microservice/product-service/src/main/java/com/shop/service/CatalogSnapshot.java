@@ -0,0 +1,115 @@
+package com.shop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.repository.CatalogStamp;
+import com.shop.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// Keeps the full product list as pre-encoded JSON and gzip bytes, served without loading or serializing entities.
+// A write drops the snapshot at once, so readers fall back to the services until a background rebuild
+// has finished; a rebuild that raced with a write is discarded and done again.
+@Service
+@ConditionalOnProperty(name = "catalog.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshot.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private TransactionTemplate repeatableRead;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private long generation;
+    private volatile EncodedCatalog products;
+
+    @PostConstruct
+    void createRepeatableReadTemplate() {
+        repeatableRead = new TransactionTemplate(transactionManager);
+        repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        repeatableRead.setReadOnly(true);
+    }
+
+    // Null until the first build and while a rebuild after a write is pending
+    public EncodedCatalog getProducts() {
+        return products;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (this) {
+            generation++;
+            products = null;
+        }
+        requestRebuild();
+    }
+
+    // Runs at startup and then periodically, which also picks up rows changed by other services
+    @Scheduled(fixedDelayString = "${catalog.snapshot.refresh-interval-ms:60000}")
+    public void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            executor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        rebuildPending.set(false);
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        try {
+            EncodedCatalog encodedProducts = encode("products", productRepository::findAll, productRepository::findStamp);
+            synchronized (this) {
+                if (generation == startGeneration) {
+                    products = encodedProducts;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not rebuild the catalog snapshot", e);
+        }
+    }
+
+    // Rows and stamp are read in one repeatable-read transaction, so the ETag is that of exactly the rows encoded;
+    // they are serialized after it, like the entities the services return
+    private EncodedCatalog encode(String name, Supplier<List<?>> rows, Supplier<CatalogStamp> stamp) throws IOException {
+        Read read = repeatableRead.execute(status -> new Read(rows.get(), stamp.get()));
+        return EncodedCatalog.encode(name, objectMapper.writeValueAsBytes(read.rows()), read.stamp());
+    }
+
+    private record Read(List<?> rows, CatalogStamp stamp) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.shop.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// Pushes product changes to services that cache products, as server-sent events on GET /products/changes:
+// "subscribed" once the feed is live, "product-changed" with the id after a product is saved or deleted and
+// "catalog-changed" after an import. Events are sent after the write commits, one subscriber at a time on
+// a single thread, so a slow subscriber delays the others but never the write.
+@Component
+public class ProductChangeFeed {
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter subscribe() {
+        // Held open until the subscriber goes away, which the next heartbeat notices
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        // Changes before this point were missed, so the subscriber starts from an empty cache
+        executor.execute(() -> send(emitter, SseEmitter.event().name("subscribed").data("")));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Long productId = event.getProductId();
+        broadcast(() -> productId == null
+                ? SseEmitter.event().name("catalog-changed").data("")
+                : SseEmitter.event().name("product-changed").data(productId));
+    }
+
+    // Lets subscribers tell a quiet feed from a dead connection, and drops subscribers that went away
+    @Scheduled(fixedDelayString = "${product.change-feed.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        broadcast(() -> SseEmitter.event().comment("heartbeat"));
+    }
+
+    // An event builder can only be sent once, so each subscriber gets its own
+    private void broadcast(Supplier<SseEventBuilder> event) {
+        executor.execute(() -> subscribers.forEach(emitter -> send(emitter, event.get())));
+    }
+
+    private void send(SseEmitter emitter, SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+    }
+}
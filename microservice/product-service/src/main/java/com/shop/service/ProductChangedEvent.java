@@ -0,0 +1,15 @@
+package com.shop.service;
+
+// Published after a product is saved or deleted; productId is null when any product may have changed
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+    public ProductChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+}
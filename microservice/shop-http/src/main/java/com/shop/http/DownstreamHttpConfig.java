@@ -0,0 +1,127 @@
+package com.shop.http;
+
+import com.shop.wire.WireMediaTypes;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// One client for all calls to other services. Connections are pooled and kept alive, so a call only pays for
+// connection setup when the pool to that service has none idle, and every call is bounded by timeouts.
+// Built through RestTemplateBuilder, so each call is timed in http.client.requests, tagged by the service called.
+// Shared by the services that call others; each imports it into its application context.
+@Configuration
+public class DownstreamHttpConfig {
+
+    @Value("${http.client.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${http.client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${http.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${http.client.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${http.client.pool-timeout:2s}")
+    private Duration poolTimeout;
+
+    @Value("${http.client.keep-alive:15s}")
+    private Duration keepAlive;
+
+    @Value("${http.client.http2:false}")
+    private boolean http2;
+
+    @Value("${http.client.smile:false}")
+    private boolean smile;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory downstreamRequestFactory) {
+        builder = builder.requestFactory(() -> downstreamRequestFactory);
+        return smile ? builder.additionalInterceptors(preferSmile()).build() : builder.build();
+    }
+
+    // Asks for Smile ahead of JSON wherever the response type can be read from Smile, so services that have
+    // the Smile converter answer in it and any that do not still answer in JSON
+    private static ClientHttpRequestInterceptor preferSmile() {
+        return (request, body, execution) -> {
+            String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+            if (accept != null && accept.contains(WireMediaTypes.SMILE)) {
+                request.getHeaders().set(HttpHeaders.ACCEPT, WireMediaTypes.SMILE + ", application/json;q=0.9");
+            }
+            return execution.execute(request, body);
+        };
+    }
+
+    @Bean
+    public ClientHttpRequestFactory downstreamRequestFactory(MeterRegistry meterRegistry) {
+        if (http2) {
+            // Calls block the calling thread either way; this only moves the client's own work off platform threads
+            return new JdkHttp2RequestFactory(connectTimeout, readTimeout, virtualThreads
+                    ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("downstream-http-", 0).factory())
+                    : null);
+        }
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+        // Leased, idle and waiting connections of the pool, as httpcomponents.httpclient.pool.* gauges
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "downstream").bindTo(meterRegistry);
+        return new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                // Idle connections are closed before the server's own keep-alive timeout (20s on Tomcat) closes them
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build());
+    }
+
+    // All services run on one host here, so the client.name tag names the service by host and port
+    @Bean
+    public ClientRequestObservationConvention downstreamObservationConvention() {
+        return new DefaultClientRequestObservationConvention() {
+            @Override
+            protected KeyValue clientName(ClientRequestObservationContext context) {
+                URI uri = context.getCarrier() == null ? null : context.getCarrier().getURI();
+                if (uri == null || uri.getHost() == null) {
+                    return super.clientName(context);
+                }
+                return KeyValue.of("client.name", uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort());
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.shop.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// An order accepted by the asynchronous intake, waiting to be placed by a worker
+@Entity
+@Table(name = "order_intake")
+public class OrderIntake {
+
+	public static final String QUEUED = "QUEUED";
+	public static final String PROCESSING = "PROCESSING";
+	public static final String DONE = "DONE";
+	public static final String FAILED = "FAILED";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_intake_seq")
+	@SequenceGenerator(name = "order_intake_seq", sequenceName = "order_intake_seq", allocationSize = 50)
+	private Long id;
+
+	// The order as posted, in JSON
+	@JsonIgnore
+	@Column(columnDefinition = "text", nullable = false)
+	private String payload;
+
+	@Column(length = 20, nullable = false)
+	private String status;
+
+	@Column(nullable = false)
+	private Integer attempts;
+
+	// Not claimed before this time; pushed back after a failed attempt
+	@Column(name = "available_at", nullable = false)
+	private LocalDateTime availableAt;
+
+	@Column(name = "claimed_at")
+	private LocalDateTime claimedAt;
+
+	// The placed order, once DONE
+	@Column(name = "order_id")
+	private Long orderId;
+
+	@Column(columnDefinition = "text")
+	private String error;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	public OrderIntake() {}
+
+	public OrderIntake(String payload, LocalDateTime now) {
+		this.payload = payload;
+		this.status = QUEUED;
+		this.attempts = 0;
+		this.availableAt = now;
+		this.createdAt = now;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public void setPayload(String payload) {
+		this.payload = payload;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Integer getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(Integer attempts) {
+		this.attempts = attempts;
+	}
+
+	public LocalDateTime getAvailableAt() {
+		return availableAt;
+	}
+
+	public void setAvailableAt(LocalDateTime availableAt) {
+		this.availableAt = availableAt;
+	}
+
+	public LocalDateTime getClaimedAt() {
+		return claimedAt;
+	}
+
+	public void setClaimedAt(LocalDateTime claimedAt) {
+		this.claimedAt = claimedAt;
+	}
+
+	public Long getOrderId() {
+		return orderId;
+	}
+
+	public void setOrderId(Long orderId) {
+		this.orderId = orderId;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+}
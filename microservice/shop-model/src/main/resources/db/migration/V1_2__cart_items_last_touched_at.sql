@@ -0,0 +1,5 @@
+-- When a cart row was last written, so the reaper can delete carts of expired sessions. Databases that ran under
+-- ddl-auto=update after the column was mapped already have the column and possibly the index.
+ALTER TABLE cart_items ADD COLUMN IF NOT EXISTS last_touched_at timestamp(6);
+
+CREATE INDEX IF NOT EXISTS idx_cart_items_last_touched_at ON cart_items (last_touched_at);
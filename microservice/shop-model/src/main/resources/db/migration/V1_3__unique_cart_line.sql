@@ -0,0 +1,19 @@
+-- One row per product in a cart, which also makes (session_id, product_id) the conflict target of the cart upsert.
+-- Duplicates left by concurrent find-then-save adds are merged into the oldest row, which takes their summed quantity
+-- and latest touch, then they go.
+UPDATE cart_items c
+SET quantity = d.quantity, last_touched_at = d.last_touched_at
+FROM (SELECT MIN(id) AS keep_id, SUM(quantity) AS quantity, MAX(last_touched_at) AS last_touched_at
+      FROM cart_items
+      WHERE session_id IS NOT NULL AND product_id IS NOT NULL
+      GROUP BY session_id, product_id
+      HAVING COUNT(*) > 1) d
+WHERE c.id = d.keep_id;
+
+DELETE FROM cart_items c
+USING cart_items k
+WHERE c.session_id = k.session_id AND c.product_id = k.product_id AND c.id > k.id;
+
+-- Databases that ran under ddl-auto=update have the same constraint under the name Hibernate generated
+ALTER TABLE cart_items DROP CONSTRAINT IF EXISTS ukmt68gysv0q2quwgfsbxia80my;
+ALTER TABLE cart_items ADD CONSTRAINT uk_cart_items_session_product UNIQUE (session_id, product_id);
@@ -0,0 +1,67 @@
+-- The shop schema as spring.jpa.hibernate.ddl-auto=update left it before Flyway took over. Columns, constraints and
+-- indexes mapped since then come in the migrations after it.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate) and start at V1.1;
+-- an empty database is built from here.
+
+CREATE TABLE category (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    description varchar(255),
+    image_url varchar(255),
+    name varchar(255),
+    CONSTRAINT category_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE product (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    description varchar(255),
+    image_url varchar(255),
+    name varchar(255),
+    price float(53),
+    category_id bigint,
+    CONSTRAINT product_pkey PRIMARY KEY (id),
+    CONSTRAINT fk1mtsbur82frn64de7balymq9s FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+CREATE TABLE customers (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    address varchar(255),
+    created_at timestamp(6),
+    email varchar(255),
+    name varchar(255),
+    phone varchar(255),
+    CONSTRAINT customers_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE cart_items (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    quantity integer,
+    session_id varchar(255),
+    product_id bigint,
+    CONSTRAINT cart_items_pkey PRIMARY KEY (id),
+    CONSTRAINT fkl7je3auqyq1raj52qmwrgih8x FOREIGN KEY (product_id) REFERENCES product (id)
+);
+
+CREATE TABLE orders (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    customer_email varchar(255),
+    customer_name varchar(255),
+    customer_phone varchar(255),
+    order_date timestamp(6),
+    shipping_address varchar(255),
+    status varchar(255),
+    total float(53),
+    customer_id bigint,
+    CONSTRAINT orders_pkey PRIMARY KEY (id),
+    CONSTRAINT fkpxtb8awmi0dk6smoh2vp1litg FOREIGN KEY (customer_id) REFERENCES customers (id)
+);
+
+CREATE TABLE order_item (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    price float(53),
+    quantity integer,
+    order_id bigint,
+    product_id bigint,
+    CONSTRAINT order_item_pkey PRIMARY KEY (id),
+    CONSTRAINT fkt4dc2r9nbvbujrljv3e23iibt FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk551losx9j75ss5d6bfsqvijna FOREIGN KEY (product_id) REFERENCES product (id)
+);
@@ -0,0 +1,23 @@
+-- Indexes for the lookups on the request paths, each of which otherwise scans its whole table.
+
+-- Carts are read, counted and reaped by session. With last_touched_at as second column the reaper's
+-- findAbandonedSessionIds and the re-check in deleteAbandonedCarts are answered from the index, and with
+-- quantity included so is countItemsBySessionId. Single items go through the (session_id, product_id) constraint.
+CREATE INDEX idx_cart_items_session_id ON cart_items (session_id, last_touched_at) INCLUDE (quantity);
+
+-- Replaces idx_product_category_id_id, which databases that ran under ddl-auto=update may have. Products without a
+-- category are never looked up by category, and with last_modified included the catalog stamp of a category
+-- (findStampByCategoryId) is answered from the index.
+DROP INDEX IF EXISTS idx_product_category_id_id;
+CREATE INDEX idx_product_category_id ON product (category_id, id) INCLUDE (last_modified) WHERE category_id IS NOT NULL;
+
+-- findByEmail and existsByEmail; customers without an email are never looked up by it
+CREATE INDEX idx_customers_email ON customers (email) WHERE email IS NOT NULL;
+
+-- Lines of an order, in the order the export reads them; also used when an order is deleted
+CREATE INDEX idx_order_item_order_id ON order_item (order_id, id);
+
+-- Foreign keys checked when a product or customer is deleted
+CREATE INDEX idx_order_item_product_id ON order_item (product_id);
+CREATE INDEX idx_cart_items_product_id ON cart_items (product_id);
+CREATE INDEX idx_orders_customer_id ON orders (customer_id) WHERE customer_id IS NOT NULL;
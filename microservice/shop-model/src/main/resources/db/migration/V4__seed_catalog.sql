@@ -0,0 +1,587 @@
+-- Sample catalog, formerly data.sql at the repository root: 22 categories with their products.
+-- Only seeds a database without categories, so a catalog that already has data is left as it is.
+-- Ids come from the sequences, so products are matched to the categories just inserted by name.
+WITH seeded AS (
+    INSERT INTO category (name, description, image_url, last_modified)
+    SELECT v.name, v.description, v.image_url, LOCALTIMESTAMP
+    FROM (VALUES
+        ('Electronics', 'Electronic devices and gadgets', 'https://images.unsplash.com/photo-1498049794561-7780e7231661?w=500'),
+        ('Clothing', 'Fashion and apparel for all ages', 'https://images.unsplash.com/photo-1441986300917-64674bd600d8?w=500'),
+        ('Books', 'Books, magazines, and educational materials', 'https://images.unsplash.com/photo-1481627834876-b7833e8f5570?w=500'),
+        ('Home & Garden', 'Home improvement and garden supplies', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+        ('Sports', 'Sports equipment and fitness gear', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+        ('Beauty', 'Cosmetics and personal care products', 'https://images.unsplash.com/photo-1596462502278-27bfdc403348?w=500'),
+        ('Automotive', 'Car accessories and automotive parts', 'https://images.unsplash.com/photo-1494905998402-395d579af36f?w=500'),
+        ('Food & Beverages', 'Gourmet food and specialty drinks', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+        ('Toys & Games', 'Fun toys and entertainment for all ages', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+        ('Music & Instruments', 'Musical instruments and audio equipment', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+        ('Office Supplies', 'Professional office and business equipment', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+        ('Pet Supplies', 'Everything for your beloved pets', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+        ('Health & Wellness', 'Health supplements and wellness products', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
+        ('Jewelry & Accessories', 'Fashion jewelry and stylish accessories', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+        ('Travel & Luggage', 'Travel gear and luggage for your journeys', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+        ('Baby & Kids', 'Products for babies and young children', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+        ('Kitchen & Dining', 'Cookware and dining accessories', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+        ('Art & Crafts', 'Creative supplies and artistic materials', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+        ('Outdoor & Camping', 'Outdoor adventure and camping gear', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+        ('Photography', 'Cameras and photography equipment', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+        ('Gaming', 'Video games and gaming accessories', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+        ('Furniture', 'Home and office furniture', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500')
+    ) AS v(name, description, image_url)
+    WHERE NOT EXISTS (SELECT 1 FROM category)
+    RETURNING id, name
+)
+INSERT INTO product (name, price, category_id, description, image_url, last_modified)
+SELECT v.name, v.price, seeded.id, v.description, v.image_url, LOCALTIMESTAMP
+FROM (VALUES
+    -- Electronics
+    ('iPhone 15 Pro', 999.99, 'Electronics', 'Latest Apple smartphone with advanced camera system', 'https://images.unsplash.com/photo-1510557880182-3d4d3cba35a5?w=500'),
+    ('MacBook Air M2', 1199.99, 'Electronics', 'Lightweight laptop with Apple M2 chip', 'https://images.unsplash.com/photo-1496181133206-80ce9b88a853?w=500'),
+    ('Samsung 4K TV', 799.99, 'Electronics', '55-inch 4K Smart TV with HDR support', 'https://images.unsplash.com/photo-1461151304267-38535e780c79?w=500'),
+    ('Sony Headphones', 299.99, 'Electronics', 'Wireless noise-canceling headphones', 'https://images.unsplash.com/photo-1484704849700-f032a568e944?w=500'),
+    ('iPad Pro', 1099.99, 'Electronics', '12.9-inch tablet with M2 chip', 'https://images.unsplash.com/photo-1544244015-0df4b3ffc6b0?w=500'),
+    ('Gaming Laptop', 1599.99, 'Electronics', 'High-performance gaming laptop with RTX graphics', 'https://images.unsplash.com/photo-1525547719571-a2d4ac8945e2?w=500'),
+    ('Wireless Mouse', 59.99, 'Electronics', 'Ergonomic wireless mouse with precision tracking', 'https://images.unsplash.com/photo-1563206767-5b18f218e8de?w=500'),
+    ('Mechanical Keyboard', 149.99, 'Electronics', 'RGB backlit mechanical gaming keyboard', 'https://images.unsplash.com/photo-1541140532154-b024d705b90a?w=500'),
+    ('Smart Watch', 399.99, 'Electronics', 'Fitness tracking smartwatch with GPS', 'https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=500'),
+    ('Bluetooth Speaker', 129.99, 'Electronics', 'Portable waterproof Bluetooth speaker', 'https://images.unsplash.com/photo-1545454675-3531b543be5d?w=500'),
+    ('Webcam 4K', 199.99, 'Electronics', '4K webcam for streaming and video calls', 'https://images.unsplash.com/photo-1606107557195-0e29a4b5b4aa?w=500'),
+    ('External Hard Drive', 89.99, 'Electronics', '2TB portable external hard drive', 'https://images.unsplash.com/photo-1597872200969-2b65d56bd16b?w=500'),
+    ('Wireless Charger', 39.99, 'Electronics', 'Fast wireless charging pad for smartphones', 'https://images.unsplash.com/photo-1609081219090-a6d81d3085bf?w=500'),
+    ('USB-C Hub', 79.99, 'Electronics', 'Multi-port USB-C hub with HDMI and USB ports', 'https://images.unsplash.com/photo-1625842268584-8f3296236761?w=500'),
+    ('Monitor 27 inch', 349.99, 'Electronics', '27-inch 4K monitor with HDR support', 'https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=500'),
+    ('Power Bank', 49.99, 'Electronics', '20000mAh portable power bank with fast charging', 'https://images.unsplash.com/photo-1609592806955-d3e1e4321f0e?w=500'),
+    ('Smart Home Hub', 129.99, 'Electronics', 'Voice-controlled smart home automation hub', 'https://images.unsplash.com/photo-1573804633927-0274faa90b6f?w=500'),
+    ('Security Camera', 199.99, 'Electronics', 'Wireless security camera with night vision', 'https://images.unsplash.com/photo-1576618148400-f54bed99fcfd?w=500'),
+    ('Gaming Controller', 69.99, 'Electronics', 'Wireless gaming controller with haptic feedback', 'https://images.unsplash.com/photo-1570303345338-e1f0eddf4946?w=500'),
+    ('Router WiFi 6', 159.99, 'Electronics', 'High-speed WiFi 6 router for home networking', 'https://images.unsplash.com/photo-1606904825846-647eb07f5be2?w=500'),
+    ('Smart Doorbell', 189.99, 'Electronics', 'Video doorbell with motion detection', 'https://images.unsplash.com/photo-1558618047-3c8c76ca7d13?w=500'),
+    ('Tablet Stand', 29.99, 'Electronics', 'Adjustable tablet stand for desk use', 'https://images.unsplash.com/photo-1555653519-470aa43b4fb7?w=500'),
+    ('Cable Management', 19.99, 'Electronics', 'Cable organizer set for desk setup', 'https://images.unsplash.com/photo-1564054074885-99c8ac119bb5?w=500'),
+    ('Phone Case', 24.99, 'Electronics', 'Protective phone case with wireless charging support', 'https://images.unsplash.com/photo-1605080455745-0f3b7543ed5b?w=500'),
+    ('Screen Protector', 14.99, 'Electronics', 'Tempered glass screen protector for smartphones', 'https://images.unsplash.com/photo-1600004020717-2fb9fd3fe9d6?w=500'),
+    -- Clothing
+    ('Denim Jacket', 79.99, 'Clothing', 'Classic blue denim jacket for casual wear', 'https://images.unsplash.com/photo-1495105787522-5334e3ffa0ef?w=500'),
+    ('Running Shoes', 129.99, 'Clothing', 'Comfortable athletic shoes for running', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=500'),
+    ('Cotton T-Shirt', 24.99, 'Clothing', 'Soft cotton t-shirt in various colors', 'https://images.unsplash.com/photo-1503341338985-50e2bcc39ad0?w=500'),
+    ('Wool Sweater', 89.99, 'Clothing', 'Warm wool sweater for winter', 'https://images.unsplash.com/photo-1564557287817-3785e38ec1f3?w=500'),
+    ('Summer Dress', 59.99, 'Clothing', 'Light and breezy summer dress', 'https://images.unsplash.com/photo-1485462537746-965f33f7f6a7?w=500'),
+    ('Business Suit', 299.99, 'Clothing', 'Professional tailored business suit', 'https://images.unsplash.com/photo-1594938298603-c8148c4dae35?w=500'),
+    ('Casual Jeans', 69.99, 'Clothing', 'Comfortable straight-leg denim jeans', 'https://images.unsplash.com/photo-1475178626620-a4d074967452?w=500'),
+    ('Winter Coat', 199.99, 'Clothing', 'Warm waterproof winter coat', 'https://images.unsplash.com/photo-1551698618-1dfe5d97d256?w=500'),
+    ('Sneakers', 89.99, 'Clothing', 'Trendy casual sneakers for everyday wear', 'https://images.unsplash.com/photo-1608667508764-6b11b81ac183?w=500'),
+    ('Formal Shirt', 49.99, 'Clothing', 'Crisp white formal dress shirt', 'https://images.unsplash.com/photo-1596755094514-f87e34085b2c?w=500'),
+    ('Leather Boots', 149.99, 'Clothing', 'Genuine leather ankle boots', 'https://images.unsplash.com/photo-1582897085656-c636d006a246?w=500'),
+    ('Polo Shirt', 39.99, 'Clothing', 'Classic polo shirt in multiple colors', 'https://images.unsplash.com/photo-1618354691373-d851c5c3a990?w=500'),
+    ('Chino Pants', 59.99, 'Clothing', 'Slim-fit chino pants for casual wear', 'https://images.unsplash.com/photo-1506629905607-24473054e56e?w=500'),
+    ('Hoodie', 54.99, 'Clothing', 'Comfortable pullover hoodie with front pocket', 'https://images.unsplash.com/photo-1556821840-3a9c6fcc1ff9?w=500'),
+    ('Blouse', 44.99, 'Clothing', 'Elegant silk blouse for office wear', 'https://images.unsplash.com/photo-1594633312681-425c7b97ccd1?w=500'),
+    ('Skirt', 34.99, 'Clothing', 'Pleated midi skirt in various patterns', 'https://images.unsplash.com/photo-1566479179817-c62bf78b2fa8?w=500'),
+    ('Cardigan', 64.99, 'Clothing', 'Soft knit cardigan for layering', 'https://images.unsplash.com/photo-1564859228273-274232fdb516?w=500'),
+    ('Tank Top', 19.99, 'Clothing', 'Basic tank top in cotton blend', 'https://images.unsplash.com/photo-1622470953794-aa9c70b0fb9d?w=500'),
+    ('Blazer', 119.99, 'Clothing', 'Tailored blazer for professional look', 'https://images.unsplash.com/photo-1553028826-f4804151e596?w=500'),
+    ('Shorts', 29.99, 'Clothing', 'Casual summer shorts in various colors', 'https://images.unsplash.com/photo-1562459789-1cc1f04fffe4?w=500'),
+    ('Leggings', 24.99, 'Clothing', 'High-waisted athletic leggings', 'https://images.unsplash.com/photo-1604135307399-86cbc8345c8d?w=500'),
+    ('Scarf', 19.99, 'Clothing', 'Lightweight scarf for all seasons', 'https://images.unsplash.com/photo-1609015933442-3e06899b2b96?w=500'),
+    ('Belt', 34.99, 'Clothing', 'Genuine leather belt with metal buckle', 'https://images.unsplash.com/photo-1624222247344-550fb60583dc?w=500'),
+    ('Socks Pack', 14.99, 'Clothing', '6-pack of cotton crew socks', 'https://images.unsplash.com/photo-1586350158695-51219d4d6c4c?w=500'),
+    ('Underwear Set', 29.99, 'Clothing', 'Comfortable cotton underwear set', 'https://images.unsplash.com/photo-1571513722275-4b8fc2909b8a?w=500'),
+    -- Books
+    ('The Great Gatsby', 14.99, 'Books', 'Classic American novel by F. Scott Fitzgerald', 'https://images.unsplash.com/photo-1543002588-bfa74002ed7e?w=500'),
+    ('Programming Mastery', 49.99, 'Books', 'Learn modern web development techniques', 'https://images.unsplash.com/photo-1517077304055-6e89abbf09b0?w=500'),
+    ('Cookbook Collection', 34.99, 'Books', 'Collection of international recipes', 'https://images.unsplash.com/photo-1476718406336-bb5a9690ee2a?w=500'),
+    ('World History Atlas', 39.99, 'Books', 'Comprehensive world history atlas', 'https://images.unsplash.com/photo-1471440671718-b60e6dc62c53?w=500'),
+    ('Science Quarterly', 12.99, 'Books', 'Monthly science and technology magazine', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=500'),
+    ('Fiction Bestseller', 19.99, 'Books', 'Award-winning contemporary fiction novel', 'https://images.unsplash.com/photo-1516979187457-637abb4f9353?w=500'),
+    ('Art & Design Book', 59.99, 'Books', 'Coffee table book featuring modern art', 'https://images.unsplash.com/photo-1550399105-c4db5fb85c18?w=500'),
+    ('Biography Collection', 29.99, 'Books', 'Inspiring life stories of famous personalities', 'https://images.unsplash.com/photo-1506880018603-83d5b814b5a6?w=500'),
+    ('Mystery Novel', 16.99, 'Books', 'Thrilling mystery novel with unexpected twists', 'https://images.unsplash.com/photo-1544716278-ca5e3f4abd8c?w=500'),
+    ('Self-Help Guide', 24.99, 'Books', 'Personal development and motivation book', 'https://images.unsplash.com/photo-1551029506-0807df4e2031?w=500'),
+    ('Travel Guide Europe', 27.99, 'Books', 'Comprehensive travel guide to European cities', 'https://images.unsplash.com/photo-1526285759904-71d1170ed2ac?w=500'),
+    ('Business Strategy', 44.99, 'Books', 'Modern business strategy and management', 'https://images.unsplash.com/photo-1454165804606-c3d57bc86b40?w=500'),
+    ('Photography Manual', 39.99, 'Books', 'Complete guide to digital photography', 'https://images.unsplash.com/photo-1481627834876-b7833e8f5570?w=500'),
+    ('Health & Nutrition', 32.99, 'Books', 'Guide to healthy living and nutrition', 'https://images.unsplash.com/photo-1544006659-f0b21884ce1d?w=500'),
+    ('Philosophy Reader', 22.99, 'Books', 'Introduction to philosophical thinking', 'https://images.unsplash.com/photo-1568667256549-094345857637?w=500'),
+    ('Poetry Collection', 18.99, 'Books', 'Anthology of contemporary poetry', 'https://images.unsplash.com/photo-1509021436665-8f07dbf5bf1d?w=500'),
+    ('Computer Science', 54.99, 'Books', 'Introduction to computer science fundamentals', 'https://images.unsplash.com/photo-1516321318423-f06f85e504b3?w=500'),
+    ('Language Learning', 29.99, 'Books', 'Spanish language learning course book', 'https://images.unsplash.com/photo-1544006659-4131dc98b879?w=500'),
+    ('Math Textbook', 89.99, 'Books', 'Advanced calculus and mathematics', 'https://images.unsplash.com/photo-1635372722656-389f87a941b7?w=500'),
+    ('Graphic Novel', 21.99, 'Books', 'Popular graphic novel series volume 1', 'https://images.unsplash.com/photo-1588496706728-95d6ac78cdf8?w=500'),
+    ('Music Theory', 36.99, 'Books', 'Complete guide to music theory and composition', 'https://images.unsplash.com/photo-1507838153414-b4b713384a76?w=500'),
+    ('Gardening Guide', 26.99, 'Books', 'Comprehensive guide to home gardening', 'https://images.unsplash.com/photo-1416879595882-3373a0480b5b?w=500'),
+    ('Psychology Today', 33.99, 'Books', 'Introduction to modern psychology', 'https://images.unsplash.com/photo-1559257414-129c0eb09516?w=500'),
+    ('Children Stories', 15.99, 'Books', 'Collection of classic children bedtime stories', 'https://images.unsplash.com/photo-1481627834876-b7833e8f5570?w=500'),
+    ('Reference Dictionary', 42.99, 'Books', 'Comprehensive English dictionary and thesaurus', 'https://images.unsplash.com/photo-1544365580-1726b3b1c1ad?w=500'),
+    -- Home & Garden
+    ('Coffee Maker', 149.99, 'Home & Garden', 'Programmable drip coffee maker', 'https://images.unsplash.com/photo-1495474472287-4d71bcdd2085?w=500'),
+    ('Garden Tools Set', 79.99, 'Home & Garden', 'Complete set of essential garden tools', 'https://images.unsplash.com/photo-1416879595882-3373a0480b5b?w=500'),
+    ('Throw Pillows', 29.99, 'Home & Garden', 'Decorative pillows for living room', 'https://images.unsplash.com/photo-1555041469-a586c61ea9bc?w=500'),
+    ('Chef Knife Set', 199.99, 'Home & Garden', 'Professional stainless steel knife set', 'https://images.unsplash.com/photo-1593618998160-e34014e67546?w=500'),
+    ('LED Table Lamp', 89.99, 'Home & Garden', 'Modern LED desk lamp with adjustable brightness', 'https://images.unsplash.com/photo-1513506003901-1e6a229e2d15?w=500'),
+    ('Dining Table', 699.99, 'Home & Garden', 'Solid wood dining table for 6 people', 'https://images.unsplash.com/photo-1449247709967-d4461a6a6103?w=500'),
+    ('Garden Hose', 39.99, 'Home & Garden', '50-foot expandable garden hose', 'https://images.unsplash.com/photo-1558618666-fcd25c85cd64?w=500'),
+    ('Area Rug', 159.99, 'Home & Garden', 'Handwoven decorative area rug', 'https://images.unsplash.com/photo-1567538096630-e0c55bd6374c?w=500'),
+    ('Tool Set', 129.99, 'Home & Garden', 'Complete home repair tool kit', 'https://images.unsplash.com/photo-1504148455328-c376907d081c?w=500'),
+    ('Vacuum Cleaner', 249.99, 'Home & Garden', 'Cordless stick vacuum with HEPA filter', 'https://images.unsplash.com/photo-1558618047-3c8c76ca7d13?w=500'),
+    ('Curtains Set', 49.99, 'Home & Garden', 'Blackout curtains for bedroom windows', 'https://images.unsplash.com/photo-1616594039964-ae9021a400a0?w=500'),
+    ('Plant Pots', 24.99, 'Home & Garden', 'Set of 3 ceramic plant pots with drainage', 'https://images.unsplash.com/photo-1485955900006-10f4d324d411?w=500'),
+    ('Storage Boxes', 34.99, 'Home & Garden', 'Stackable storage containers with lids', 'https://images.unsplash.com/photo-1558618666-06c4e33a0a51?w=500'),
+    ('Candles Set', 19.99, 'Home & Garden', 'Scented candles for home aromatherapy', 'https://images.unsplash.com/photo-1602874801006-e0a3a5a5ce84?w=500'),
+    ('Picture Frames', 27.99, 'Home & Garden', 'Set of 5 wooden picture frames', 'https://images.unsplash.com/photo-1583946099379-f9c9cb8bc030?w=500'),
+    ('Shower Curtain', 22.99, 'Home & Garden', 'Waterproof bathroom shower curtain', 'https://images.unsplash.com/photo-1620626011761-996317b8d101?w=500'),
+    ('Towel Set', 44.99, 'Home & Garden', 'Luxury cotton bath towel set', 'https://images.unsplash.com/photo-1507748387735-46a0b4e0ad8f?w=500'),
+    ('Mirror Wall', 89.99, 'Home & Garden', 'Large decorative wall mirror', 'https://images.unsplash.com/photo-1614332287897-cdc485fa562d?w=500'),
+    ('Clock Wall', 39.99, 'Home & Garden', 'Modern wall clock for living room', 'https://images.unsplash.com/photo-1563861826100-9cb868fdbe1c?w=500'),
+    ('Vase Decorative', 32.99, 'Home & Garden', 'Ceramic vase for flower arrangements', 'https://images.unsplash.com/photo-1578662996442-48f60103fc96?w=500'),
+    ('Bedding Set', 79.99, 'Home & Garden', 'Queen size comforter and pillow set', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Outdoor Cushions', 54.99, 'Home & Garden', 'Weather-resistant patio cushions', 'https://images.unsplash.com/photo-1493809842364-78817add7ffb?w=500'),
+    ('Watering Can', 16.99, 'Home & Garden', 'Galvanized steel watering can', 'https://images.unsplash.com/photo-1524334228333-0f6db392f8a1?w=500'),
+    ('Doormat', 21.99, 'Home & Garden', 'Welcome doormat for front entrance', 'https://images.unsplash.com/photo-1555041469-a586c61ea9bc?w=500'),
+    ('Air Freshener', 12.99, 'Home & Garden', 'Automatic air freshener dispenser', 'https://images.unsplash.com/photo-1563861826100-9cb868fdbe1c?w=500'),
+    -- Sports
+    ('Yoga Mat', 39.99, 'Sports', 'Non-slip yoga mat for exercise', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
+    ('Basketball', 29.99, 'Sports', 'Official size basketball for outdoor play', 'https://images.unsplash.com/photo-1546519638-68e109498ffc?w=500'),
+    ('Dumbbells Set', 199.99, 'Sports', 'Adjustable weight dumbbells for home gym', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Tennis Racket', 159.99, 'Sports', 'Professional tennis racket with strings', 'https://images.unsplash.com/photo-1551698618-1dfe5d97d256?w=500'),
+    ('Bicycle Helmet', 69.99, 'Sports', 'Safety helmet for cycling', 'https://images.unsplash.com/photo-1558618666-fcd25c85cd64?w=500'),
+    ('Soccer Ball', 24.99, 'Sports', 'FIFA approved soccer ball', 'https://images.unsplash.com/photo-1614632537190-23e4146777db?w=500'),
+    ('Swimming Goggles', 19.99, 'Sports', 'Anti-fog swimming goggles', 'https://images.unsplash.com/photo-1530549387789-4c1017266635?w=500'),
+    ('Exercise Bike', 499.99, 'Sports', 'Stationary exercise bike with monitor', 'https://images.unsplash.com/photo-1558618666-fcd25c85cd64?w=500'),
+    ('Golf Clubs Set', 399.99, 'Sports', 'Complete golf club set with bag', 'https://images.unsplash.com/photo-1535131749006-b7f58c99034b?w=500'),
+    ('Running Belt', 24.99, 'Sports', 'Waterproof running belt for phones', 'https://images.unsplash.com/photo-1606107557195-0e29a4b5b4aa?w=500'),
+    ('Resistance Bands', 29.99, 'Sports', 'Set of 5 resistance bands with handles', 'https://images.unsplash.com/photo-1598300042247-d088f8ab3a91?w=500'),
+    ('Pull-up Bar', 49.99, 'Sports', 'Doorway pull-up bar for home workouts', 'https://images.unsplash.com/photo-1583500178951-3d3de5da3d17?w=500'),
+    ('Jump Rope', 14.99, 'Sports', 'Speed jump rope for cardio workouts', 'https://images.unsplash.com/photo-1555949258-eb67b1ef0ceb?w=500'),
+    ('Gym Bag', 44.99, 'Sports', 'Durable gym bag with shoe compartment', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
+    ('Protein Shaker', 16.99, 'Sports', 'Leak-proof protein shaker bottle', 'https://images.unsplash.com/photo-1593095948071-474c5cc2989d?w=500'),
+    ('Athletic Shorts', 34.99, 'Sports', 'Moisture-wicking athletic shorts', 'https://images.unsplash.com/photo-1506629905607-24473054e56e?w=500'),
+    ('Sports Watch', 129.99, 'Sports', 'GPS sports watch with heart rate monitor', 'https://images.unsplash.com/photo-1575311373937-040b8e1fd5b6?w=500'),
+    ('Knee Pads', 22.99, 'Sports', 'Protective knee pads for sports', 'https://images.unsplash.com/photo-1599058917212-d750089bc07e?w=500'),
+    ('Water Bottle Sports', 19.99, 'Sports', 'Insulated sports water bottle', 'https://images.unsplash.com/photo-1523362628745-0c100150b504?w=500'),
+    ('Badminton Set', 59.99, 'Sports', 'Complete badminton set with rackets and shuttlecocks', 'https://images.unsplash.com/photo-1602491673980-73aa38de027a?w=500'),
+    ('Volleyball', 32.99, 'Sports', 'Official volleyball for indoor and outdoor play', 'https://images.unsplash.com/photo-1594736797933-d0401ba2fe65?w=500'),
+    ('Baseball Glove', 79.99, 'Sports', 'Leather baseball glove for infield play', 'https://images.unsplash.com/photo-1566577739112-5180d4bf9390?w=500'),
+    ('Skateboard', 89.99, 'Sports', 'Complete skateboard for beginners', 'https://images.unsplash.com/photo-1547447134-cd3f5c716030?w=500'),
+    ('Foam Roller', 34.99, 'Sports', 'High-density foam roller for muscle recovery', 'https://images.unsplash.com/photo-1599058917765-a780eda07a3e?w=500'),
+    ('Athletic Socks', 24.99, 'Sports', 'Moisture-wicking athletic sock pack', 'https://images.unsplash.com/photo-1586350158695-51219d4d6c4c?w=500'),
+    -- Beauty
+    ('Skincare Set', 89.99, 'Beauty', 'Complete skincare routine set', 'https://images.unsplash.com/photo-1596462502278-27bfdc403348?w=500'),
+    ('Makeup Palette', 49.99, 'Beauty', 'Professional eyeshadow palette', 'https://images.unsplash.com/photo-1522335789203-aabd1fc54bc9?w=500'),
+    ('Hair Dryer', 79.99, 'Beauty', 'Professional ionic hair dryer', 'https://images.unsplash.com/photo-1522338242992-e1a54906a8da?w=500'),
+    ('Luxury Perfume', 129.99, 'Beauty', 'Elegant fragrance for special occasions', 'https://images.unsplash.com/photo-1541643600914-78b084683601?w=500'),
+    ('Face Mask Set', 24.99, 'Beauty', 'Hydrating face masks for all skin types', 'https://images.unsplash.com/photo-1570194065650-d99fb4bedf0a?w=500'),
+    ('Electric Toothbrush', 99.99, 'Beauty', 'Sonic electric toothbrush with timer', 'https://images.unsplash.com/photo-1607613009820-a29f7bb81c04?w=500'),
+    ('Hair Straightener', 69.99, 'Beauty', 'Ceramic hair straightener with heat control', 'https://images.unsplash.com/photo-1507248897048-1c0dc7e5e3b0?w=500'),
+    ('Nail Care Kit', 34.99, 'Beauty', 'Professional manicure and pedicure set', 'https://images.unsplash.com/photo-1607779097040-26e80aa78e66?w=500'),
+    ('Foundation Set', 54.99, 'Beauty', 'Full coverage foundation in multiple shades', 'https://images.unsplash.com/photo-1512207272156-74e4b642633b?w=500'),
+    ('Lipstick Collection', 39.99, 'Beauty', 'Set of 5 long-lasting lipsticks', 'https://images.unsplash.com/photo-1586495777744-4413f21062fa?w=500'),
+    ('Moisturizer', 29.99, 'Beauty', 'Anti-aging daily moisturizer with SPF', 'https://images.unsplash.com/photo-1620916566398-39f1143ab7be?w=500'),
+    ('Cleanser', 19.99, 'Beauty', 'Gentle facial cleanser for sensitive skin', 'https://images.unsplash.com/photo-1559839734-2b71ea197ec2?w=500'),
+    ('Makeup Brushes', 44.99, 'Beauty', 'Professional makeup brush set with case', 'https://images.unsplash.com/photo-1503236183932-6a00cba0e1a4?w=500'),
+    ('Hair Curler', 59.99, 'Beauty', 'Ceramic barrel hair curling iron', 'https://images.unsplash.com/photo-1560869713-7d0b29837c85?w=500'),
+    ('Serum', 64.99, 'Beauty', 'Vitamin C brightening facial serum', 'https://images.unsplash.com/photo-1608248543803-ba4f8c70ae0b?w=500'),
+    ('Shampoo Set', 27.99, 'Beauty', 'Sulfate-free shampoo and conditioner set', 'https://images.unsplash.com/photo-1535585209827-a15fcdbc4c2d?w=500'),
+    ('Sunscreen', 22.99, 'Beauty', 'Broad spectrum SPF 50 sunscreen', 'https://images.unsplash.com/photo-1556228720-195a672e8a03?w=500'),
+    ('Body Lotion', 18.99, 'Beauty', 'Hydrating body lotion with natural oils', 'https://images.unsplash.com/photo-1571781926291-c477ebfd024b?w=500'),
+    ('Makeup Remover', 14.99, 'Beauty', 'Gentle makeup remover wipes', 'https://images.unsplash.com/photo-1583484963886-cfe2bae511d1?w=500'),
+    ('Eye Cream', 49.99, 'Beauty', 'Anti-aging eye cream for dark circles', 'https://images.unsplash.com/photo-1608248787858-a62a43de6929?w=500'),
+    ('Toner', 24.99, 'Beauty', 'Balancing facial toner for all skin types', 'https://images.unsplash.com/photo-1556760544-74068565f05c?w=500'),
+    ('Mascara', 19.99, 'Beauty', 'Waterproof lengthening mascara', 'https://images.unsplash.com/photo-1611930022073-b7a4ba5fcccd?w=500'),
+    ('Blush', 26.99, 'Beauty', 'Natural-looking powder blush', 'https://images.unsplash.com/photo-1543070101-aacffeef9bd6?w=500'),
+    ('Concealer', 21.99, 'Beauty', 'Full coverage concealer stick', 'https://images.unsplash.com/photo-1567721913486-6585f069b332?w=500'),
+    ('Beauty Mirror', 79.99, 'Beauty', 'LED lighted makeup mirror with magnification', 'https://images.unsplash.com/photo-1522335789203-aabd1fc54bc9?w=500'),
+    -- Automotive
+    ('Car Phone Mount', 29.99, 'Automotive', 'Magnetic car phone holder for dashboard', 'https://images.unsplash.com/photo-1606664515524-ed2f786a0bd6?w=500'),
+    ('Car Charger', 19.99, 'Automotive', 'Dual USB car charger with fast charging', 'https://images.unsplash.com/photo-1606664515524-ed2f786a0bd6?w=500'),
+    ('Floor Mats', 49.99, 'Automotive', 'All-weather rubber floor mats set', 'https://images.unsplash.com/photo-1543411395-26e4e046daca?w=500'),
+    ('Car Cover', 89.99, 'Automotive', 'Waterproof outdoor car cover', 'https://images.unsplash.com/photo-1449965408869-eaa3f722e40d?w=500'),
+    ('Jump Starter', 79.99, 'Automotive', 'Portable car battery jump starter', 'https://images.unsplash.com/photo-1495853896071-1ccf051ad0aa?w=500'),
+    ('Dash Camera', 129.99, 'Automotive', 'HD dashboard camera with night vision', 'https://images.unsplash.com/photo-1491937089182-6e7f19f54b23?w=500'),
+    ('Seat Covers', 69.99, 'Automotive', 'Custom-fit car seat covers set', 'https://images.unsplash.com/photo-1462636171742-ab0e7de27c9e?w=500'),
+    ('Air Freshener Car', 8.99, 'Automotive', 'Long-lasting car air freshener', 'https://images.unsplash.com/photo-1556769103-d5b54ad8cdb6?w=500'),
+    ('Tire Pressure Gauge', 24.99, 'Automotive', 'Digital tire pressure monitoring gauge', 'https://images.unsplash.com/photo-1481451948929-b4e5f52e9c1a?w=500'),
+    ('Car Vacuum', 59.99, 'Automotive', 'Portable car vacuum cleaner', 'https://images.unsplash.com/photo-1494905998402-395d579af36f?w=500'),
+    ('Emergency Kit', 44.99, 'Automotive', 'Complete roadside emergency kit', 'https://images.unsplash.com/photo-1564513257672-4133e7e9ec8b?w=500'),
+    ('Window Tint', 34.99, 'Automotive', 'Professional window tinting film', 'https://images.unsplash.com/photo-1606003419803-7cddb75b7b2b?w=500'),
+    ('Car Wash Kit', 39.99, 'Automotive', 'Complete car washing and detailing kit', 'https://images.unsplash.com/photo-1582470442682-3f3d0e8a68a7?w=500'),
+    ('Steering Wheel Cover', 16.99, 'Automotive', 'Leather steering wheel cover', 'https://images.unsplash.com/photo-1600298881974-6be191ceeda1?w=500'),
+    ('Sunshade', 21.99, 'Automotive', 'Foldable windshield sunshade', 'https://images.unsplash.com/photo-1487754180451-c456f719a1fc?w=500'),
+    ('Cup Holder', 12.99, 'Automotive', 'Console cup holder organizer', 'https://images.unsplash.com/photo-1598300042247-d088f8ab3a91?w=500'),
+    ('Car Wax', 18.99, 'Automotive', 'Premium car wax for paint protection', 'https://images.unsplash.com/photo-1544696023-f79e0ce7db2e?w=500'),
+    ('Tool Kit Car', 54.99, 'Automotive', 'Emergency car tool kit with case', 'https://images.unsplash.com/photo-1504148455328-c376907d081c?w=500'),
+    ('Backup Camera', 99.99, 'Automotive', 'Wireless backup camera system', 'https://images.unsplash.com/photo-1581655353564-df123a1eb820?w=500'),
+    ('License Plate Frame', 14.99, 'Automotive', 'Decorative license plate frame', 'https://images.unsplash.com/photo-1593941707882-a5bac6861d75?w=500'),
+    ('Car Organizer', 27.99, 'Automotive', 'Trunk storage organizer with compartments', 'https://images.unsplash.com/photo-1558618047-3c8c76ca7d13?w=500'),
+    ('Windshield Wipers', 32.99, 'Automotive', 'All-season windshield wiper blades', 'https://images.unsplash.com/photo-1562219292-8f95b0c85ef5?w=500'),
+    ('Car Antenna', 19.99, 'Automotive', 'Short stubby car antenna replacement', 'https://images.unsplash.com/photo-1504756264752-e2fb4d43e2b0?w=500'),
+    ('Car Polish', 22.99, 'Automotive', 'High-gloss car polish for shine', 'https://images.unsplash.com/photo-1548740441-99b6f0d6c78a?w=500'),
+    ('Parking Sensor', 74.99, 'Automotive', 'Rear parking sensor system with display', 'https://images.unsplash.com/photo-1562219292-8f95b0c85ef5?w=500'),
+    -- Food & Beverages
+    ('Organic Coffee Beans', 24.99, 'Food & Beverages', 'Premium organic coffee beans from Colombia', 'https://images.unsplash.com/photo-1447933601403-0c6688de566e?w=500'),
+    ('Artisan Chocolate', 19.99, 'Food & Beverages', 'Handcrafted dark chocolate collection', 'https://images.unsplash.com/photo-1481391319762-47dff72954d9?w=500'),
+    ('Olive Oil Set', 39.99, 'Food & Beverages', 'Extra virgin olive oil variety pack', 'https://images.unsplash.com/photo-1474979266404-7eaacbcd87c5?w=500'),
+    ('Gourmet Tea Collection', 34.99, 'Food & Beverages', 'Premium loose leaf tea sampler', 'https://images.unsplash.com/photo-1544787219-7f47ccb76574?w=500'),
+    ('Honey Variety Pack', 29.99, 'Food & Beverages', 'Natural raw honey from different regions', 'https://images.unsplash.com/photo-1587049352846-4a222e784d38?w=500'),
+    ('Spice Gift Set', 44.99, 'Food & Beverages', 'International spice collection for cooking', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Pasta Sauce Set', 16.99, 'Food & Beverages', 'Gourmet pasta sauce trio pack', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Vinegar Collection', 27.99, 'Food & Beverages', 'Balsamic and wine vinegar set', 'https://images.unsplash.com/photo-1474979266404-7eaacbcd87c5?w=500'),
+    ('Nuts Assortment', 22.99, 'Food & Beverages', 'Mixed nuts and dried fruits collection', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
+    ('Hot Sauce Set', 18.99, 'Food & Beverages', 'Variety pack of artisan hot sauces', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Craft Beer Pack', 32.99, 'Food & Beverages', 'Local craft beer variety 6-pack', 'https://images.unsplash.com/photo-1608270586620-248524c67de9?w=500'),
+    ('Wine Bottle Red', 49.99, 'Food & Beverages', 'Premium red wine from Napa Valley', 'https://images.unsplash.com/photo-1506377585622-bedcbb027afc?w=500'),
+    ('Cheese Selection', 39.99, 'Food & Beverages', 'Artisan cheese board selection', 'https://images.unsplash.com/photo-1486297678162-eb2a19b0a32d?w=500'),
+    ('Jam Collection', 21.99, 'Food & Beverages', 'Homemade fruit jam variety pack', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Crackers Gourmet', 14.99, 'Food & Beverages', 'Artisan crackers for cheese pairing', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Energy Bars', 24.99, 'Food & Beverages', 'Organic protein energy bar pack', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
+    ('Sparkling Water', 19.99, 'Food & Beverages', 'Premium sparkling water 12-pack', 'https://images.unsplash.com/photo-1523362628745-0c100150b504?w=500'),
+    ('Salad Dressing', 12.99, 'Food & Beverages', 'Organic salad dressing trio', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Protein Powder Food', 54.99, 'Food & Beverages', 'Plant-based protein powder vanilla', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
+    ('Maple Syrup', 26.99, 'Food & Beverages', 'Pure Canadian maple syrup', 'https://images.unsplash.com/photo-1587049352846-4a222e784d38?w=500'),
+    ('Pasta Premium', 8.99, 'Food & Beverages', 'Italian imported pasta variety pack', 'https://images.unsplash.com/photo-1506368083636-6defb67639a7?w=500'),
+    ('Smoothie Mix', 17.99, 'Food & Beverages', 'Superfood smoothie powder blend', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
+    ('Kombucha Pack', 23.99, 'Food & Beverages', 'Probiotic kombucha variety 4-pack', 'https://images.unsplash.com/photo-1523362628745-0c100150b504?w=500'),
+    ('Coconut Oil', 15.99, 'Food & Beverages', 'Organic virgin coconut oil jar', 'https://images.unsplash.com/photo-1474979266404-7eaacbcd87c5?w=500'),
+    ('Breakfast Cereal', 11.99, 'Food & Beverages', 'Organic granola breakfast cereal', 'https://images.unsplash.com/photo-1605043114648-54a90bc6ca30?w=500'),
+    -- Toys & Games
+    ('LEGO Building Set', 79.99, 'Toys & Games', 'Creative building blocks set for ages 8+', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Board Game Collection', 49.99, 'Toys & Games', 'Family board game for 2-6 players', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
+    ('Remote Control Car', 89.99, 'Toys & Games', 'High-speed RC car with rechargeable battery', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Puzzle 1000 Pieces', 24.99, 'Toys & Games', 'Challenging jigsaw puzzle with beautiful artwork', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
+    ('Action Figure Set', 34.99, 'Toys & Games', 'Collectible superhero action figures', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Art Supplies Kit', 39.99, 'Toys & Games', 'Complete drawing and painting set for kids', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Drone Kids', 129.99, 'Toys & Games', 'Kid-friendly drone with camera', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Stuffed Animal', 19.99, 'Toys & Games', 'Soft plush teddy bear toy', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Card Game Set', 14.99, 'Toys & Games', 'Classic card games collection', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
+    ('Building Blocks', 44.99, 'Toys & Games', 'Magnetic building blocks educational toy', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Toy Train Set', 159.99, 'Toys & Games', 'Electric train set with tracks', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Dolls House', 199.99, 'Toys & Games', 'Wooden dollhouse with furniture', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Play Kitchen', 149.99, 'Toys & Games', 'Toy kitchen set with accessories', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Science Kit', 59.99, 'Toys & Games', 'Educational science experiment kit', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Robot Toy', 99.99, 'Toys & Games', 'Programmable robot toy for learning', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Chess Set', 39.99, 'Toys & Games', 'Wooden chess set with board', 'https://images.unsplash.com/photo-1606092195730-5d7b9af1efc5?w=500'),
+    ('Scooter Kids', 69.99, 'Toys & Games', 'Adjustable height kick scooter', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Coloring Books', 12.99, 'Toys & Games', 'Set of coloring books with crayons', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Ball Pit Balls', 29.99, 'Toys & Games', 'Colorful plastic ball pit balls pack', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Toy Cars Set', 24.99, 'Toys & Games', 'Die-cast toy cars collection', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Musical Toy', 34.99, 'Toys & Games', 'Electronic keyboard for kids', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Fidget Spinner', 8.99, 'Toys & Games', 'LED light fidget spinner toy', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Magic Set', 44.99, 'Toys & Games', 'Complete magic tricks set for kids', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Walkie Talkies', 29.99, 'Toys & Games', 'Kids walkie talkie set pair', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    ('Toy Doctor Kit', 19.99, 'Toys & Games', 'Pretend play doctor medical kit', 'https://images.unsplash.com/photo-1558060370-d644479cb6f7?w=500'),
+    -- Music & Instruments
+    ('Acoustic Guitar', 299.99, 'Music & Instruments', 'Full-size acoustic guitar with case', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Electric Piano', 899.99, 'Music & Instruments', '88-key digital piano with weighted keys', 'https://images.unsplash.com/photo-1520523839897-bd0b52f945a0?w=500'),
+    ('Violin', 199.99, 'Music & Instruments', 'Student violin with bow and case', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Drum Set', 599.99, 'Music & Instruments', 'Complete acoustic drum set with cymbals', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Microphone', 149.99, 'Music & Instruments', 'Professional condenser microphone', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Music Stand', 29.99, 'Music & Instruments', 'Adjustable folding music stand', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Guitar Strings', 14.99, 'Music & Instruments', 'Set of 6 guitar strings for acoustic guitar', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Piano Bench', 79.99, 'Music & Instruments', 'Adjustable piano bench with storage', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Violin Bow', 39.99, 'Music & Instruments', 'Brazilwood violin bow with horsehair', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Drumsticks', 19.99, 'Music & Instruments', 'Wooden drumsticks for drum set', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Sheet Music Stand', 24.99, 'Music & Instruments', 'Portable sheet music stand', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Metronome', 34.99, 'Music & Instruments', 'Mechanical metronome for musicians', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Tuner', 14.99, 'Music & Instruments', 'Clip-on tuner for guitar and bass', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Trumpet', 499.99, 'Music & Instruments', 'Bb trumpet with case and accessories', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Saxophone', 899.99, 'Music & Instruments', 'Alto saxophone with case and mouthpiece', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Flute', 199.99, 'Music & Instruments', 'Silver-plated concert flute', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Clarinet', 249.99, 'Music & Instruments', 'Bb clarinet with case and reeds', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Harmonica', 29.99, 'Music & Instruments', '10-hole diatonic harmonica in C', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Accordion', 699.99, 'Music & Instruments', 'Piano accordion with 120 bass buttons', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Ukulele', 59.99, 'Music & Instruments', 'Soprano ukulele with nylon strings', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    ('Banjo', 199.99, 'Music & Instruments', '5-string banjo with case', 'https://images.unsplash.com/photo-1493225457124-a3eb161ffa5f?w=500'),
+    -- Office Supplies
+    ('Office Chair', 249.99, 'Office Supplies', 'Ergonomic office chair with lumbar support', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Standing Desk', 399.99, 'Office Supplies', 'Height-adjustable standing desk', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Printer', 199.99, 'Office Supplies', 'All-in-one wireless printer scanner', 'https://images.unsplash.com/photo-1612198188060-c7c2a3b66eae?w=500'),
+    ('Paper Shredder', 89.99, 'Office Supplies', 'Cross-cut paper shredder for documents', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Desk Organizer', 34.99, 'Office Supplies', 'Bamboo desk organizer with compartments', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Whiteboard', 59.99, 'Office Supplies', 'Magnetic dry erase whiteboard with markers', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('File Cabinet', 199.99, 'Office Supplies', '2-drawer vertical file cabinet', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Desk Lamp', 49.99, 'Office Supplies', 'LED desk lamp with adjustable brightness', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Bulletin Board', 34.99, 'Office Supplies', 'Cork bulletin board for notes and reminders', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Stapler', 19.99, 'Office Supplies', 'Heavy-duty stapler for office use', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Tape Dispenser', 14.99, 'Office Supplies', 'Desktop tape dispenser with tape', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Scissors', 9.99, 'Office Supplies', 'Stainless steel office scissors', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Ruler', 4.99, 'Office Supplies', '30 cm plastic ruler', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Pencil Holder', 12.99, 'Office Supplies', 'Metal pencil holder for desk', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Notepad', 6.99, 'Office Supplies', 'A5 notepad with ruled pages', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Paper Clips', 3.99, 'Office Supplies', 'Pack of 100 paper clips', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Binder Clips', 4.99, 'Office Supplies', 'Set of 12 binder clips', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Index Cards', 5.99, 'Office Supplies', 'Pack of 100 index cards', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Envelopes', 9.99, 'Office Supplies', 'Box of 50 white envelopes', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    ('Sticky Notes', 7.99, 'Office Supplies', 'Pack of 12 sticky note pads', 'https://images.unsplash.com/photo-1497032628192-86f99bcd76bc?w=500'),
+    -- Pet Supplies
+    ('Dog Food Premium', 49.99, 'Pet Supplies', 'High-quality dry dog food 30lb bag', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Litter Box', 39.99, 'Pet Supplies', 'Self-cleaning automatic cat litter box', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Pet Bed', 69.99, 'Pet Supplies', 'Orthopedic memory foam pet bed', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Dog Leash Set', 24.99, 'Pet Supplies', 'Retractable dog leash with waste bags', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Fish Tank', 129.99, 'Pet Supplies', '20-gallon aquarium starter kit', 'https://images.unsplash.com/photo-1520637836862-4d197d17c495?w=500'),
+    ('Pet Carrier', 79.99, 'Pet Supplies', 'Airline-approved pet travel carrier', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Tree', 99.99, 'Pet Supplies', 'Multi-level cat climbing tree with scratching posts', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Bird Cage', 89.99, 'Pet Supplies', 'Spacious bird cage with perches and feeders', 'https://images.unsplash.com/photo-1552058544-f2b08422138a?w=500'),
+    ('Dog Harness', 34.99, 'Pet Supplies', 'Adjustable dog harness with leash', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Scratching Post', 49.99, 'Pet Supplies', 'Tall cat scratching post with condo', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Pet Water Fountain', 39.99, 'Pet Supplies', 'Automatic pet water fountain', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Dog Training Collar', 59.99, 'Pet Supplies', 'Rechargeable dog training collar', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Toy Bundle', 19.99, 'Pet Supplies', 'Variety pack of cat toys', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Dog Chew Toys', 24.99, 'Pet Supplies', 'Durable chew toys for aggressive chewers', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Pet First Aid Kit', 34.99, 'Pet Supplies', 'Comprehensive first aid kit for pets', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Dog Grooming Kit', 49.99, 'Pet Supplies', 'Complete dog grooming kit with clippers', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Grooming Gloves', 19.99, 'Pet Supplies', 'Self-grooming gloves for cats', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Pet Odor Eliminator', 29.99, 'Pet Supplies', 'Enzymatic cleaner for pet odors', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Dog Seat Cover', 39.99, 'Pet Supplies', 'Waterproof dog car seat cover', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Bed', 49.99, 'Pet Supplies', 'Cozy cat bed with removable cover', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Pet Blanket', 34.99, 'Pet Supplies', 'Soft pet blanket for dogs and cats', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Dog Bowls Set', 19.99, 'Pet Supplies', 'Stainless steel dog bowls with stand', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    ('Cat Litter Mat', 24.99, 'Pet Supplies', 'Cat litter mat with waterproof backing', 'https://images.unsplash.com/photo-1601758228041-f3b2795255f1?w=500'),
+    -- Health & Wellness
+    ('Protein Powder', 39.99, 'Health & Wellness', 'Whey protein powder for muscle building', 'https://images.unsplash.com/photo-1593095948071-474c5cc2989d?w=500'),
+    ('Multivitamin Tablets', 24.99, 'Health & Wellness', 'Daily multivitamin supplement', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
+    ('Essential Oils Set', 49.99, 'Health & Wellness', 'Aromatherapy essential oils collection', 'https://images.unsplash.com/photo-1608571423902-eed4a5ad8108?w=500'),
+    ('Blood Pressure Monitor', 79.99, 'Health & Wellness', 'Digital blood pressure monitoring device', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
+    ('Meditation Cushion', 34.99, 'Health & Wellness', 'Comfortable meditation and yoga cushion', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
+    ('Resistance Bands Set', 19.99, 'Health & Wellness', 'Elastic resistance bands for home workouts', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Digital Scale', 59.99, 'Health & Wellness', 'Smart body composition scale', 'https://images.unsplash.com/photo-1559757148-5c350d0d3c56?w=500'),
+    ('Foam Roller', 29.99, 'Health & Wellness', 'Muscle recovery foam roller', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Yoga Mat Premium', 49.99, 'Health & Wellness', 'High-density yoga mat for studio use', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
+    ('Pilates Ring', 34.99, 'Health & Wellness', 'Magic circle resistance for Pilates', 'https://images.unsplash.com/photo-1544367567-0f2fcb009e0b?w=500'),
+    ('Dumbbells Adjustable', 199.99, 'Health & Wellness', 'Adjustable dumbbells for strength training', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Kettlebell', 79.99, 'Health & Wellness', 'Cast iron kettlebell for workouts', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Jump Rope Speed', 14.99, 'Health & Wellness', 'Speed jump rope with ball bearings', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Resistance Bands Door Anchor', 9.99, 'Health & Wellness', 'Door anchor for resistance bands', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Ab Roller', 29.99, 'Health & Wellness', 'Abdominal roller for core workouts', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Balance Board', 39.99, 'Health & Wellness', 'Wooden balance board for stability training', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Foam Block Yoga', 19.99, 'Health & Wellness', 'Yoga foam blocks for support and balance', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Stretch Strap', 14.99, 'Health & Wellness', 'Stretching strap with loops for yoga', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Massage Ball', 9.99, 'Health & Wellness', 'Trigger point massage ball', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Neck Massager', 49.99, 'Health & Wellness', 'Electric neck and shoulder massager', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Foot Massager', 59.99, 'Health & Wellness', 'Electric foot massager with heat', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Hand Grip Strengthener', 19.99, 'Health & Wellness', 'Adjustable hand grip strengthener', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Wrist Brace', 24.99, 'Health & Wellness', 'Adjustable wrist brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Elbow Brace', 24.99, 'Health & Wellness', 'Adjustable elbow brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Knee Brace', 29.99, 'Health & Wellness', 'Adjustable knee brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    ('Ankle Brace', 19.99, 'Health & Wellness', 'Adjustable ankle brace for support', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500'),
+    -- Jewelry & Accessories
+    ('Diamond Necklace', 299.99, 'Jewelry & Accessories', 'Elegant diamond pendant necklace', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Silver Watch', 149.99, 'Jewelry & Accessories', 'Classic silver wristwatch', 'https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=500'),
+    ('Pearl Earrings', 89.99, 'Jewelry & Accessories', 'Cultured pearl stud earrings', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Leather Wallet', 39.99, 'Jewelry & Accessories', 'Genuine leather bifold wallet', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
+    ('Sunglasses', 79.99, 'Jewelry & Accessories', 'UV protection designer sunglasses', 'https://images.unsplash.com/photo-1473496169904-658ba7c44d8a?w=500'),
+    ('Gold Bracelet', 199.99, 'Jewelry & Accessories', '14k gold chain bracelet', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Silk Scarf', 59.99, 'Jewelry & Accessories', 'Luxury silk printed scarf', 'https://images.unsplash.com/photo-1520637836862-4d197d17c495?w=500'),
+    ('Cufflinks Set', 69.99, 'Jewelry & Accessories', 'Elegant silver cufflinks for formal wear', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Brooch Pin', 39.99, 'Jewelry & Accessories', 'Vintage style brooch pin', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Anklet Chain', 29.99, 'Jewelry & Accessories', 'Delicate anklet chain in gold or silver', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Hairpin Set', 19.99, 'Jewelry & Accessories', 'Set of 3 decorative hairpins', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Belt Buckle', 24.99, 'Jewelry & Accessories', 'Western style belt buckle', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
+    ('Keychain', 9.99, 'Jewelry & Accessories', 'Leather keychain with metal ring', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Locket Necklace', 34.99, 'Jewelry & Accessories', 'Heart-shaped locket necklace', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Friendship Bracelet', 14.99, 'Jewelry & Accessories', 'Colorful woven friendship bracelet', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('ID Bracelet', 19.99, 'Jewelry & Accessories', 'Customizable ID bracelet', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Charm Bracelet', 29.99, 'Jewelry & Accessories', 'Bracelet with interchangeable charms', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Cameo Brooch', 39.99, 'Jewelry & Accessories', 'Vintage cameo brooch', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Hair Comb', 14.99, 'Jewelry & Accessories', 'Decorative hair comb', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Pocket Watch', 49.99, 'Jewelry & Accessories', 'Antique style pocket watch', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Tie Clip', 19.99, 'Jewelry & Accessories', 'Classic tie clip in silver or gold', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Lapel Pin', 9.99, 'Jewelry & Accessories', 'Enamel lapel pin for jackets', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    ('Watch Box', 59.99, 'Jewelry & Accessories', 'Luxury watch box for storage', 'https://images.unsplash.com/photo-1515562141207-7a88fb7ce338?w=500'),
+    -- Travel & Luggage
+    ('Rolling Suitcase', 159.99, 'Travel & Luggage', 'Hard shell rolling suitcase 24-inch', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Travel Backpack', 89.99, 'Travel & Luggage', 'Durable travel backpack with laptop compartment', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=500'),
+    ('Passport Holder', 19.99, 'Travel & Luggage', 'RFID blocking passport wallet', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Travel Pillow', 24.99, 'Travel & Luggage', 'Memory foam neck travel pillow', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Packing Cubes', 34.99, 'Travel & Luggage', 'Set of 4 packing organizer cubes', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Carry-on Bag', 79.99, 'Travel & Luggage', 'Wheeled carry-on luggage', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Travel Adapter', 29.99, 'Travel & Luggage', 'Universal travel power adapter', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Luggage Scale', 14.99, 'Travel & Luggage', 'Digital luggage weight scale', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Duffel Bag', 49.99, 'Travel & Luggage', 'Canvas duffel bag with leather straps', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Toiletry Bag', 19.99, 'Travel & Luggage', 'Water-resistant toiletry bag', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Shoe Bag', 14.99, 'Travel & Luggage', 'Breathable shoe storage bag', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Laundry Bag', 9.99, 'Travel & Luggage', 'Foldable laundry bag for travel', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Travel Blanket', 29.99, 'Travel & Luggage', 'Compact travel blanket', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Cable Organizer', 12.99, 'Travel & Luggage', 'Travel cable organizer pouch', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('RFID Wallet', 39.99, 'Travel & Luggage', 'RFID blocking wallet for cards', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Portable Charger', 29.99, 'Travel & Luggage', 'Compact portable charger for devices', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Travel Journal', 19.99, 'Travel & Luggage', 'Leather travel journal with pen', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Map Case', 9.99, 'Travel & Luggage', 'Waterproof map case for navigation', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Compass', 14.99, 'Travel & Luggage', 'Classic brass compass', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Binoculars', 49.99, 'Travel & Luggage', 'Compact binoculars for travel', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    ('Travel Sewing Kit', 12.99, 'Travel & Luggage', 'Portable sewing kit for emergencies', 'https://images.unsplash.com/photo-1488646953014-85cb44e25828?w=500'),
+    -- Baby & Kids
+    ('Baby Stroller', 299.99, 'Baby & Kids', 'Lightweight foldable baby stroller', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Car Seat', 199.99, 'Baby & Kids', 'Safety-certified infant car seat', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Monitor', 129.99, 'Baby & Kids', 'Video baby monitor with night vision', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Diaper Bag', 59.99, 'Baby & Kids', 'Multi-pocket diaper changing bag', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Clothes Set', 34.99, 'Baby & Kids', 'Organic cotton baby outfit set', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('High Chair', 149.99, 'Baby & Kids', 'Adjustable baby high chair', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Bottles Set', 24.99, 'Baby & Kids', 'BPA-free baby bottles with nipples', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Play Mat', 79.99, 'Baby & Kids', 'Interactive baby play mat with toys', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Carrier', 69.99, 'Baby & Kids', 'Ergonomic baby carrier backpack', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Pacifier Clip', 12.99, 'Baby & Kids', 'Silicone pacifier clip for babies', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Teething Toy', 9.99, 'Baby & Kids', 'Natural rubber teething toy', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Wipes Warmer', 34.99, 'Baby & Kids', 'Electric baby wipes warmer', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Nursing Pillow', 39.99, 'Baby & Kids', 'Support pillow for breastfeeding', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Swing', 149.99, 'Baby & Kids', 'Portable baby swing with music', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Diaper Pail', 59.99, 'Baby & Kids', 'Odor-locking diaper pail', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Thermometer', 24.99, 'Baby & Kids', 'Digital baby thermometer with fever alarm', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Bottle Warmer', 29.99, 'Baby & Kids', 'Electric bottle warmer for car and home', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Nail Clipper', 9.99, 'Baby & Kids', 'Safety baby nail clipper', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Soft Toy', 19.99, 'Baby & Kids', 'Plush soft toy for babies', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Baby Proofing Kit', 34.99, 'Baby & Kids', 'Home safety proofing kit for babies', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Kids Backpack', 39.99, 'Baby & Kids', 'Durable kids backpack for school', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Lunch Box', 19.99, 'Baby & Kids', 'Insulated lunch box for kids', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Water Bottle Kids', 14.99, 'Baby & Kids', 'BPA-free water bottle for kids', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Art Smock', 9.99, 'Baby & Kids', 'Washable art smock for kids', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Puzzle Mat', 24.99, 'Baby & Kids', 'Foam puzzle mat for playroom', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    ('Building Blocks Set', 39.99, 'Baby & Kids', 'Wooden building blocks set for toddlers', 'https://images.unsplash.com/photo-1522771739844-6a9f6d5f14af?w=500'),
+    -- Kitchen & Dining
+    ('Cast Iron Skillet', 49.99, 'Kitchen & Dining', 'Pre-seasoned cast iron cooking pan', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Dinner Plate Set', 79.99, 'Kitchen & Dining', '12-piece ceramic dinner plate set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Blender', 99.99, 'Kitchen & Dining', 'High-speed blender for smoothies', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Wine Glasses', 39.99, 'Kitchen & Dining', 'Crystal wine glass set of 6', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Cutting Board', 29.99, 'Kitchen & Dining', 'Bamboo cutting board with juice groove', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Stand Mixer', 299.99, 'Kitchen & Dining', 'Professional stand mixer for baking', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Silverware Set', 69.99, 'Kitchen & Dining', '20-piece stainless steel flatware set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Rice Cooker', 79.99, 'Kitchen & Dining', 'Digital rice cooker with steamer', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Cookbook', 24.99, 'Kitchen & Dining', 'Popular cookbook with family recipes', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Oven Mitts', 19.99, 'Kitchen & Dining', 'Silicone oven mitts for heat protection', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Dish Towels', 14.99, 'Kitchen & Dining', 'Set of 5 cotton dish towels', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Salt and Pepper Shakers', 9.99, 'Kitchen & Dining', 'Ceramic salt and pepper shaker set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Measuring Cups', 12.99, 'Kitchen & Dining', 'Stainless steel measuring cups set', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Mixing Bowls', 24.99, 'Kitchen & Dining', 'Set of 3 nesting mixing bowls', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Baking Sheet Set', 29.99, 'Kitchen & Dining', 'Set of 2 non-stick baking sheets', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Pasta Maker', 199.99, 'Kitchen & Dining', 'Manual pasta maker machine', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Food Processor', 149.99, 'Kitchen & Dining', 'Versatile food processor with multiple attachments', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Electric Kettle', 39.99, 'Kitchen & Dining', 'Cordless electric kettle with auto shut-off', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Toaster', 29.99, 'Kitchen & Dining', '2-slice toaster with adjustable browning control', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Slow Cooker', 79.99, 'Kitchen & Dining', '6-quart programmable slow cooker', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Pressure Cooker', 99.99, 'Kitchen & Dining', 'Electric pressure cooker with safety lock', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Deep Fryer', 129.99, 'Kitchen & Dining', 'Countertop electric deep fryer', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Rice Paper Rolls Kit', 19.99, 'Kitchen & Dining', 'DIY rice paper rolls making kit', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Herb Scissors', 14.99, 'Kitchen & Dining', 'Multi-blade herb scissors', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Corn Peeler', 9.99, 'Kitchen & Dining', 'Electric corn peeler', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Avocado Slicer', 12.99, 'Kitchen & Dining', '3-in-1 avocado slicer and pitter', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Potato Masher', 9.99, 'Kitchen & Dining', 'Stainless steel potato masher', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    ('Apple Corer', 7.99, 'Kitchen & Dining', 'Stainless steel apple corer', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=500'),
+    -- Art & Crafts
+    ('Acrylic Paint Set', 34.99, 'Art & Crafts', '24-color acrylic paint set with brushes', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Sketchbook', 19.99, 'Art & Crafts', 'Professional drawing sketchpad', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Colored Pencils', 24.99, 'Art & Crafts', '72-piece colored pencil set', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Easel', 89.99, 'Art & Crafts', 'Adjustable wooden art easel', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Clay Set', 29.99, 'Art & Crafts', 'Polymer clay sculpting kit', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Watercolor Set', 39.99, 'Art & Crafts', 'Professional watercolor paint set', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Craft Knife Set', 19.99, 'Art & Crafts', 'Precision craft cutting tools', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Canvas Pack', 24.99, 'Art & Crafts', 'Stretched canvas boards for painting', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Paint Brushes Set', 14.99, 'Art & Crafts', 'Set of 10 paint brushes for artists', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Palette Knife Set', 19.99, 'Art & Crafts', 'Set of 5 palette knives for painting', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Oil Paint Set', 49.99, 'Art & Crafts', '10-color oil paint set with brushes', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Acrylic Pouring Kit', 59.99, 'Art & Crafts', 'Complete acrylic pouring art kit', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Embroidery Kit', 34.99, 'Art & Crafts', 'Beginner embroidery kit with patterns', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Knitting Needles Set', 19.99, 'Art & Crafts', 'Set of 4 knitting needles with yarn', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Crochet Hooks Set', 24.99, 'Art & Crafts', 'Set of 9 crochet hooks with case', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Sewing Kit', 29.99, 'Art & Crafts', 'Complete sewing kit with threads and needles', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Fabric Scissors', 14.99, 'Art & Crafts', 'Sharp fabric scissors for sewing', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Tailor Chalk', 9.99, 'Art & Crafts', 'Tailor chalk for marking fabrics', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Measuring Tape', 4.99, 'Art & Crafts', '60-inch measuring tape for sewing', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Stencils Set', 12.99, 'Art & Crafts', 'Set of 10 reusable stencils', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Craft Paper Pack', 19.99, 'Art & Crafts', 'Assorted craft paper in different colors', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Glue Gun', 29.99, 'Art & Crafts', 'Hot glue gun with glue sticks', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Spray Paint Set', 39.99, 'Art & Crafts', 'Set of 6 spray paints for art and crafts', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    ('Paint Markers', 24.99, 'Art & Crafts', 'Set of 12 paint markers for artists', 'https://images.unsplash.com/photo-1513475382585-d06e58bcb0e0?w=500'),
+    -- Outdoor & Camping
+    ('Camping Tent', 199.99, 'Outdoor & Camping', '4-person waterproof camping tent', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Sleeping Bag', 79.99, 'Outdoor & Camping', 'All-season sleeping bag with compression sack', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Hiking Backpack', 149.99, 'Outdoor & Camping', '50L hiking backpack with hydration system', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Portable Grill', 99.99, 'Outdoor & Camping', 'Compact charcoal camping grill', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Headlamp', 29.99, 'Outdoor & Camping', 'LED headlamp for outdoor activities', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Camping Chair', 39.99, 'Outdoor & Camping', 'Foldable camping chair with cup holder', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Water Bottle', 24.99, 'Outdoor & Camping', 'Insulated stainless steel water bottle', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('First Aid Kit', 34.99, 'Outdoor & Camping', 'Comprehensive outdoor first aid kit', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Camping Cookware Set', 59.99, 'Outdoor & Camping', 'Non-stick cookware set for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Portable Power Bank', 49.99, 'Outdoor & Camping', 'Solar-powered portable charger', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Multi-tool Knife', 29.99, 'Outdoor & Camping', 'Stainless steel multi-tool with knife', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Camping Lantern', 39.99, 'Outdoor & Camping', 'LED camping lantern with dimmer', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Fire Starter Kit', 14.99, 'Outdoor & Camping', 'Fire starter and tinder for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Compass', 9.99, 'Outdoor & Camping', 'Outdoor compass for navigation', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Binoculars', 49.99, 'Outdoor & Camping', 'Compact binoculars for hiking', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Trekking Poles', 39.99, 'Outdoor & Camping', 'Adjustable trekking poles for hiking', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Sleeping Pad', 59.99, 'Outdoor & Camping', 'Inflatable sleeping pad for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Camp Shower', 24.99, 'Outdoor & Camping', 'Portable camp shower with solar bag', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Toilet Paper Holder', 12.99, 'Outdoor & Camping', 'Portable toilet paper holder', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Trash Bags', 9.99, 'Outdoor & Camping', 'Biodegradable trash bags for camping', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('S mores Maker', 19.99, 'Outdoor & Camping', 'Indoor s mores maker machine', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Portable Blender', 39.99, 'Outdoor & Camping', 'USB rechargeable portable blender', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    ('Camping Utensils', 14.99, 'Outdoor & Camping', 'Reusable camping utensils set', 'https://images.unsplash.com/photo-1504851149312-7a075b496cc7?w=500'),
+    -- Photography
+    ('DSLR Camera', 899.99, 'Photography', 'Professional DSLR camera with 24MP sensor', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Camera Lens', 399.99, 'Photography', '50mm f/1.8 portrait lens', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Tripod', 79.99, 'Photography', 'Carbon fiber camera tripod', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Memory Cards', 39.99, 'Photography', 'High-speed SD memory card 64GB', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Camera Bag', 59.99, 'Photography', 'Professional camera gear bag', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Flash Unit', 199.99, 'Photography', 'External camera flash with diffuser', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Lens Filter Set', 49.99, 'Photography', 'UV and polarizing filter set', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Photo Printer', 299.99, 'Photography', 'Professional photo printer', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Light Reflector', 34.99, 'Photography', '5-in-1 collapsible light reflector', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Camera Strap', 19.99, 'Photography', 'Comfortable camera strap with padding', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Lens Cleaning Kit', 9.99, 'Photography', 'Complete lens cleaning kit', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Tripod Monopod Combo', 129.99, 'Photography', 'Aluminum tripod and monopod combo', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Camera Rain Cover', 24.99, 'Photography', 'Waterproof camera cover', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Remote Shutter Release', 14.99, 'Photography', 'Wireless remote shutter release', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Photography Backdrops', 49.99, 'Photography', 'Set of 3 photography backdrops', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Softbox Lighting Kit', 199.99, 'Photography', 'Photography softbox lighting kit', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Reflector Umbrella', 34.99, 'Photography', 'Translucent reflector umbrella', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Light Stand', 59.99, 'Photography', 'Adjustable light stand for photography', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Photography Gloves', 19.99, 'Photography', 'Warm gloves for photographers', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Lens Hood', 14.99, 'Photography', 'Lens hood for sun glare reduction', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    ('Camera Cleaning Kit', 9.99, 'Photography', 'Sensor and camera body cleaning kit', 'https://images.unsplash.com/photo-1502920917128-1aa500764cbd?w=500'),
+    -- Gaming
+    ('Gaming Console', 499.99, 'Gaming', 'Next-gen gaming console with 1TB storage', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Gaming Headset', 149.99, 'Gaming', '7.1 surround sound gaming headset', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Gaming Chair', 299.99, 'Gaming', 'Ergonomic racing-style gaming chair', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('VR Headset', 399.99, 'Gaming', 'Virtual reality headset with controllers', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Game Controller', 69.99, 'Gaming', 'Wireless game controller with vibration', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Gaming Monitor', 349.99, 'Gaming', '27-inch 144Hz gaming monitor', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('PC Games Bundle', 59.99, 'Gaming', 'Collection of popular PC games', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Gaming Desk', 199.99, 'Gaming', 'L-shaped gaming desk with RGB lighting', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Racing Wheel', 129.99, 'Gaming', 'Force feedback racing wheel', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Game Chair Mat', 59.99, 'Gaming', 'Large mat for gaming chair', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('LED Strip Lights', 24.99, 'Gaming', 'RGB LED strip lights for gaming setup', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Gaming Mouse Pad', 19.99, 'Gaming', 'Extended gaming mouse pad', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Steam Gift Card', 49.99, 'Gaming', 'Gift card for Steam platform', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Xbox Live Gold', 24.99, 'Gaming', '3-month subscription to Xbox Live Gold', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('PlayStation Plus', 24.99, 'Gaming', '3-month subscription to PlayStation Plus', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Nintendo eShop Card', 19.99, 'Gaming', 'Gift card for Nintendo eShop', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Gaming Network Adapter', 34.99, 'Gaming', 'Wireless network adapter for gaming', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Cooling Stand for PS5', 49.99, 'Gaming', 'Vertical cooling stand for PlayStation 5', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    ('Cooling Stand for Xbox Series X', 49.99, 'Gaming', 'Vertical cooling stand for Xbox Series X', 'https://images.unsplash.com/photo-1493711662062-fa541adb3fc8?w=500'),
+    -- Furniture
+    ('Sofa Set', 899.99, 'Furniture', '3-piece sectional sofa with cushions', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Coffee Table', 199.99, 'Furniture', 'Modern glass-top coffee table', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Bookshelf', 149.99, 'Furniture', '5-tier wooden bookshelf unit', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Bed Frame', 399.99, 'Furniture', 'Queen size platform bed frame', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Dining Set', 599.99, 'Furniture', '6-person dining table with chairs', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Wardrobe', 499.99, 'Furniture', 'Large wardrobe with sliding doors', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Nightstand', 89.99, 'Furniture', 'Bedside table with drawer', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Bar Stools', 129.99, 'Furniture', 'Set of 2 adjustable bar stools', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Dining Bench', 199.99, 'Furniture', 'Wooden dining bench for extra seating', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Accent Chair', 159.99, 'Furniture', 'Stylish accent chair for living room', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Ottoman', 79.99, 'Furniture', 'Fabric ottoman for living room', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Coffee Table Books', 39.99, 'Furniture', 'Set of 3 coffee table books', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Wall Art', 49.99, 'Furniture', 'Framed wall art for home decor', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Table Lamp', 59.99, 'Furniture', 'Modern table lamp with USB charging', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Floor Lamp', 89.99, 'Furniture', 'LED floor lamp with dimmer', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Area Rug', 199.99, 'Furniture', 'Large area rug for living room', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Curtains', 79.99, 'Furniture', 'Set of 2 blackout curtains', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Throw Blanket', 29.99, 'Furniture', 'Warm throw blanket for sofa', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Cushion Covers', 19.99, 'Furniture', 'Set of 4 decorative cushion covers', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Napkin Set', 14.99, 'Furniture', 'Cloth napkin set for dining table', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Table Runner', 24.99, 'Furniture', 'Decorative table runner for dining table', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Coasters Set', 9.99, 'Furniture', 'Set of 6 cork coasters', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Wine Rack', 39.99, 'Furniture', 'Wall-mounted wine rack', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Cutlery Tray', 19.99, 'Furniture', 'Expandable cutlery tray for kitchen drawer', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Spice Rack', 29.99, 'Furniture', 'Wall-mounted spice rack with jars', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Pot Rack', 39.99, 'Furniture', 'Ceiling-mounted pot rack', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500'),
+    ('Knife Block', 49.99, 'Furniture', 'Wooden knife block with knives', 'https://images.unsplash.com/photo-1586023492125-27b2c045efd7?w=500')
+) AS v(name, price, category_name, description, image_url)
+JOIN seeded ON seeded.name = v.category_name;
@@ -0,0 +1,35 @@
+-- Runs after every migrate, including a startup with nothing to migrate, and fails the startup when the indexes
+-- the migrations created are missing or invalid (dropped by hand, or left behind by an interrupted rebuild).
+-- Tables, columns and sequences are checked against the entities by spring.jpa.hibernate.ddl-auto=validate,
+-- and edited or missing migrations by Flyway's own validation.
+DO $$
+DECLARE
+    drifted text;
+BEGIN
+    SELECT string_agg(v.index_name, ', ') INTO drifted
+    FROM (VALUES
+            ('cart_items_pkey'),
+            ('category_pkey'),
+            ('customers_pkey'),
+            ('order_item_pkey'),
+            ('orders_pkey'),
+            ('product_pkey'),
+            ('uk_cart_items_session_product'),
+            ('idx_cart_items_last_touched_at'),
+            ('idx_cart_items_session_id'),
+            ('idx_cart_items_product_id'),
+            ('idx_product_category_id'),
+            ('idx_customers_email'),
+            ('idx_order_item_order_id'),
+            ('idx_order_item_product_id'),
+            ('idx_orders_customer_id'),
+            ('order_intake_pkey'),
+            ('idx_order_intake_pending'),
+            ('idx_order_intake_created_at')) AS v(index_name)
+    LEFT JOIN pg_class c ON c.relname = v.index_name AND c.relkind = 'i' AND c.relnamespace = current_schema()::regnamespace
+    LEFT JOIN pg_index i ON i.indexrelid = c.oid
+    WHERE i.indexrelid IS NULL OR NOT i.indisvalid;
+    IF drifted IS NOT NULL THEN
+        RAISE EXCEPTION 'Schema drift: indexes missing or invalid: %', drifted;
+    END IF;
+END $$;
@@ -0,0 +1,89 @@
+package com.shop.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningTest {
+
+	private final Object monitor = new Object();
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private VirtualThreadPinning pinning;
+
+	@BeforeEach
+	void startRecording() {
+		pinning = new VirtualThreadPinning();
+		ReflectionTestUtils.setField(pinning, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(pinning, "threshold", Duration.ofMillis(100));
+		pinning.start();
+	}
+
+	@AfterEach
+	void stopRecording() {
+		pinning.stop();
+	}
+
+	@Test
+	void sleepingInsideSynchronizedIsReportedWithTheApplicationFrame() throws Exception {
+		Thread.ofVirtual().start(() -> sleepHoldingMonitor(150)).join();
+
+		Timer pinned = awaitPinned(1);
+		assertThat(pinned.count()).isEqualTo(1);
+		assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(150);
+	}
+
+	@Test
+	void pinningShorterThanTheThresholdIsNotRecorded() throws Exception {
+		Thread.ofVirtual().start(() -> sleepHoldingMonitor(5)).join();
+		Thread.ofVirtual().start(() -> sleepHoldingMonitor(150)).join();
+
+		// Events arrive in order, so once the long pinning is in the short one would have been too
+		Timer pinned = awaitPinned(1);
+		assertThat(pinned.count()).isEqualTo(1);
+		assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(150);
+	}
+
+	@Test
+	void eachPinningAtTheSameFrameIsCounted() throws Exception {
+		Thread.ofVirtual().start(() -> sleepHoldingMonitor(150)).join();
+		Thread.ofVirtual().start(() -> sleepHoldingMonitor(150)).join();
+
+		assertThat(awaitPinned(2).count()).isEqualTo(2);
+	}
+
+	// The JFR stream delivers events about once a second
+	private Timer awaitPinned(long count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+		while (System.nanoTime() < deadline) {
+			Timer pinned = meterRegistry.find("jvm.threads.virtual.pinned")
+					.tag("frame", VirtualThreadPinningTest.class.getName() + ".sleepHoldingMonitor")
+					.timer();
+			if (pinned != null && pinned.count() >= count) {
+				return pinned;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("Expected " + count + " pinned virtual threads to be recorded");
+	}
+
+	private void sleepHoldingMonitor(long millis) {
+		synchronized (monitor) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
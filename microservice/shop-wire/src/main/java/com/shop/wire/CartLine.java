@@ -0,0 +1,5 @@
+package com.shop.wire;
+
+// One line of a cart as the browser gets it
+public record CartLine(Long id, Integer quantity, ProductSummary product) {
+}
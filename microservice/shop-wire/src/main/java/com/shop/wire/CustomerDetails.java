@@ -0,0 +1,5 @@
+package com.shop.wire;
+
+// What is known of a customer when an order names them by email; used to create the customer if they are new
+public record CustomerDetails(String name, String phone, String address) {
+}
@@ -0,0 +1,5 @@
+package com.shop.wire;
+
+// A customer as order-service needs it to place and show orders
+public record CustomerSummary(Long id, String name, String email, String phone, String address) {
+}
@@ -0,0 +1,5 @@
+package com.shop.wire;
+
+// A product as the cart and other services need it: enough to show and price it, with its category by name
+public record ProductSummary(Long id, String name, Double price, String imageUrl, String category) {
+}
@@ -0,0 +1,11 @@
+package com.shop.wire;
+
+// Jackson's binary JSON, which services can ask each other for instead of JSON. Field names repeated across a
+// list are written once and referred back to, so lists of records come out much smaller and are faster to read.
+public final class WireMediaTypes {
+
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private WireMediaTypes() {
+    }
+}
@@ -90,27 +90,13 @@ const CartDrawer = ({ visible, onClose, onCartUpdate }) => {
   const handleCheckout = async (values) => {
     setCheckoutLoading(true);
     try {
-      // Calculate total
-      const total = cart.reduce((sum, item) => sum + (item.product?.price * item.quantity), 0);
-      
-      // Create order object
-      const orderData = {
+      // The server prices the cart, places the order and empties the cart in one transaction
+      await orderService.checkout({
         customerName: values.customerName,
         customerEmail: values.customerEmail,
         customerPhone: values.customerPhone,
         shippingAddress: values.shippingAddress,
-        total: total,
-        status: 'PENDING',
-        orderDate: new Date().toISOString(),
-        // Note: OrderItems would need to be handled separately or the backend modified
-        // For now, we'll create the order and clear the cart
-      };
-
-      // Create the order
-      await orderService.create(orderData);
-      
-      // Clear the cart after successful order
-      await cartService.clearCart();
+      });
       
       message.success('Order placed successfully!');
       setCheckoutModalVisible(false);
@@ -8,6 +8,23 @@ const api = axios.create({
   withCredentials: true, // Enable session cookies
 });
 
+// /customers and /orders return one keyset page per request; the next page starts after the id in X-Next-Cursor.
+// Collects every page into a single response for the list views.
+const PAGE_SIZE = 200;
+
+const getAllPages = async (getPage) => {
+  const rows = [];
+  let after;
+  for (;;) {
+    const response = await getPage({ after, limit: PAGE_SIZE });
+    rows.push(...response.data);
+    after = response.headers['x-next-cursor'];
+    if (!after) {
+      return { ...response, data: rows };
+    }
+  }
+};
+
 export const productService = {
   getAll: () => api.get('/products'),
   getById: (id) => api.get(`/products/${id}`),
@@ -18,7 +35,7 @@ export const productService = {
 };
 
 export const customerService = {
-  getAll: () => api.get('/customers'),
+  getAll: () => getAllPages((params) => api.get('/customers', { params })),
   getById: (id) => api.get(`/customers/${id}`),
   create: (customer) => api.post('/customers', customer),
   update: (id, customer) => api.put(`/customers/${id}`, customer),
@@ -26,9 +43,10 @@ export const customerService = {
 };
 
 export const orderService = {
-  getAll: () => api.get('/orders'),
+  getAll: () => getAllPages((params) => api.get('/orders', { params })),
   getById: (id) => api.get(`/orders/${id}`),
   create: (order) => api.post('/orders', order),
+  checkout: (details) => api.post('/checkout', details),
   updateStatus: (id, status) => api.patch(`/orders/${id}/status`, { status }),
 };
 
@@ -0,0 +1,70 @@
+package com.shop.config;
+
+import com.shop.repository.CatalogStamp;
+import com.shop.service.EncodedCatalog;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Locale;
+
+// Answers If-None-Match and If-Modified-Since from a catalog stamp, before the resource itself is loaded
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    // Sets ETag, Last-Modified and Cache-Control on the response; true when a 304 has been sent
+    public static boolean notModified(ServletWebRequest request, String resource, CatalogStamp stamp) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return request.checkNotModified(stamp.etag(resource), stamp.lastModifiedMillis());
+    }
+
+    // Writes the pre-encoded bytes as they are, gzip-compressed when the client accepts it
+    public static ResponseEntity<byte[]> serve(ServletWebRequest request, EncodedCatalog catalog) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (request.checkNotModified(gzip ? catalog.getGzipETag() : catalog.getETag(), catalog.getLastModified())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.getGzip());
+        }
+        return response.body(catalog.getJson());
+    }
+
+    // gzip, or failing that *, listed with a q-value above 0 (1 when not given)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = quality;
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        Double quality = gzip != null ? gzip : any;
+        return quality != null && quality > 0;
+    }
+}
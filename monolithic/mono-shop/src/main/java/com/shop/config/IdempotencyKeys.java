@@ -0,0 +1,167 @@
+package com.shop.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Runs a request once per Idempotency-Key header: a retry with the same key gets the stored result,
+// and a retry that arrives while the first request is still running waits for it instead of running again.
+// Responses are kept for ttl, at most max-keys of them; a request that fails or is not answered with a 2xx
+// is forgotten so it can be retried. Each key remembers a hash of its request body, and reusing a key
+// with a different body is refused with 422.
+@Component
+public class IdempotencyKeys {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Value("${idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${idempotency.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${idempotency.wait-timeout:30s}")
+    private Duration waitTimeout;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Insertion order, so the oldest keys are the first to expire or be evicted
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    private static final class Entry {
+        final CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+        final byte[] requestHash;
+        volatile long expiresAt;
+
+        Entry(byte[] requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        // Only a finished request expires; expiresAt is set before its result is completed
+        boolean expired(long now) {
+            return result.isDone() && expiresAt - now <= 0;
+        }
+    }
+
+    // Without a key the action simply runs; scope keeps the keys of different endpoints apart
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String scopedKey = scope + ":" + key;
+        // Hashed before the action runs, since the action may fill in the request it was given
+        byte[] requestHash = hash(request);
+        while (true) {
+            Entry entry = new Entry(requestHash);
+            Entry existing = claim(scopedKey, entry);
+            if (existing == null) {
+                return run(scopedKey, entry, action);
+            }
+            if (!Arrays.equals(existing.requestHash, requestHash)) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "This " + HEADER + " was already used with a different request body");
+            }
+            try {
+                ResponseEntity<T> response = (ResponseEntity<T>) existing.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                return ResponseEntity.status(response.getStatusCode())
+                        .headers(response.getHeaders())
+                        .header(REPLAYED_HEADER, "true")
+                        .body(response.getBody());
+            } catch (ExecutionException e) {
+                // The first request failed or was refused and released the key; try to claim it again
+            } catch (TimeoutException e) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "A request with this " + HEADER + " is still in progress");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the first request");
+            }
+        }
+    }
+
+    // The live entry for the key, or null after storing the given one as the key's first request
+    private synchronized Entry claim(String key, Entry entry) {
+        long now = System.nanoTime();
+        Entry existing = entries.get(key);
+        if (existing != null && !existing.expired(now)) {
+            return existing;
+        }
+        entries.remove(key);
+        Iterator<Map.Entry<String, Entry>> oldest = entries.entrySet().iterator();
+        while (oldest.hasNext()) {
+            Entry candidate = oldest.next().getValue();
+            // Requests still running are never evicted, so their retries always wait for them;
+            // finished entries behind them are still evicted
+            if (!candidate.result.isDone()) {
+                continue;
+            }
+            if (!candidate.expired(now) && entries.size() < maxKeys) {
+                break;
+            }
+            oldest.remove();
+        }
+        entries.put(key, entry);
+        return null;
+    }
+
+    private <T> ResponseEntity<T> run(String key, Entry entry, Supplier<ResponseEntity<T>> action) {
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            release(key, entry, e);
+            throw e;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            release(key, entry, new IllegalStateException("Request answered " + response.getStatusCode()));
+            return response;
+        }
+        entry.expiresAt = System.nanoTime() + ttl.toNanos();
+        entry.result.complete(response);
+        return response;
+    }
+
+    // SHA-256 of the request as JSON, so the same content hashes the same whatever its formatting
+    private byte[] hash(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash the request for " + HEADER, e);
+        }
+    }
+
+    private void release(String key, Entry entry, Throwable cause) {
+        synchronized (this) {
+            entries.remove(key, entry);
+        }
+        entry.result.completeExceptionally(cause);
+    }
+}
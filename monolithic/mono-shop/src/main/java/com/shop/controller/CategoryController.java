@@ -1,10 +1,17 @@
 package com.shop.controller;
 
+import com.shop.config.ConditionalRequests;
+import com.shop.config.KeysetPagination;
 import com.shop.model.Category;
+import com.shop.service.CatalogSnapshot;
 import com.shop.service.CategoryService;
+import com.shop.service.EncodedCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -22,17 +29,40 @@ public class CategoryController {
 
 	@Autowired
 	private CategoryService categoryService;
+
+	@Autowired
+	private KeysetPagination pagination;
+
+	@Autowired(required = false)
+	private CatalogSnapshot catalogSnapshot;
 	
 	@Value("${app.upload.dir:uploads}")
 	private String uploadDir;
 
 	@GetMapping
-	public List<Category> getAllCategories() {
-		return categoryService.getAllCategories();
+	public ResponseEntity<?> getAllCategories(@RequestParam(required = false) Long after,
+	                                          @RequestParam(required = false) Integer limit,
+	                                          ServletWebRequest request) {
+		if (after == null && limit == null) {
+			EncodedCatalog snapshot = catalogSnapshot == null ? null : catalogSnapshot.getCategories();
+			if (snapshot != null) {
+				return ConditionalRequests.serve(request, snapshot);
+			}
+			if (ConditionalRequests.notModified(request, "categories", categoryService.getCategoriesStamp())) {
+				return null;
+			}
+			return ResponseEntity.ok(categoryService.getAllCategories());
+		}
+		Pageable pageable = pagination.firstRows(limit);
+		List<Category> categories = categoryService.getCategoriesAfter(after == null ? 0L : after, pageable);
+		return pagination.respond(categories, pageable, Category::getId);
 	}
 
 	@GetMapping("/{id}")
-	public Optional<Category> getCategoryById(@PathVariable Long id) {
+	public Optional<Category> getCategoryById(@PathVariable Long id, ServletWebRequest request) {
+		if (ConditionalRequests.notModified(request, "category-" + id, categoryService.getCategoryStamp(id))) {
+			return null;
+		}
 		return categoryService.getCategoryById(id);
 	}
 
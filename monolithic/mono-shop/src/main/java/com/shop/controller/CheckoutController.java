@@ -0,0 +1,25 @@
+package com.shop.controller;
+
+import com.shop.model.Order;
+import com.shop.service.CheckoutService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/checkout")
+public class CheckoutController {
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    // Places an order for everything in the session's cart and empties the cart
+    @PostMapping
+    public ResponseEntity<Order> checkout(@RequestBody Order details, HttpServletRequest request) {
+        Order order = checkoutService.checkout(request.getSession().getId(), details);
+        return ResponseEntity.created(URI.create("/orders/" + order.getId())).body(order);
+    }
+}
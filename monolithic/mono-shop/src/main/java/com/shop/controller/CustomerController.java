@@ -1,11 +1,16 @@
 package com.shop.controller;
 
+import com.shop.config.KeysetPagination;
+import com.shop.config.StreamingExport;
 import com.shop.model.Customer;
 import com.shop.service.CustomerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +21,27 @@ public class CustomerController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired
+    private StreamingExport export;
+
     @GetMapping
-    public List<Customer> getAllCustomers() {
-        return customerService.getAllCustomers();
+    public ResponseEntity<List<Customer>> getAllCustomers(@RequestParam(required = false) Long after,
+                                                          @RequestParam(required = false) Integer limit) {
+        Pageable pageable = pagination.firstRows(limit);
+        List<Customer> customers = customerService.getCustomersAfter(after == null ? 0L : after, pageable);
+        return pagination.respond(customers, pageable, Customer::getId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(@RequestParam(defaultValue = "ndjson") String format) {
+        return export.respond(format, "customers",
+                List.of("id", "name", "email", "phone", "address", "createdAt"),
+                customerService::streamAllCustomers,
+                customer -> Arrays.asList(customer.getId(), customer.getName(), customer.getEmail(),
+                        customer.getPhone(), customer.getAddress(), customer.getCreatedAt()));
     }
 
     @GetMapping("/{id}")
@@ -1,13 +1,22 @@
 package com.shop.controller;
 
-import com.shop.model.Customer;
+import com.shop.config.IdempotencyKeys;
+import com.shop.config.KeysetPagination;
+import com.shop.config.StreamingExport;
 import com.shop.model.Order;
+import com.shop.model.OrderItem;
+import com.shop.model.Product;
 import com.shop.repository.OrderRepository;
 import com.shop.service.CustomerService;
+import com.shop.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +29,47 @@ public class OrderController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired
+    private StreamingExport export;
+
+    @Autowired
+    private IdempotencyKeys idempotencyKeys;
+
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    public ResponseEntity<List<Order>> getAllOrders(@RequestParam(required = false) Long after,
+                                                    @RequestParam(required = false) Integer limit) {
+        Pageable pageable = pagination.firstRows(limit);
+        List<Order> orders = orderService.getOrdersAfter(after == null ? 0L : after, pageable);
+        return pagination.respond(orders, pageable, Order::getId);
+    }
+
+    // One line per order item, repeating the order's columns; an order without items gets a single line
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "ndjson") String format) {
+        return export.respond(format, "orders",
+                List.of("orderId", "orderDate", "status", "total", "customerId", "customerName", "customerEmail",
+                        "customerPhone", "shippingAddress", "itemId", "productId", "productName", "quantity", "price"),
+                orderService::streamOrderLines,
+                line -> {
+                    Order order = (Order) line[0];
+                    OrderItem item = (OrderItem) line[1];
+                    Product product = item == null ? null : item.getProduct();
+                    return Arrays.asList(order.getId(), order.getOrderDate(), order.getStatus(), order.getTotal(),
+                            order.getCustomer() == null ? null : order.getCustomer().getId(),
+                            order.getCustomerName(), order.getCustomerEmail(), order.getCustomerPhone(),
+                            order.getShippingAddress(),
+                            item == null ? null : item.getId(),
+                            product == null ? null : product.getId(),
+                            product == null ? null : product.getName(),
+                            item == null ? null : item.getQuantity(),
+                            item == null ? null : item.getPrice());
+                });
     }
 
     @GetMapping("/{id}")
@@ -30,27 +77,16 @@ public class OrderController {
         return orderRepository.findById(id);
     }
 
+    // A retry carrying the same Idempotency-Key gets the order the first request created
     @PostMapping
-    public Order createOrder(@RequestBody Order order) {
-        // Check if customer exists by email
-        Optional<Customer> existingCustomer = customerService.getCustomerByEmail(order.getCustomerEmail());
-        
-        Customer customer;
-        if (existingCustomer.isPresent()) {
-            // Customer exists, use existing customer
-            customer = existingCustomer.get();
-        } else {
-            // Customer doesn't exist, create new customer
-            customer = new Customer();
-            customer.setName(order.getCustomerName());
-            customer.setEmail(order.getCustomerEmail());
-            customer.setPhone(order.getCustomerPhone());
-            customer.setAddress(order.getShippingAddress());
-            customer = customerService.saveCustomer(customer);
-        }
-        
-        // Associate the customer with the order
-        order.setCustomer(customer);
+    public ResponseEntity<Order> createOrder(@RequestBody Order order,
+                                             @RequestHeader(value = IdempotencyKeys.HEADER, required = false) String idempotencyKey) {
+        return idempotencyKeys.execute("orders", idempotencyKey, order, () -> ResponseEntity.ok(placeOrder(order)));
+    }
+
+    private Order placeOrder(Order order) {
+        // Associate the customer with the order, creating the customer if the email is new
+        order.setCustomer(customerService.getOrCreateCustomer(order));
         
         // Set order date if not already set
         if (order.getOrderDate() == null) {
@@ -62,6 +98,6 @@ public class OrderController {
 
     @DeleteMapping("/{id}")
     public void deleteOrder(@PathVariable Long id) {
-        orderRepository.deleteById(id);
+        orderService.deleteOrder(id);
     }
 }
@@ -1,10 +1,26 @@
 package com.shop.controller;
 
+import com.shop.config.ConditionalRequests;
+import com.shop.config.KeysetPagination;
+import com.shop.config.StreamingExport;
+import com.shop.model.Category;
 import com.shop.model.Product;
+import com.shop.service.CatalogSnapshot;
+import com.shop.service.EncodedCatalog;
+import com.shop.service.ProductImport;
+import com.shop.service.ProductImportService;
 import com.shop.service.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,19 +30,94 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired(required = false)
+    private CatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private StreamingExport export;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    // Without after or limit the whole catalog is returned, as before
     @GetMapping
-    public List<Product> getAllProducts() {
-        return productService.getAllProducts();
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) Long after,
+                                            @RequestParam(required = false) Integer limit,
+                                            ServletWebRequest request) {
+        if (after == null && limit == null) {
+            EncodedCatalog snapshot = catalogSnapshot == null ? null : catalogSnapshot.getProducts();
+            if (snapshot != null) {
+                return ConditionalRequests.serve(request, snapshot);
+            }
+            if (ConditionalRequests.notModified(request, "products", productService.getProductsStamp())) {
+                return null;
+            }
+            return ResponseEntity.ok(productService.getAllProducts());
+        }
+        Pageable pageable = pagination.firstRows(limit);
+        List<Product> products = productService.getProductsAfter(after == null ? 0L : after, pageable);
+        return pagination.respond(products, pageable, Product::getId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format) {
+        return export.respond(format, "products",
+                List.of("id", "name", "description", "price", "imageUrl", "categoryId", "categoryName", "lastModified"),
+                productService::streamAllProducts,
+                product -> {
+                    Category category = product.getCategory();
+                    return Arrays.asList(product.getId(), product.getName(), product.getDescription(), product.getPrice(),
+                            product.getImageUrl(), category == null ? null : category.getId(),
+                            category == null ? null : category.getName(), product.getLastModified());
+                });
+    }
+
+    // The body is the file itself, NDJSON or CSV with a header row, with the fields name, price, description,
+    // imageUrl and categoryName; other fields are ignored, so an export can be imported again
+    @PostMapping("/import")
+    public ResponseEntity<ProductImport> importProducts(@RequestParam(defaultValue = "ndjson") String format,
+                                                        InputStream body) throws IOException {
+        if (!"ndjson".equalsIgnoreCase(format) && !"csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ProductImport productImport = productImportService.submit(format, body);
+        return ResponseEntity.accepted()
+                .location(URI.create("/products/import/" + productImport.getId()))
+                .body(productImport);
+    }
+
+    @GetMapping("/import/{id}")
+    public ResponseEntity<ProductImport> getImport(@PathVariable String id) {
+        ProductImport productImport = productImportService.getImport(id);
+        return productImport == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(productImport);
     }
 
     @GetMapping("/{id}")
-    public Optional<Product> getProductById(@PathVariable Long id) {
+    public Optional<Product> getProductById(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalRequests.notModified(request, "product-" + id, productService.getProductStamp(id))) {
+            return null;
+        }
         return productService.getProductById(id);
     }
 
     @GetMapping("/category/{categoryId}")
-    public List<Product> getProductsByCategory(@PathVariable Long categoryId) {
-        return productService.getProductsByCategory(categoryId);
+    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable Long categoryId,
+                                                               @RequestParam(required = false) Long after,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               ServletWebRequest request) {
+        if (after == null && limit == null) {
+            if (ConditionalRequests.notModified(request, "products-of-category-" + categoryId,
+                    productService.getProductsByCategoryStamp(categoryId))) {
+                return null;
+            }
+            return ResponseEntity.ok(productService.getProductsByCategory(categoryId));
+        }
+        Pageable pageable = pagination.firstRows(limit);
+        List<Product> products = productService.getProductsByCategoryAfter(categoryId, after == null ? 0L : after, pageable);
+        return pagination.respond(products, pageable, Product::getId);
     }
 
     @PostMapping
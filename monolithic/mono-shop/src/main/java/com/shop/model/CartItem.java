@@ -1,13 +1,17 @@
 package com.shop.model;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "cart_items")
+@Table(name = "cart_items",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cart_items_session_product",
+                columnNames = {"session_id", "product_id"}))
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_items_seq")
+    @SequenceGenerator(name = "cart_items_seq", sequenceName = "cart_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -16,8 +20,12 @@ public class CartItem {
 
     private Integer quantity;
 
+    @Column(name = "session_id")
     private String sessionId; // For anonymous cart sessions
 
+    @Column(name = "last_touched_at", nullable = false)
+    private LocalDateTime lastTouchedAt; // Used to reap carts of expired sessions
+
     // Constructors
     public CartItem() {}
 
@@ -59,4 +67,18 @@ public class CartItem {
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
     }
+
+    public LocalDateTime getLastTouchedAt() {
+        return lastTouchedAt;
+    }
+
+    public void setLastTouchedAt(LocalDateTime lastTouchedAt) {
+        this.lastTouchedAt = lastTouchedAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.lastTouchedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
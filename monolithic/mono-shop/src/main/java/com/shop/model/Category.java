@@ -4,17 +4,26 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+
+import java.time.LocalDateTime;
 
 @Entity
 public class Category {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+	@SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = 50)
 	private Long id;
 	private String name;
 	private String description;
 	private String imageUrl;
 
+	// Drives the ETag and Last-Modified headers of the catalog endpoints
+	private LocalDateTime lastModified;
+
 	public Long getId() {
 		return id;
 	}
@@ -47,4 +56,18 @@ public class Category {
 		this.imageUrl = imageUrl;
 	}
 
+	public LocalDateTime getLastModified() {
+		return lastModified;
+	}
+
+	public void setLastModified(LocalDateTime lastModified) {
+		this.lastModified = lastModified;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void touch() {
+		this.lastModified = LocalDateTime.now();
+	}
+
 }
\ No newline at end of file
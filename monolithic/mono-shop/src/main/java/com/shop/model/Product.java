@@ -6,12 +6,18 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+
+import java.time.LocalDateTime;
 
 @Entity
 public class Product {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+	@SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
 	private Long id;
 	private String name;
 	private Double price;
@@ -23,6 +29,9 @@ public class Product {
 	private String description;
 	private String imageUrl;
 
+	// Drives the ETag and Last-Modified headers of the catalog endpoints
+	private LocalDateTime lastModified;
+
 	public Long getId() {
 		return id;
 	}
@@ -71,4 +80,18 @@ public class Product {
 		this.imageUrl = imageUrl;
 	}
 
+	public LocalDateTime getLastModified() {
+		return lastModified;
+	}
+
+	public void setLastModified(LocalDateTime lastModified) {
+		this.lastModified = lastModified;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void touch() {
+		this.lastModified = LocalDateTime.now();
+	}
+
 }
\ No newline at end of file
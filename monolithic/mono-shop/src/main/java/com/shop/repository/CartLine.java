@@ -0,0 +1,8 @@
+package com.shop.repository;
+
+// Product and quantity of one cart row
+public interface CartLine {
+    Long getProductId();
+
+    Integer getQuantity();
+}
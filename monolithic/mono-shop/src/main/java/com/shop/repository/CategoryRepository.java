@@ -1,7 +1,33 @@
 package com.shop.repository;
 
 import com.shop.model.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    List<Category> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Category> findByNameIn(Collection<String> names);
+
+    @Query("SELECT COUNT(c) AS count, MAX(c.lastModified) AS lastModified FROM Category c")
+    CatalogStamp findStamp();
+
+    @Query("SELECT COUNT(c) AS count, MAX(c.lastModified) AS lastModified FROM Category c WHERE c.id = :id")
+    CatalogStamp findStampById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.category = null, p.lastModified = :now WHERE p.category.id = :categoryId")
+    int detachProducts(@Param("categoryId") Long categoryId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Category c WHERE c.id = :id")
+    int deleteCategoryById(@Param("id") Long id);
 }
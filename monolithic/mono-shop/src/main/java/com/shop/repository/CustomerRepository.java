@@ -1,13 +1,40 @@
 package com.shop.repository;
 
 import com.shop.model.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Inserts the customer unless the email is taken, in which case the existing customer is returned unchanged;
+    // atomic against concurrent calls for the same email. The no-op update is what makes RETURNING see that row.
+    @Transactional
+    @Query(value = "INSERT INTO customers (name, email, phone, address, created_at) " +
+            "VALUES (:name, :email, :phone, :address, :createdAt) " +
+            "ON CONFLICT (email) WHERE email IS NOT NULL DO UPDATE SET email = EXCLUDED.email " +
+            "RETURNING *", nativeQuery = true)
+    Customer upsertByEmail(@Param("email") String email, @Param("name") String name, @Param("phone") String phone,
+                           @Param("address") String address, @Param("createdAt") LocalDateTime createdAt);
+
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Customer c ORDER BY c.id")
+    Stream<Customer> streamAllOrderById();
 }
@@ -1,7 +1,21 @@
 package com.shop.repository;
 
 import com.shop.model.OrderItem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"product", "product.category"})
+    List<OrderItem> findAll();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderItem i WHERE i.order.id = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
 }
@@ -1,10 +1,56 @@
 package com.shop.repository;
 
 import com.shop.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<Product> findAll();
+
+    @EntityGraph(attributePaths = "category")
     List<Product> findByCategoryId(Long categoryId);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findByCategoryIdAndIdGreaterThanOrderByIdAsc(Long categoryId, Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findByIdIn(Collection<Long> ids);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category ORDER BY p.id")
+    Stream<Product> streamAllOrderById();
+
+    // A product's JSON embeds its category, so the category's modification time counts as well
+    @Query("SELECT COUNT(p) AS count, GREATEST(MAX(p.lastModified), MAX(c.lastModified)) AS lastModified " +
+            "FROM Product p LEFT JOIN p.category c")
+    CatalogStamp findStamp();
+
+    @Query("SELECT COUNT(p) AS count, GREATEST(MAX(p.lastModified), MAX(c.lastModified)) AS lastModified " +
+            "FROM Product p JOIN p.category c WHERE c.id = :categoryId")
+    CatalogStamp findStampByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query("SELECT COUNT(p) AS count, GREATEST(MAX(p.lastModified), MAX(c.lastModified)) AS lastModified " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.id = :id")
+    CatalogStamp findStampById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Product p WHERE p.id = :id")
+    int deleteProductById(@Param("id") Long id);
 }
@@ -0,0 +1,11 @@
+package com.shop.repository;
+
+// Settings of the repository queries that stream a whole table
+public final class StreamingQueries {
+
+    // JDBC fetch size of the streaming queries, a String because query hint values are constant strings
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingQueries() {
+    }
+}
@@ -0,0 +1,26 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+
+import java.util.List;
+import java.util.Map;
+
+public interface CartStore {
+
+    List<CartItem> getItems(String sessionId);
+
+    CartItem addItem(String sessionId, Product product, Integer quantity);
+
+    // Returns null when the item was removed because the quantity dropped to zero
+    CartItem updateItem(Long itemId, Integer quantity);
+
+    void removeItem(Long itemId);
+
+    void clear(String sessionId);
+
+    // Empties the cart and returns its quantities by product ID; the items come back if the caller's transaction rolls back
+    Map<Long, Integer> takeItems(String sessionId);
+
+    Integer countItems(String sessionId);
+}
@@ -0,0 +1,50 @@
+package com.shop.service;
+
+import com.shop.model.Category;
+import com.shop.model.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Loads the catalog once at startup and fills the per-product and per-category caches from it
+@Component
+@ConditionalOnProperty(name = "catalog.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogCacheWarmer {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCaches() {
+        List<Category> categories = categoryService.getAllCategories();
+        List<Product> products = productService.getAllProducts();
+
+        Cache productCache = cacheManager.getCache("product");
+        Map<Long, List<Product>> productsByCategory = new HashMap<>();
+        for (Category category : categories) {
+            productsByCategory.put(category.getId(), new ArrayList<>());
+        }
+        for (Product product : products) {
+            productCache.putIfAbsent(product.getId(), product);
+            if (product.getCategory() != null) {
+                productsByCategory.computeIfAbsent(product.getCategory().getId(), id -> new ArrayList<>()).add(product);
+            }
+        }
+        Cache categoryCache = cacheManager.getCache("productsByCategory");
+        productsByCategory.forEach(categoryCache::putIfAbsent);
+    }
+}
@@ -0,0 +1,5 @@
+package com.shop.service;
+
+// Published by the catalog services after a product or category write
+public class CatalogChangedEvent {
+}
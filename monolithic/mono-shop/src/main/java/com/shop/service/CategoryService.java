@@ -1,10 +1,17 @@
 package com.shop.service;
 
 import com.shop.model.Category;
+import com.shop.repository.CatalogStamp;
 import com.shop.repository.CategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,19 +20,46 @@ public class CategoryService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Cacheable("categories")
     public List<Category> getAllCategories() {
         return categoryRepository.findAll();
     }
 
+    public List<Category> getCategoriesAfter(Long afterId, Pageable pageable) {
+        return categoryRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+
+    @Cacheable(cacheNames = "catalogStamps", key = "'categories'")
+    public CatalogStamp getCategoriesStamp() {
+        return categoryRepository.findStamp();
+    }
+
+    @Cacheable(cacheNames = "catalogStamps", key = "'category-' + #id")
+    public CatalogStamp getCategoryStamp(Long id) {
+        return categoryRepository.findStampById(id);
+    }
+
     public Optional<Category> getCategoryById(Long id) {
         return categoryRepository.findById(id);
     }
 
+    // Products embed their category, so the product caches are dropped as well
+    @CacheEvict(cacheNames = {"categories", "product", "products", "productsByCategory", "catalogStamps"}, allEntries = true)
     public Category saveCategory(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return saved;
     }
 
+    // Products of a deleted category are kept and left without a category
+    @CacheEvict(cacheNames = {"categories", "product", "products", "productsByCategory", "catalogStamps"}, allEntries = true)
+    @Transactional
     public void deleteCategory(Long id) {
-        categoryRepository.deleteById(id);
+        categoryRepository.detachProducts(id, LocalDateTime.now());
+        categoryRepository.deleteCategoryById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
     }
 }
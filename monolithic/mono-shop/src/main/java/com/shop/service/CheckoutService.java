@@ -0,0 +1,80 @@
+package com.shop.service;
+
+import com.shop.model.Order;
+import com.shop.model.OrderItem;
+import com.shop.model.Product;
+import com.shop.repository.OrderRepository;
+import com.shop.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Turns the session's cart into an order in one transaction: the cart is read and emptied together,
+// every product is re-priced by one IN query and the order is inserted with its items in JDBC batches.
+// Anything that fails rolls the whole checkout back, so the cart is only gone once the order exists.
+@Service
+public class CheckoutService {
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    // Only the contact details of the given order are used; items, prices and total come from the cart
+    @Transactional
+    public Order checkout(String sessionId, Order details) {
+        Map<Long, Integer> quantities = cartStore.takeItems(sessionId);
+        quantities.values().removeIf(quantity -> quantity == null || quantity <= 0);
+        if (quantities.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Cart is empty");
+        }
+
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findByIdIn(quantities.keySet())) {
+            products.put(product.getId(), product);
+        }
+
+        Order order = new Order();
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus("PENDING");
+        order.setCustomerName(details.getCustomerName());
+        order.setCustomerEmail(details.getCustomerEmail());
+        order.setCustomerPhone(details.getCustomerPhone());
+        order.setShippingAddress(details.getShippingAddress());
+        order.setCustomer(customerService.getOrCreateCustomer(details));
+
+        List<OrderItem> items = new ArrayList<>(quantities.size());
+        double total = 0;
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            Product product = products.get(line.getKey());
+            if (product == null || product.getPrice() == null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Product " + line.getKey() + " is no longer available");
+            }
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(line.getValue());
+            item.setPrice(product.getPrice());
+            items.add(item);
+            total += product.getPrice() * line.getValue();
+        }
+        order.setItems(items);
+        order.setTotal(total);
+        return orderRepository.save(order);
+    }
+}
@@ -1,12 +1,16 @@
 package com.shop.service;
 
 import com.shop.model.Customer;
+import com.shop.model.Order;
 import com.shop.repository.CustomerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class CustomerService {
@@ -18,6 +22,15 @@ public class CustomerService {
         return customerRepository.findAll();
     }
 
+    public List<Customer> getCustomersAfter(Long afterId, Pageable pageable) {
+        return customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+
+    // Must be consumed and closed inside a transaction
+    public Stream<Customer> streamAllCustomers() {
+        return customerRepository.streamAllOrderById();
+    }
+
     public Optional<Customer> getCustomerById(Long id) {
         return customerRepository.findById(id);
     }
@@ -26,6 +39,25 @@ public class CustomerService {
         return customerRepository.findByEmail(email);
     }
 
+    // The customer with this email, created from the order's contact details if there is none yet.
+    // Concurrent orders from a new email meet in the upsert and share one customer.
+    public Customer getOrCreateCustomer(Order order) {
+        Optional<Customer> existingCustomer = customerRepository.findByEmail(order.getCustomerEmail());
+        if (existingCustomer.isPresent()) {
+            return existingCustomer.get();
+        }
+        if (order.getCustomerEmail() != null) {
+            return customerRepository.upsertByEmail(order.getCustomerEmail(), order.getCustomerName(),
+                    order.getCustomerPhone(), order.getShippingAddress(), LocalDateTime.now());
+        }
+        Customer customer = new Customer();
+        customer.setName(order.getCustomerName());
+        customer.setEmail(order.getCustomerEmail());
+        customer.setPhone(order.getCustomerPhone());
+        customer.setAddress(order.getShippingAddress());
+        return customerRepository.save(customer);
+    }
+
     public Customer saveCustomer(Customer customer) {
         return customerRepository.save(customer);
     }
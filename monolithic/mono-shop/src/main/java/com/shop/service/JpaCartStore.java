@@ -0,0 +1,83 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+import com.shop.repository.CartLine;
+import com.shop.repository.CartRepository;
+import com.shop.repository.UpsertedItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Transactional
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Override
+    public List<CartItem> getItems(String sessionId) {
+        return cartRepository.findBySessionId(sessionId);
+    }
+
+    @Override
+    public CartItem addItem(String sessionId, Product product, Integer quantity) {
+        LocalDateTime touchedAt = LocalDateTime.now();
+        UpsertedItem row = cartRepository.upsertItem(sessionId, product.getId(), quantity, touchedAt);
+        CartItem item = new CartItem(product, row.getQuantity(), sessionId);
+        item.setId(row.getId());
+        item.setLastTouchedAt(touchedAt);
+        return item;
+    }
+
+    @Override
+    public CartItem updateItem(Long itemId, Integer quantity) {
+        Optional<CartItem> itemOpt = cartRepository.findById(itemId);
+        if (itemOpt.isEmpty()) {
+            throw new RuntimeException("Cart item not found");
+        }
+
+        CartItem item = itemOpt.get();
+        if (quantity <= 0) {
+            cartRepository.delete(item);
+            return null;
+        } else {
+            item.setQuantity(quantity);
+            return cartRepository.save(item);
+        }
+    }
+
+    @Override
+    public void removeItem(Long itemId) {
+        cartRepository.deleteItemById(itemId);
+    }
+
+    @Override
+    public void clear(String sessionId) {
+        cartRepository.deleteBySessionId(sessionId);
+    }
+
+    @Override
+    public Map<Long, Integer> takeItems(String sessionId) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (CartLine line : cartRepository.removeBySessionId(sessionId)) {
+            quantities.put(line.getProductId(), line.getQuantity());
+        }
+        return quantities;
+    }
+
+    @Override
+    public Integer countItems(String sessionId) {
+        Integer count = cartRepository.countItemsBySessionId(sessionId);
+        return count != null ? count : 0;
+    }
+}
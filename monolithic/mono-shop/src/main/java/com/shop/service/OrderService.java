@@ -1,22 +1,42 @@
 package com.shop.service;
 
 import com.shop.model.Order;
+import com.shop.repository.OrderItemRepository;
 import com.shop.repository.OrderRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
 
+    public List<Order> getOrdersAfter(Long afterId, Pageable pageable) {
+        List<Long> ids = orderRepository.findIdsByIdGreaterThan(afterId, pageable);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findByIdInOrderByIdAsc(ids);
+    }
+
+    // Pairs of order and order item (null for an order without items); must be consumed and closed inside a transaction
+    public Stream<Object[]> streamOrderLines() {
+        return orderRepository.streamOrderLines();
+    }
+
     public Optional<Order> getOrderById(Long id) {
         return orderRepository.findById(id);
     }
@@ -25,7 +45,10 @@ public class OrderService {
         return orderRepository.save(order);
     }
 
+    // One statement per table instead of loading the order and cascading over its items
+    @Transactional
     public void deleteOrder(Long id) {
-        orderRepository.deleteById(id);
+        orderItemRepository.deleteByOrderId(id);
+        orderRepository.deleteOrderById(id);
     }
 }
@@ -0,0 +1,341 @@
+package com.shop.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.shop.model.Category;
+import com.shop.repository.CategoryRepository;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Bulk product import: the upload is spooled to a temporary file and loaded by a background thread
+// in batches through Postgres COPY, instead of one saveProduct transaction per product.
+// Category names are resolved once per distinct name; rows that fail validation are skipped and reported.
+@Service
+public class ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    private static final String COPY_SQL =
+            "COPY product (id, name, description, price, image_url, category_id, last_modified) FROM STDIN WITH (FORMAT csv)";
+
+    // allocationSize of product_seq
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private static final int RETAINED_IMPORTS = 100;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${product.import.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${product.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The most recent imports, so their progress can still be read after they have finished
+    private final Map<String, ProductImport> imports = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ProductImport> eldest) {
+            return size() > RETAINED_IMPORTS;
+        }
+    });
+
+    private static class PendingRow {
+        final long row;
+        final String name;
+        final String description;
+        final double price;
+        final String imageUrl;
+        final String categoryName;
+
+        PendingRow(long row, String name, String description, double price, String imageUrl, String categoryName) {
+            this.row = row;
+            this.name = name;
+            this.description = description;
+            this.price = price;
+            this.imageUrl = imageUrl;
+            this.categoryName = categoryName;
+        }
+    }
+
+    // Imports run one at a time in the order they were submitted
+    public ProductImport submit(String format, InputStream body) throws IOException {
+        Path file = Files.createTempFile("product-import-", "." + format);
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        ProductImport productImport = new ProductImport(UUID.randomUUID().toString(), format, maxReportedErrors);
+        imports.put(productImport.getId(), productImport);
+        executor.execute(() -> run(productImport, file));
+        return productImport;
+    }
+
+    public ProductImport getImport(String id) {
+        return imports.get(id);
+    }
+
+    private void run(ProductImport productImport, Path file) {
+        productImport.started();
+        Exception failure = null;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Long> categoryIds = new HashMap<>();
+            List<PendingRow> batch = new ArrayList<>(batchSize);
+            long row = 0;
+            if ("csv".equalsIgnoreCase(productImport.getFormat())) {
+                MappingIterator<Map<String, Object>> records = CSV_MAPPER.readerFor(Map.class)
+                        .with(CsvSchema.emptySchema().withHeader())
+                        .readValues(reader);
+                while (records.hasNextValue()) {
+                    accept(productImport, ++row, records.nextValue(), batch, categoryIds);
+                }
+            } else {
+                // Parsed line by line, so a malformed line is reported like any other invalid row
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    row++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    Map<String, Object> values;
+                    try {
+                        values = objectMapper.readValue(line, Map.class);
+                    } catch (JsonProcessingException e) {
+                        productImport.rowRead();
+                        productImport.rejected(row, "not a JSON object: " + e.getOriginalMessage());
+                        continue;
+                    }
+                    accept(productImport, row, values, batch, categoryIds);
+                }
+            }
+            load(productImport, batch, categoryIds);
+        } catch (Exception e) {
+            log.warn("Product import {} failed", productImport.getId(), e);
+            failure = e;
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete {}", file, e);
+            }
+        }
+        // Caches are dropped before the import is reported as finished
+        if (productImport.getRowsImported() > 0) {
+            productService.productsImported();
+        }
+        if (failure == null) {
+            productImport.completed();
+        } else {
+            productImport.failed(failure.getMessage());
+        }
+    }
+
+    private void accept(ProductImport productImport, long row, Map<String, Object> values,
+                        List<PendingRow> batch, Map<String, Long> categoryIds) throws Exception {
+        productImport.rowRead();
+        String name = text(values.get("name"));
+        String description = text(values.get("description"));
+        String imageUrl = text(values.get("imageUrl"));
+        String categoryName = text(values.get("categoryName"));
+        String price = text(values.get("price"));
+
+        String error = null;
+        if (name == null) {
+            error = "name is required";
+        } else if (price == null) {
+            error = "price is required";
+        } else if (tooLong(name) || tooLong(description) || tooLong(imageUrl)) {
+            error = "name, description and imageUrl are limited to " + MAX_TEXT_LENGTH + " characters";
+        } else if (hasNul(name) || hasNul(description) || hasNul(imageUrl)) {
+            error = "text must not contain NUL characters";
+        }
+        double parsedPrice = 0;
+        if (error == null) {
+            try {
+                parsedPrice = Double.parseDouble(price);
+                if (!Double.isFinite(parsedPrice) || parsedPrice < 0) {
+                    error = "price must be a non-negative number";
+                }
+            } catch (NumberFormatException e) {
+                error = "price must be a number: " + price;
+            }
+        }
+        if (error != null) {
+            productImport.rejected(row, error);
+            return;
+        }
+
+        batch.add(new PendingRow(row, name, description, parsedPrice, imageUrl, categoryName));
+        if (batch.size() >= batchSize) {
+            load(productImport, batch, categoryIds);
+        }
+    }
+
+    private void load(ProductImport productImport, List<PendingRow> batch, Map<String, Long> categoryIds) throws Exception {
+        if (batch.isEmpty()) {
+            return;
+        }
+        resolveCategories(batch, categoryIds);
+
+        List<PendingRow> rows = new ArrayList<>(batch.size());
+        for (PendingRow pending : batch) {
+            if (pending.categoryName != null && categoryIds.get(pending.categoryName) == null) {
+                productImport.rejected(pending.row, "unknown category: " + pending.categoryName);
+            } else {
+                rows.add(pending);
+            }
+        }
+        batch.clear();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // Each batch commits on its own, so rows loaded before a failure are kept
+        try (Connection connection = dataSource.getConnection()) {
+            Iterator<Long> ids = allocateIds(connection, rows.size()).iterator();
+            StringBuilder csv = new StringBuilder(rows.size() * 128);
+            String now = Timestamp.valueOf(LocalDateTime.now()).toString();
+            for (PendingRow pending : rows) {
+                csv.append(ids.next()).append(',');
+                appendCsv(csv, pending.name).append(',');
+                appendCsv(csv, pending.description).append(',');
+                csv.append(pending.price).append(',');
+                appendCsv(csv, pending.imageUrl).append(',');
+                if (pending.categoryName != null) {
+                    csv.append(categoryIds.get(pending.categoryName));
+                }
+                csv.append(',').append(now).append('\n');
+            }
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (Exception e) {
+            for (PendingRow pending : rows) {
+                productImport.rejected(pending.row, "batch could not be loaded: " + e.getMessage());
+            }
+            return;
+        }
+        productImport.imported(rows.size());
+    }
+
+    // Ids are taken the way Hibernate's pooled optimizer takes them: each sequence value v reserves v - 49 .. v
+    private static List<Long> allocateIds(Connection connection, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('product_seq') FROM generate_series(1, ?)")) {
+            statement.setInt(1, (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+            try (ResultSet blocks = statement.executeQuery()) {
+                while (blocks.next()) {
+                    long high = blocks.getLong(1);
+                    for (long id = high - ID_BLOCK_SIZE + 1; id <= high && ids.size() < count; id++) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    // Names not seen before in this import are looked up together; names without a category are remembered as missing
+    private void resolveCategories(List<PendingRow> batch, Map<String, Long> categoryIds) {
+        Set<String> unseen = new HashSet<>();
+        for (PendingRow pending : batch) {
+            if (pending.categoryName != null && !categoryIds.containsKey(pending.categoryName)) {
+                unseen.add(pending.categoryName);
+            }
+        }
+        if (unseen.isEmpty()) {
+            return;
+        }
+        for (Category category : categoryRepository.findByNameIn(unseen)) {
+            categoryIds.merge(category.getName(), category.getId(), Math::min);
+        }
+        for (String name : unseen) {
+            categoryIds.putIfAbsent(name, null);
+        }
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static boolean tooLong(String value) {
+        return value != null && value.length() > MAX_TEXT_LENGTH;
+    }
+
+    private static boolean hasNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    // In COPY's CSV format an unquoted empty field is NULL, so every present value is quoted
+    private static StringBuilder appendCsv(StringBuilder csv, String value) {
+        if (value != null) {
+            csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+        return csv;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
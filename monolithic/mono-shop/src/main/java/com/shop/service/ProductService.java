@@ -1,34 +1,93 @@
 package com.shop.service;
 
 import com.shop.model.Product;
+import com.shop.repository.CatalogStamp;
 import com.shop.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Cacheable("products")
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
+    @Cacheable("product")
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
     }
 
+    @Caching(put = @CachePut(cacheNames = "product", key = "#result.id"),
+            evict = @CacheEvict(cacheNames = {"products", "productsByCategory", "catalogStamps"}, allEntries = true))
     public Product saveProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return saved;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "product", key = "#id"),
+            @CacheEvict(cacheNames = {"products", "productsByCategory", "catalogStamps"}, allEntries = true)
+    })
+    @Transactional
     public void deleteProduct(Long id) {
-        productRepository.deleteById(id);
+        productRepository.deleteProductById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+    }
+
+    // Rows loaded in bulk bypass saveProduct, so every cached view of the products is dropped at once
+    @CacheEvict(cacheNames = {"product", "products", "productsByCategory", "catalogStamps"}, allEntries = true)
+    public void productsImported() {
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+    }
+
+    public List<Product> getProductsAfter(Long afterId, Pageable pageable) {
+        return productRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+
+    public List<Product> getProductsByCategoryAfter(Long categoryId, Long afterId, Pageable pageable) {
+        return productRepository.findByCategoryIdAndIdGreaterThanOrderByIdAsc(categoryId, afterId, pageable);
+    }
+
+    // Must be consumed and closed inside a transaction
+    public Stream<Product> streamAllProducts() {
+        return productRepository.streamAllOrderById();
+    }
+
+    @Cacheable(cacheNames = "catalogStamps", key = "'products'")
+    public CatalogStamp getProductsStamp() {
+        return productRepository.findStamp();
+    }
+
+    @Cacheable(cacheNames = "catalogStamps", key = "'products-of-category-' + #categoryId")
+    public CatalogStamp getProductsByCategoryStamp(Long categoryId) {
+        return productRepository.findStampByCategoryId(categoryId);
+    }
+
+    @Cacheable(cacheNames = "catalogStamps", key = "'product-' + #id")
+    public CatalogStamp getProductStamp(Long id) {
+        return productRepository.findStampById(id);
     }
 
+    @Cacheable("productsByCategory")
     public List<Product> getProductsByCategory(Long categoryId) {
         return productRepository.findByCategoryId(categoryId);
     }
@@ -0,0 +1,5 @@
+-- When a category or product last changed, for the catalog's ETag and Last-Modified. Set by the entities on every
+-- write; rows from before stay NULL and count as unchanged. Databases that ran under ddl-auto=update after the column
+-- was mapped already have it.
+ALTER TABLE category ADD COLUMN IF NOT EXISTS last_modified timestamp(6);
+ALTER TABLE product ADD COLUMN IF NOT EXISTS last_modified timestamp(6);
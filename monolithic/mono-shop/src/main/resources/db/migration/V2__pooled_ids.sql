@@ -0,0 +1,35 @@
+-- Moves the id columns from IDENTITY to the pooled sequences the entities allocate from (allocationSize = 50),
+-- which lets Hibernate group inserts and updates into JDBC batches.
+--  * A sequence is created past the highest id ever handed out, so the first block Hibernate takes is above it
+--    and ids of deleted rows are not reused.
+--  * The identity is dropped and the column defaults to the sequence instead, so plain SQL inserts
+--    (seed data, the cart upsert) draw ids that no pooled block will hand out.
+-- Databases that already ran the pre-Flyway version of this script have the sequences and keep their values.
+DO $$
+DECLARE
+    t record;
+    identity_sequence text;
+    max_id bigint;
+    last_id bigint;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('category', 'category_seq'),
+            ('product', 'product_seq'),
+            ('customers', 'customers_seq'),
+            ('orders', 'orders_seq'),
+            ('order_item', 'order_item_seq'),
+            ('cart_items', 'cart_items_seq')) AS v(table_name, sequence_name) LOOP
+        IF to_regclass(t.sequence_name) IS NULL THEN
+            EXECUTE format('SELECT MAX(id) FROM %I', t.table_name) INTO max_id;
+            identity_sequence := pg_get_serial_sequence(t.table_name, 'id');
+            last_id := NULL;
+            IF identity_sequence IS NOT NULL THEN
+                EXECUTE format('SELECT last_value FROM %s', identity_sequence) INTO last_id;
+            END IF;
+            EXECUTE format('CREATE SEQUENCE %I START WITH 1 INCREMENT BY 50', t.sequence_name);
+            PERFORM setval(t.sequence_name, GREATEST(COALESCE(max_id, 0), COALESCE(last_id, 0)) + 50);
+        END IF;
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t.table_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t.table_name, t.sequence_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,24 @@
+-- Orders accepted by order-service's asynchronous intake (order.intake.async.enabled) and placed later by its workers.
+-- A row is QUEUED until a worker claims it (PROCESSING), then ends up DONE with the order's id or FAILED with the
+-- last error. The status is polled through GET /orders/intake/{id}.
+CREATE SEQUENCE order_intake_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE order_intake (
+    id bigint NOT NULL DEFAULT nextval('order_intake_seq'),
+    payload text NOT NULL,
+    status varchar(20) NOT NULL,
+    attempts integer NOT NULL,
+    available_at timestamp(6) NOT NULL,
+    claimed_at timestamp(6),
+    order_id bigint,
+    error text,
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT order_intake_pkey PRIMARY KEY (id)
+);
+
+-- Workers claim the oldest available row with FOR UPDATE SKIP LOCKED, and the intake counts the backlog, from this
+-- index alone; finished rows drop out of it
+CREATE INDEX idx_order_intake_pending ON order_intake (available_at, id) WHERE status IN ('QUEUED', 'PROCESSING');
+
+-- Finished rows are purged by age
+CREATE INDEX idx_order_intake_created_at ON order_intake (created_at) WHERE status IN ('DONE', 'FAILED');
@@ -0,0 +1,14 @@
+-- Customers are resolved by email, so each email may belong to one customer only. Duplicates created by concurrent
+-- look-up-then-insert are merged into the oldest customer with the email: their orders move to it, then they go.
+UPDATE orders o
+SET customer_id = d.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY email) AS keep_id FROM customers WHERE email IS NOT NULL) d
+WHERE o.customer_id = d.id AND d.id <> d.keep_id;
+
+DELETE FROM customers c
+USING customers k
+WHERE c.email = k.email AND c.id > k.id;
+
+-- Same lookups as before, now also the conflict target of the email upsert (INSERT ... ON CONFLICT (email))
+DROP INDEX idx_customers_email;
+CREATE UNIQUE INDEX idx_customers_email ON customers (email) WHERE email IS NOT NULL;
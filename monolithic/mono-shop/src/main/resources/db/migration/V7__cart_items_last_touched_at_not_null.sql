@@ -0,0 +1,7 @@
+-- Rows written before last_touched_at existed count as touched now, so the reaper gives them a full session timeout
+-- instead of treating them as abandoned. Every write sets the column from then on, and the reaper's queries need not
+-- handle NULL.
+UPDATE cart_items SET last_touched_at = now() WHERE last_touched_at IS NULL;
+
+ALTER TABLE cart_items ALTER COLUMN last_touched_at SET DEFAULT now();
+ALTER TABLE cart_items ALTER COLUMN last_touched_at SET NOT NULL;
@@ -0,0 +1,59 @@
+package com.shop;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The hot-path queries must be able to use the indexes the migrations create. Sequential scans are
+// switched off because on a small test database the planner would rightly prefer them.
+@SpringBootTest
+class SchemaMigrationTest {
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void allMigrationsAreApplied() {
+		assertThat(flyway.info().pending()).isEmpty();
+		assertThat(flyway.info().current()).isNotNull();
+	}
+
+	@Test
+	void categoryPagesUseThePartialCoveringIndex() {
+		assertThat(plan("SELECT * FROM product WHERE category_id = 1 AND id > 0 ORDER BY id LIMIT 50"))
+				.contains("idx_product_category_id");
+		assertThat(plan("SELECT COUNT(*), MAX(last_modified) FROM product WHERE category_id = 1"))
+				.contains("idx_product_category_id");
+	}
+
+	@Test
+	void lookupsByForeignKeyAndEmailUseIndexes() {
+		assertThat(plan("SELECT * FROM customers WHERE email = 'a@example.com'")).contains("idx_customers_email");
+		assertThat(plan("SELECT * FROM order_item WHERE order_id = 1")).contains("idx_order_item_order_id");
+		assertThat(plan("SELECT 1 FROM order_item WHERE product_id = 1")).contains("idx_order_item_product_id");
+		assertThat(plan("SELECT 1 FROM cart_items WHERE product_id = 1")).contains("idx_cart_items_product_id");
+		assertThat(plan("SELECT 1 FROM orders WHERE customer_id = 1")).contains("idx_orders_customer_id");
+	}
+
+	private String plan(String sql) {
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+			List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+			return String.join("\n", lines);
+		});
+	}
+}
@@ -0,0 +1,82 @@
+package com.shop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeysTest {
+
+	private static final String SCOPE = "test";
+
+	private static final String REQUEST = "request";
+
+	private final IdempotencyKeys idempotencyKeys = new IdempotencyKeys();
+
+	@BeforeEach
+	void configure() {
+		ReflectionTestUtils.setField(idempotencyKeys, "ttl", Duration.ofHours(1));
+		ReflectionTestUtils.setField(idempotencyKeys, "maxKeys", 3);
+		ReflectionTestUtils.setField(idempotencyKeys, "waitTimeout", Duration.ofSeconds(10));
+		ReflectionTestUtils.setField(idempotencyKeys, "objectMapper", new ObjectMapper());
+	}
+
+	@Test
+	void finishedKeysBehindARunningRequestAreStillEvicted() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<ResponseEntity<String>> running = executor.submit(() -> idempotencyKeys.execute(SCOPE, "running", REQUEST, () -> {
+				started.countDown();
+				await(release);
+				return ResponseEntity.ok("running");
+			}));
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+			AtomicInteger runs = new AtomicInteger();
+			for (int i = 0; i < 5; i++) {
+				execute("finished-" + i, runs);
+			}
+			assertThat(runs).hasValue(5);
+
+			// Only max-keys are kept, so the oldest finished key was evicted and runs again
+			execute("finished-0", runs);
+			assertThat(runs).hasValue(6);
+
+			// The running request was not evicted, so its retry still waits for it
+			Future<ResponseEntity<String>> retry = executor.submit(() -> idempotencyKeys.execute(SCOPE, "running", REQUEST,
+					() -> ResponseEntity.ok("ran twice")));
+			release.countDown();
+			assertThat(running.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("running");
+			assertThat(retry.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("running");
+			assertThat(retry.get().getHeaders().getFirst(IdempotencyKeys.REPLAYED_HEADER)).isEqualTo("true");
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private void execute(String key, AtomicInteger runs) {
+		idempotencyKeys.execute(SCOPE, key, REQUEST, () -> ResponseEntity.ok(String.valueOf(runs.incrementAndGet())));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.shop.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"spring.threads.virtual.enabled=true", "virtual-threads.pinning-threshold=10ms"})
+class VirtualThreadPinningTest {
+
+	private final Object monitor = new Object();
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void sleepingInsideSynchronizedIsReportedWithTheApplicationFrame() throws Exception {
+		Thread.ofVirtual().start(this::sleepHoldingMonitor).join();
+
+		// The JFR stream delivers events about once a second
+		Timer pinned = null;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+		while (pinned == null && System.nanoTime() < deadline) {
+			pinned = meterRegistry.find("jvm.threads.virtual.pinned")
+					.tag("frame", VirtualThreadPinningTest.class.getName() + ".sleepHoldingMonitor")
+					.timer();
+			Thread.sleep(100);
+		}
+		assertThat(pinned).isNotNull();
+		assertThat(pinned.count()).isEqualTo(1);
+		assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+	}
+
+	private void sleepHoldingMonitor() {
+		synchronized (monitor) {
+			try {
+				Thread.sleep(60);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
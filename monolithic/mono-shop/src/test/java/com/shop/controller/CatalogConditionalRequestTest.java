@@ -0,0 +1,96 @@
+package com.shop.controller;
+
+import com.shop.model.Category;
+import com.shop.model.Product;
+import com.shop.service.CatalogSnapshot;
+import com.shop.service.CategoryService;
+import com.shop.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CatalogConditionalRequestTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private CatalogSnapshot catalogSnapshot;
+
+	private Category category;
+	private Product product;
+
+	@BeforeEach
+	void createProduct() throws InterruptedException {
+		category = new Category();
+		category.setName("ETag test category");
+		category = categoryService.saveCategory(category);
+
+		product = new Product();
+		product.setName("ETag test product");
+		product.setPrice(1.0);
+		product.setCategory(category);
+		product = productService.saveProduct(product);
+
+		// Keep the full lists on one representation for the whole test
+		long deadline = System.currentTimeMillis() + 10_000;
+		while ((catalogSnapshot.getProducts() == null || catalogSnapshot.getCategories() == null)
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		productService.deleteProduct(product.getId());
+		categoryService.deleteCategory(category.getId());
+	}
+
+	@Test
+	void unchangedResourcesAnswer304UntilTheyChange() throws Exception {
+		String[] paths = {
+				"/products",
+				"/products/" + product.getId(),
+				"/products/category/" + category.getId(),
+				"/categories",
+				"/categories/" + category.getId()
+		};
+		String[] etags = new String[paths.length];
+		for (int i = 0; i < paths.length; i++) {
+			etags[i] = mockMvc.perform(get(paths[i]))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader("ETag");
+			assertThat(etags[i]).as(paths[i]).startsWith("\"");
+			mockMvc.perform(get(paths[i]).header("If-None-Match", etags[i]))
+					.andExpect(status().isNotModified())
+					.andExpect(content().string(""));
+		}
+
+		// Renaming the category changes every representation that embeds it
+		category.setName("Renamed ETag test category");
+		categoryService.saveCategory(category);
+
+		for (int i = 0; i < paths.length; i++) {
+			mockMvc.perform(get(paths[i]).header("If-None-Match", etags[i]))
+					.andExpect(status().isOk());
+		}
+	}
+
+}
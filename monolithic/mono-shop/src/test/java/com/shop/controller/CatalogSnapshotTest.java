@@ -0,0 +1,132 @@
+package com.shop.controller;
+
+import com.shop.model.Product;
+import com.shop.service.CatalogSnapshot;
+import com.shop.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class CatalogSnapshotTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CatalogSnapshot catalogSnapshot;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Product product;
+
+	@AfterEach
+	void cleanUp() {
+		if (product != null) {
+			productService.deleteProduct(product.getId());
+		}
+	}
+
+	@Test
+	void writesAreServedFromARebuiltSnapshotWithoutQueries() throws Exception {
+		String name = "Snapshot test product " + UUID.randomUUID();
+		product = new Product();
+		product.setName(name);
+		product.setPrice(1.0);
+		product = productService.saveProduct(product);
+		awaitSnapshotWith(name);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		MockHttpServletResponse plain = mockMvc.perform(get("/products"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist("Content-Encoding"))
+				.andReturn().getResponse();
+		MockHttpServletResponse gzip = mockMvc.perform(get("/products").header("Accept-Encoding", "gzip, deflate, br"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Encoding", "gzip"))
+				.andExpect(header().string("Vary", "Accept-Encoding"))
+				.andReturn().getResponse();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		assertThat(plain.getContentAsString()).contains(name);
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+			assertThat(in.readAllBytes()).isEqualTo(plain.getContentAsByteArray());
+		}
+		assertThat(gzip.getHeader("ETag")).isNotEqualTo(plain.getHeader("ETag"));
+
+		mockMvc.perform(get("/products").header("Accept-Encoding", "gzip").header("If-None-Match", gzip.getHeader("ETag")))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void theSnapshotHasTheETagOfTheCatalogVersion() throws Exception {
+		String name = "Snapshot ETag test product " + UUID.randomUUID();
+		product = new Product();
+		product.setName(name);
+		product.setPrice(1.0);
+		product = productService.saveProduct(product);
+		awaitSnapshotWith(name);
+
+		// The one the stamp path answers with when the snapshot is not built
+		String etag = productService.getProductsStamp().etag("products");
+		mockMvc.perform(get("/products"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", etag));
+		mockMvc.perform(get("/products").header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void gzipIsOnlySentWhenItsQualityIsAboveZero() throws Exception {
+		product = new Product();
+		product.setName("Snapshot encoding test product " + UUID.randomUUID());
+		product.setPrice(1.0);
+		product = productService.saveProduct(product);
+		awaitSnapshotWith(product.getName());
+
+		for (String refused : new String[] {"gzip;q=0", "deflate, gzip; q=0.000", "*;q=0", "identity"}) {
+			mockMvc.perform(get("/products").header("Accept-Encoding", refused))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist("Content-Encoding"));
+		}
+		for (String accepted : new String[] {"GZIP;q=0.5", "*", "gzip;q=1, *;q=0", "identity;q=1, *;q=0.1"}) {
+			mockMvc.perform(get("/products").header("Accept-Encoding", accepted))
+					.andExpect(status().isOk())
+					.andExpect(header().string("Content-Encoding", "gzip"));
+		}
+	}
+
+	private void awaitSnapshotWith(String name) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while ((catalogSnapshot.getProducts() == null
+				|| !new String(catalogSnapshot.getProducts().getJson(), StandardCharsets.UTF_8).contains(name))
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(catalogSnapshot.getProducts()).isNotNull();
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.shop.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.model.Customer;
+import com.shop.model.Product;
+import com.shop.repository.CustomerRepository;
+import com.shop.repository.ProductRepository;
+import com.shop.service.CartService;
+import com.shop.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CheckoutTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private OrderService orderService;
+
+	private final MockHttpSession session = new MockHttpSession(null, "checkout-" + UUID.randomUUID());
+	private final String email = "checkout-" + UUID.randomUUID() + "@example.com";
+	private final List<Product> products = new ArrayList<>();
+	private final List<Long> orderIds = new ArrayList<>();
+
+	@BeforeEach
+	void createProducts() {
+		for (int i = 0; i < 3; i++) {
+			Product product = new Product();
+			product.setName("Checkout product " + i);
+			product.setPrice(2.5 * (i + 1));
+			products.add(productRepository.save(product));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartService.clearCart(session.getId());
+		orderIds.forEach(orderService::deleteOrder);
+		customerRepository.findByEmail(email).ifPresent(customerRepository::delete);
+		productRepository.deleteAllInBatch(products);
+	}
+
+	@Test
+	void placesAnOrderAtCurrentPricesAndEmptiesTheCart() throws Exception {
+		addToCart(products.get(0), 2);
+		addToCart(products.get(1), 1);
+		addToCart(products.get(2), 4);
+		// Prices in the cart are not trusted; the order is priced when it is placed
+		products.get(1).setPrice(10.0);
+		productRepository.save(products.get(1));
+
+		MvcResult result = mockMvc.perform(checkout())
+				.andExpect(status().isCreated())
+				.andExpect(header().exists("Location"))
+				.andReturn();
+		JsonNode order = objectMapper.readTree(result.getResponse().getContentAsString());
+		orderIds.add(order.get("id").asLong());
+
+		assertThat(result.getResponse().getHeader("Location")).isEqualTo("/orders/" + order.get("id").asLong());
+		assertThat(order.get("status").asText()).isEqualTo("PENDING");
+		assertThat(order.get("total").asDouble()).isEqualTo(2 * 2.5 + 10.0 + 4 * 7.5);
+		assertThat(order.get("items")).hasSize(3);
+		Customer customer = customerRepository.findByEmail(email).orElseThrow();
+		assertThat(customer.getName()).isEqualTo("Checkout Customer");
+		assertThat(cartService.getCartItems(session.getId())).isEmpty();
+	}
+
+	@Test
+	void emptyCartIsAConflict() throws Exception {
+		mockMvc.perform(checkout()).andExpect(status().isConflict());
+		assertThat(customerRepository.findByEmail(email)).isEmpty();
+	}
+
+	@Test
+	void unavailableProductLeavesTheCartAsItWas() throws Exception {
+		addToCart(products.get(0), 1);
+		addToCart(products.get(1), 3);
+		products.get(1).setPrice(null);
+		productRepository.save(products.get(1));
+
+		mockMvc.perform(checkout()).andExpect(status().isConflict());
+
+		assertThat(cartService.getCartItemCount(session.getId())).isEqualTo(4);
+		assertThat(customerRepository.findByEmail(email)).isEmpty();
+	}
+
+	private void addToCart(Product product, int quantity) throws Exception {
+		mockMvc.perform(post("/cart/items").session(session)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"productId\": " + product.getId() + ", \"quantity\": " + quantity + "}"))
+				.andExpect(status().isOk());
+	}
+
+	private MockHttpServletRequestBuilder checkout() {
+		return post("/checkout").session(session)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"customerName\": \"Checkout Customer\", \"customerEmail\": \"" + email + "\", "
+						+ "\"customerPhone\": \"555-0199\", \"shippingAddress\": \"1 Checkout Lane\"}");
+	}
+}
@@ -0,0 +1,169 @@
+package com.shop.controller;
+
+import com.shop.model.CartItem;
+import com.shop.model.Category;
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import com.shop.model.OrderItem;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.CategoryRepository;
+import com.shop.repository.CustomerRepository;
+import com.shop.repository.OrderRepository;
+import com.shop.repository.ProductRepository;
+import com.shop.service.CartService;
+import com.shop.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Fails when an endpoint issues more statements than its fetch plan allows, whatever the size of the data
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"catalog.cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class EndpointQueryCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private CartService cartService;
+
+	private final MockHttpSession session = new MockHttpSession(null, "query-count-" + UUID.randomUUID());
+	private final List<Category> categories = new ArrayList<>();
+	private final List<Product> products = new ArrayList<>();
+	private final List<Order> orders = new ArrayList<>();
+	private Customer customer;
+
+	@BeforeEach
+	void createData() {
+		for (int c = 0; c < 3; c++) {
+			Category category = new Category();
+			category.setName("Query count category " + c);
+			categories.add(categoryRepository.save(category));
+			for (int p = 0; p < 4; p++) {
+				Product product = new Product();
+				product.setName("Query count product " + c + "-" + p);
+				product.setPrice(1.0 + p);
+				product.setCategory(category);
+				products.add(productRepository.save(product));
+			}
+		}
+
+		customer = customerRepository.save(new Customer("Query Count", "query-count-" + UUID.randomUUID() + "@example.com",
+				"555-0100", "1 Test Street"));
+		for (int o = 0; o < 4; o++) {
+			Order order = new Order();
+			order.setOrderDate(LocalDateTime.now());
+			order.setStatus("PENDING");
+			order.setCustomer(customer);
+			List<OrderItem> items = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				OrderItem item = new OrderItem();
+				item.setOrder(order);
+				item.setProduct(products.get(o * 3 + i % products.size()));
+				item.setQuantity(1);
+				item.setPrice(item.getProduct().getPrice());
+				items.add(item);
+			}
+			order.setItems(items);
+			orders.add(orderRepository.save(order));
+		}
+
+		List<CartItem> cartItems = new ArrayList<>();
+		for (Product product : products.subList(0, 6)) {
+			cartItems.add(new CartItem(product, 1, session.getId()));
+		}
+		cartRepository.saveAll(cartItems);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartService.clearCart(session.getId());
+		for (Order order : orders) {
+			orderService.deleteOrder(order.getId());
+		}
+		customerRepository.delete(customer);
+		productRepository.deleteAllInBatch(products);
+		categoryRepository.deleteAllInBatch(categories);
+	}
+
+	@Test
+	void catalogEndpoints() throws Exception {
+		String after = String.valueOf(products.get(0).getId() - 1);
+		// The full lists first read their ETag stamp
+		assertStatements(2, get("/products"));
+		assertStatements(1, get("/products").param("after", after).param("limit", "10"));
+		assertStatements(2, get("/products/category/" + categories.get(1).getId()));
+		assertStatements(1, get("/products/category/" + categories.get(1).getId()).param("limit", "2"));
+		assertStatements(1, get("/categories").param("limit", "10"));
+	}
+
+	@Test
+	void orderEndpoints() throws Exception {
+		String after = String.valueOf(orders.get(0).getId() - 1);
+		// Without a cursor the lists still come one page at a time
+		assertStatements(2, get("/orders"));
+		assertStatements(2, get("/orders").param("after", after).param("limit", "3"));
+		assertStatements(1, get("/orders/" + orders.get(2).getId()));
+		assertStatements(1, get("/orderitems"));
+		assertStatements(1, get("/customers"));
+		assertStatements(1, get("/customers").param("limit", "10"));
+	}
+
+	@Test
+	void cartEndpoint() throws Exception {
+		assertStatements(1, get("/cart").session(session));
+	}
+
+	private void assertStatements(int allowed, MockHttpServletRequestBuilder request) throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		mockMvc.perform(request).andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount())
+				.as("statements for %s", request.buildRequest(null).getRequestURI())
+				.isLessThanOrEqualTo(allowed);
+	}
+
+}
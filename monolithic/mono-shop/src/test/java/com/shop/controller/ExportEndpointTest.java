@@ -0,0 +1,182 @@
+package com.shop.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.model.Category;
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import com.shop.model.OrderItem;
+import com.shop.model.Product;
+import com.shop.repository.CategoryRepository;
+import com.shop.repository.CustomerRepository;
+import com.shop.repository.OrderRepository;
+import com.shop.repository.ProductRepository;
+import com.shop.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderService orderService;
+
+	private final String marker = UUID.randomUUID().toString();
+
+	private Category category;
+
+	private Product product;
+
+	private Customer customer;
+
+	private Order orderWithItem;
+
+	private Order emptyOrder;
+
+	@BeforeEach
+	void createRows() {
+		category = new Category();
+		category.setName("Export test category " + marker);
+		category = categoryRepository.save(category);
+
+		product = new Product();
+		product.setName("Export, \"quoted\" product " + marker);
+		product.setPrice(2.5);
+		product.setCategory(category);
+		product = productRepository.save(product);
+
+		customer = customerRepository.save(new Customer("Export test customer", marker + "@example.com", null, null));
+
+		orderWithItem = new Order();
+		orderWithItem.setOrderDate(LocalDateTime.now());
+		orderWithItem.setCustomer(customer);
+		OrderItem item = new OrderItem();
+		item.setOrder(orderWithItem);
+		item.setProduct(product);
+		item.setQuantity(3);
+		item.setPrice(2.5);
+		orderWithItem.setItems(new ArrayList<>(List.of(item)));
+		orderWithItem = orderRepository.save(orderWithItem);
+
+		emptyOrder = new Order();
+		emptyOrder.setCustomer(customer);
+		emptyOrder = orderRepository.save(emptyOrder);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		orderService.deleteOrder(orderWithItem.getId());
+		orderService.deleteOrder(emptyOrder.getId());
+		customerRepository.deleteById(customer.getId());
+		productRepository.deleteById(product.getId());
+		categoryRepository.deleteById(category.getId());
+	}
+
+	@Test
+	void productsAreExportedAsNdjson() throws Exception {
+		List<String> lines = export("/products/export", "ndjson", "application/x-ndjson");
+
+		JsonNode row = lines.stream()
+				.map(this::readJson)
+				.filter(node -> node.get("id").asLong() == product.getId())
+				.findFirst().orElseThrow();
+		assertThat(row.get("name").asText()).isEqualTo(product.getName());
+		assertThat(row.get("categoryId").asLong()).isEqualTo(category.getId());
+		assertThat(row.get("categoryName").asText()).isEqualTo(category.getName());
+	}
+
+	@Test
+	void productsAreExportedAsQuotedCsv() throws Exception {
+		List<String> lines = export("/products/export", "csv", "text/csv");
+
+		assertThat(lines.get(0)).isEqualTo("id,name,description,price,imageUrl,categoryId,categoryName,lastModified");
+		assertThat(lines).anyMatch(line -> line.startsWith(product.getId() + ",\"Export, \"\"quoted\"\" product " + marker + "\",,2.5,,"
+				+ category.getId() + ",Export test category " + marker + ","));
+	}
+
+	@Test
+	void customersAreExported() throws Exception {
+		List<String> lines = export("/customers/export", "csv", "text/csv");
+
+		assertThat(lines).anyMatch(line -> line.startsWith(customer.getId() + ",Export test customer," + marker + "@example.com,,,"));
+	}
+
+	@Test
+	void ordersAreExportedOneLinePerItem() throws Exception {
+		List<JsonNode> rows = export("/orders/export", "ndjson", "application/x-ndjson").stream()
+				.map(this::readJson)
+				.filter(node -> node.get("customerId").asLong() == customer.getId())
+				.toList();
+
+		assertThat(rows).hasSize(2);
+		assertThat(rows.get(0).get("orderId").asLong()).isEqualTo(orderWithItem.getId());
+		assertThat(rows.get(0).get("productName").asText()).isEqualTo(product.getName());
+		assertThat(rows.get(0).get("quantity").asInt()).isEqualTo(3);
+		assertThat(rows.get(1).get("orderId").asLong()).isEqualTo(emptyOrder.getId());
+		assertThat(rows.get(1).get("itemId").isNull()).isTrue();
+	}
+
+	@Test
+	void rejectsUnknownFormat() throws Exception {
+		mockMvc.perform(get("/products/export").param("format", "xml"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private List<String> export(String path, String format, String contentType) throws Exception {
+		MvcResult started = mockMvc.perform(get(path).param("format", format))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String body = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", startsWith(contentType)))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		return body.lines().toList();
+	}
+
+	private JsonNode readJson(String line) {
+		try {
+			return objectMapper.readTree(line);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
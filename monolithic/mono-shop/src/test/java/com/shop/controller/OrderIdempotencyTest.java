@@ -0,0 +1,156 @@
+package com.shop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.config.IdempotencyKeys;
+import com.shop.repository.CustomerRepository;
+import com.shop.repository.OrderRepository;
+import com.shop.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderIdempotencyTest {
+
+	private static final int CONCURRENT_RETRIES = 8;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	private final String email = "idempotency-" + UUID.randomUUID() + "@example.com";
+	private final Set<Long> orderIds = new HashSet<>();
+
+	@AfterEach
+	void cleanUp() {
+		orderIds.forEach(orderService::deleteOrder);
+		customerRepository.findByEmail(email).ifPresent(customerRepository::delete);
+	}
+
+	@Test
+	void retryWithTheSameKeyReturnsTheFirstOrder() throws Exception {
+		String key = UUID.randomUUID().toString();
+		long ordersBefore = orderRepository.count();
+
+		MockHttpServletResponse first = perform(createOrder(key));
+		MockHttpServletResponse retry = perform(createOrder(key));
+
+		assertThat(first.getStatus()).isEqualTo(200);
+		assertThat(first.getHeader(IdempotencyKeys.REPLAYED_HEADER)).isNull();
+		assertThat(retry.getStatus()).isEqualTo(200);
+		assertThat(retry.getHeader(IdempotencyKeys.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(orderId(retry)).isEqualTo(orderId(first));
+		assertThat(orderRepository.count()).isEqualTo(ordersBefore + 1);
+
+		perform(createOrder(UUID.randomUUID().toString()));
+		assertThat(orderRepository.count()).isEqualTo(ordersBefore + 2);
+	}
+
+	@Test
+	void concurrentRetriesWaitForTheFirstRequest() throws Exception {
+		String key = UUID.randomUUID().toString();
+		long ordersBefore = orderRepository.count();
+
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RETRIES);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+		try {
+			for (int i = 0; i < CONCURRENT_RETRIES; i++) {
+				responses.add(executor.submit(() -> {
+					start.await();
+					return perform(createOrder(key));
+				}));
+			}
+			start.countDown();
+			Set<Long> ids = new HashSet<>();
+			for (Future<MockHttpServletResponse> response : responses) {
+				assertThat(response.get().getStatus()).isEqualTo(200);
+				ids.add(orderId(response.get()));
+			}
+			assertThat(ids).hasSize(1);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(orderRepository.count()).isEqualTo(ordersBefore + 1);
+	}
+
+	@Test
+	void reusingAKeyWithADifferentBodyIsRefused() throws Exception {
+		String key = UUID.randomUUID().toString();
+		long ordersBefore = orderRepository.count();
+
+		MockHttpServletResponse first = perform(createOrder(key));
+		MockHttpServletResponse reused = perform(createOrder(key, 99.0));
+
+		assertThat(first.getStatus()).isEqualTo(200);
+		assertThat(reused.getStatus()).isEqualTo(422);
+		assertThat(orderRepository.count()).isEqualTo(ordersBefore + 1);
+		// The original request can still be retried
+		assertThat(perform(createOrder(key)).getHeader(IdempotencyKeys.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@Test
+	void requestsWithoutAKeyAreNotDeduplicated() throws Exception {
+		long ordersBefore = orderRepository.count();
+		perform(createOrder(null));
+		perform(createOrder(null));
+		assertThat(orderRepository.count()).isEqualTo(ordersBefore + 2);
+	}
+
+	private MockHttpServletRequestBuilder createOrder(String key) {
+		return createOrder(key, 12.5);
+	}
+
+	private MockHttpServletRequestBuilder createOrder(String key, double total) {
+		MockHttpServletRequestBuilder request = post("/orders")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"customerName\": \"Idempotency Customer\", \"customerEmail\": \"" + email + "\", "
+						+ "\"status\": \"PENDING\", \"total\": " + total + "}");
+		return key == null ? request : request.header(IdempotencyKeys.HEADER, key);
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+		if (response.getStatus() == 200) {
+			synchronized (orderIds) {
+				orderIds.add(orderId(response));
+			}
+		}
+		return response;
+	}
+
+	private long orderId(MockHttpServletResponse response) throws Exception {
+		return objectMapper.readTree(response.getContentAsString()).get("id").asLong();
+	}
+}
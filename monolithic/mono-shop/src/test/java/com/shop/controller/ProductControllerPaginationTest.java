@@ -0,0 +1,72 @@
+package com.shop.controller;
+
+import com.shop.model.Product;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "pagination.max-limit=2")
+@AutoConfigureMockMvc
+class ProductControllerPaginationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private List<Product> products = new ArrayList<>();
+
+	@BeforeEach
+	void createProducts() {
+		for (int i = 0; i < 3; i++) {
+			Product product = new Product();
+			product.setName("Pagination test product " + i);
+			product.setPrice(1.0);
+			products.add(product);
+		}
+		products = productRepository.saveAll(products);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		productRepository.deleteAllInBatch(products);
+	}
+
+	@Test
+	void pagesAreCappedAndLinkedByCursor() throws Exception {
+		long before = products.get(0).getId() - 1;
+
+		mockMvc.perform(get("/products").param("after", String.valueOf(before)).param("limit", "1000"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].id").value(products.get(0).getId()))
+				.andExpect(header().string("X-Next-Cursor", String.valueOf(products.get(1).getId())));
+
+		mockMvc.perform(get("/products").param("after", String.valueOf(products.get(1).getId())).param("limit", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(1))
+				.andExpect(jsonPath("$[0].id").value(products.get(2).getId()))
+				.andExpect(header().doesNotExist("X-Next-Cursor"));
+	}
+
+	@Test
+	void rejectsNonPositiveLimit() throws Exception {
+		mockMvc.perform(get("/products").param("limit", "0"))
+				.andExpect(status().isBadRequest());
+	}
+
+}
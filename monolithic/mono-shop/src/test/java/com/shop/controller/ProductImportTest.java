@@ -0,0 +1,138 @@
+package com.shop.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.model.Category;
+import com.shop.model.Product;
+import com.shop.repository.CategoryRepository;
+import com.shop.repository.ProductRepository;
+import com.shop.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductImportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductService productService;
+
+	private final String marker = UUID.randomUUID().toString();
+
+	private Category category;
+
+	@BeforeEach
+	void createCategory() {
+		category = new Category();
+		category.setName("Import test category " + marker);
+		category = categoryRepository.save(category);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		productRepository.deleteAllInBatch(imported());
+		categoryRepository.deleteById(category.getId());
+	}
+
+	@Test
+	void csvRowsAreLoadedAndInvalidRowsReported() throws Exception {
+		// Warms the cached product list, which the import has to drop
+		productService.getAllProducts();
+
+		String csv = "name,price,description,categoryName,ignored\n"
+				+ "\"Imported, one " + marker + "\",1.5,\"multi\nline\",\"" + category.getName() + "\",x\n"
+				+ "Imported two " + marker + ",2,,,x\n"
+				+ "Imported bad price " + marker + ",abc,,,x\n"
+				+ "Imported unknown category " + marker + ",3,,No such category " + marker + ",x\n"
+				+ ",4,,,x\n";
+
+		JsonNode result = runImport("csv", csv);
+
+		assertThat(result.get("state").asText()).isEqualTo("COMPLETED");
+		assertThat(result.get("rowsRead").asLong()).isEqualTo(5);
+		assertThat(result.get("rowsImported").asLong()).isEqualTo(2);
+		assertThat(result.get("rowsRejected").asLong()).isEqualTo(3);
+		assertThat(result.get("errors").findValues("row")).extracting(JsonNode::asLong).containsExactlyInAnyOrder(3L, 4L, 5L);
+
+		List<Product> products = imported();
+		assertThat(products).extracting(Product::getName)
+				.containsExactlyInAnyOrder("Imported, one " + marker, "Imported two " + marker);
+		Product first = products.stream().filter(p -> p.getName().startsWith("Imported, one")).findFirst().orElseThrow();
+		assertThat(first.getDescription()).isEqualTo("multi\nline");
+		assertThat(first.getCategory().getId()).isEqualTo(category.getId());
+		assertThat(first.getLastModified()).isNotNull();
+		assertThat(productService.getAllProducts()).extracting(Product::getName).contains("Imported two " + marker);
+	}
+
+	@Test
+	void malformedNdjsonLinesAreReportedAndTheRestLoaded() throws Exception {
+		String ndjson = "{\"name\":\"Imported json " + marker + "\",\"price\":9.99,\"categoryName\":\"" + category.getName() + "\"}\n"
+				+ "{not json\n"
+				+ "\n"
+				+ "{\"name\":\"Imported negative " + marker + "\",\"price\":-1}\n";
+
+		JsonNode result = runImport("ndjson", ndjson);
+
+		assertThat(result.get("state").asText()).isEqualTo("COMPLETED");
+		assertThat(result.get("rowsImported").asLong()).isEqualTo(1);
+		assertThat(result.get("errors").findValues("row")).extracting(JsonNode::asLong).containsExactly(2L, 4L);
+		assertThat(imported()).extracting(Product::getPrice).containsExactly(9.99);
+	}
+
+	@Test
+	void rejectsUnknownFormat() throws Exception {
+		mockMvc.perform(post("/products/import").param("format", "xml").content("x"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private JsonNode runImport(String format, String body) throws Exception {
+		String location = mockMvc.perform(post("/products/import").param("format", format).content(body))
+				.andExpect(status().isAccepted())
+				.andExpect(header().exists("Location"))
+				.andReturn().getResponse().getHeader("Location");
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (true) {
+			JsonNode progress = objectMapper.readTree(mockMvc.perform(get(location))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString());
+			String state = progress.get("state").asText();
+			if (state.equals("COMPLETED") || state.equals("FAILED") || System.currentTimeMillis() > deadline) {
+				return progress;
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	private List<Product> imported() {
+		return productRepository.findAll().stream()
+				.filter(product -> product.getName() != null && product.getName().contains(marker))
+				.toList();
+	}
+}
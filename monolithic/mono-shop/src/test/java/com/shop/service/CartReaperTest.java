@@ -0,0 +1,86 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"cart.reaper.interval-ms=3600000",
+		"cart.reaper.batch-size=2",
+		"cart.reaper.max-batches-per-run=100",
+		"cart.reaper.pause-between-batches-ms=0"
+})
+class CartReaperTest {
+
+	@Autowired
+	private CartReaper cartReaper;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final String prefix = "reaper-test-" + UUID.randomUUID() + "-";
+	private final List<Product> products = new ArrayList<>();
+
+	@BeforeEach
+	void createProducts() {
+		for (int i = 0; i < 2; i++) {
+			Product product = new Product();
+			product.setName("Reaper test product " + i);
+			product.setPrice(1.0);
+			products.add(productRepository.save(product));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM cart_items WHERE session_id LIKE ?", prefix + "%");
+		productRepository.deleteAllInBatch(products);
+	}
+
+	@Test
+	void reapsOnlyCartsWithNoRecentlyTouchedRows() {
+		for (int i = 0; i < 5; i++) {
+			addItem("stale-" + i, products.get(0), 3);
+			addItem("stale-" + i, products.get(1), 3);
+		}
+		addItem("mixed", products.get(0), 3);
+		addItem("mixed", products.get(1), 0);
+		addItem("fresh", products.get(0), 0);
+
+		cartReaper.reap();
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(cartRepository.findBySessionId(prefix + "stale-" + i)).isEmpty();
+		}
+		assertThat(cartRepository.findBySessionId(prefix + "mixed")).hasSize(2);
+		assertThat(cartRepository.findBySessionId(prefix + "fresh")).hasSize(1);
+	}
+
+	private void addItem(String session, Product product, int hoursAgo) {
+		CartItem item = cartRepository.save(new CartItem(product, 1, prefix + session));
+		jdbcTemplate.update("UPDATE cart_items SET last_touched_at = ? WHERE id = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusHours(hoursAgo)), item.getId());
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CartServiceBulkDeleteTest {
+
+	private static final int CART_SIZE = 200;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final String sessionId = "test-" + UUID.randomUUID();
+	private List<Product> products = new ArrayList<>();
+
+	@BeforeEach
+	void fillCart() {
+		for (int i = 0; i < CART_SIZE; i++) {
+			Product product = new Product();
+			product.setName("Bulk delete test product " + i);
+			product.setPrice(1.0);
+			products.add(product);
+		}
+		products = productRepository.saveAll(products);
+
+		List<CartItem> items = new ArrayList<>();
+		for (Product product : products) {
+			items.add(new CartItem(product, 1, sessionId));
+		}
+		cartRepository.saveAll(items);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartService.clearCart(sessionId);
+		productRepository.deleteAllInBatch(products);
+	}
+
+	@Test
+	void clearingA200ItemCartIsOneStatement() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		cartService.clearCart(sessionId);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(cartRepository.findBySessionId(sessionId)).isEmpty();
+	}
+
+}
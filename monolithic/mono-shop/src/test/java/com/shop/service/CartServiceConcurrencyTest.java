@@ -0,0 +1,96 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CartServiceConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final int ADDS_PER_THREAD = 25;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final String sessionId = "test-" + UUID.randomUUID();
+	private Product product;
+
+	@BeforeEach
+	void createProduct() {
+		product = new Product();
+		product.setName("Concurrency test product");
+		product.setPrice(1.0);
+		product = productRepository.save(product);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartService.clearCart(sessionId);
+		productRepository.deleteById(product.getId());
+	}
+
+	@Test
+	void concurrentAddsToOneSessionKeepOneRowWithTheSummedQuantity() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					for (int i = 0; i < ADDS_PER_THREAD; i++) {
+						cartService.addItemToCart(sessionId, product.getId(), 1);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			pool.shutdown();
+		}
+		long statements = statistics.getPrepareStatementCount();
+
+		List<CartItem> items = cartRepository.findBySessionId(sessionId);
+		assertThat(items).hasSize(1);
+		assertThat(items.get(0).getQuantity()).isEqualTo(THREADS * ADDS_PER_THREAD);
+
+		// One product lookup and one upsert per add
+		assertThat(statements).isEqualTo(2L * THREADS * ADDS_PER_THREAD);
+	}
+
+}
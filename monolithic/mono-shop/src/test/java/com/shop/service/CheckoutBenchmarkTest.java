@@ -0,0 +1,114 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Order;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.CustomerRepository;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Latency of checking out a 50-item cart: one statement reads and clears the cart, one prices every product,
+// and the order goes in with a batch per table
+// SQL logging is off so it does not count towards the latency. Wall-clock timings depend on the machine, so this
+// only runs with -Pbenchmarks
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class CheckoutBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(CheckoutBenchmarkTest.class);
+
+	private static final int CART_ITEMS = 50;
+
+	private static final int WARMUP = 20;
+
+	private static final int CHECKOUTS = 200;
+
+	@Autowired
+	private CheckoutService checkoutService;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	private final String sessionId = "checkout-benchmark-" + UUID.randomUUID();
+	private final String email = "checkout-benchmark-" + UUID.randomUUID() + "@example.com";
+	private final List<Product> products = new ArrayList<>();
+	private final List<Long> orderIds = new ArrayList<>();
+
+	@BeforeEach
+	void createProducts() {
+		for (int i = 0; i < CART_ITEMS; i++) {
+			Product product = new Product();
+			product.setName("Checkout benchmark product " + i);
+			product.setPrice(1.0 + i);
+			products.add(product);
+		}
+		productRepository.saveAll(products);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartService.clearCart(sessionId);
+		orderIds.forEach(orderService::deleteOrder);
+		customerRepository.findByEmail(email).ifPresent(customerRepository::delete);
+		productRepository.deleteAllInBatch(products);
+	}
+
+	@Test
+	void checkoutOfAFiftyItemCart() {
+		Order details = new Order();
+		details.setCustomerName("Checkout Benchmark");
+		details.setCustomerEmail(email);
+
+		long[] nanos = new long[CHECKOUTS];
+		for (int i = 0; i < WARMUP + CHECKOUTS; i++) {
+			List<CartItem> cart = new ArrayList<>();
+			for (Product product : products) {
+				cart.add(new CartItem(product, 2, sessionId));
+			}
+			cartRepository.saveAll(cart);
+			long start = System.nanoTime();
+			Order order = checkoutService.checkout(sessionId, details);
+			long elapsed = System.nanoTime() - start;
+			orderIds.add(order.getId());
+			assertThat(order.getItems()).hasSize(CART_ITEMS);
+			if (i >= WARMUP) {
+				nanos[i - WARMUP] = elapsed;
+			}
+		}
+
+		Arrays.sort(nanos);
+		double p50 = nanos[CHECKOUTS / 2] / 1e6;
+		double p99 = nanos[(int) Math.ceil(CHECKOUTS * 0.99) - 1] / 1e6;
+		log.info("Checkout of a {}-item cart over {} runs: p50 {} ms, p99 {} ms", CART_ITEMS, CHECKOUTS,
+				String.format("%.2f", p50), String.format("%.2f", p99));
+		// Generous, so only a return to per-item round trips fails it
+		assertThat(p99).isLessThan(250);
+	}
+}
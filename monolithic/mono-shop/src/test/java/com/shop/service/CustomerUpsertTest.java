@@ -0,0 +1,82 @@
+package com.shop.service;
+
+import com.shop.model.Customer;
+import com.shop.model.Order;
+import com.shop.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CustomerUpsertTest {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private CustomerService customerService;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	private final String email = "upsert-" + UUID.randomUUID() + "@example.com";
+
+	@AfterEach
+	void cleanUp() {
+		customerRepository.findByEmail(email).ifPresent(customerRepository::delete);
+	}
+
+	@Test
+	void concurrentOrdersFromANewEmailShareOneCustomer() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Customer>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(pool.submit(() -> {
+					start.await();
+					return customerService.getOrCreateCustomer(order("Upsert Customer " + thread));
+				}));
+			}
+			start.countDown();
+			Set<Long> ids = new HashSet<>();
+			for (Future<Customer> future : futures) {
+				ids.add(future.get().getId());
+			}
+			assertThat(ids).hasSize(1);
+		} finally {
+			pool.shutdownNow();
+		}
+		assertThat(customerRepository.findByEmail(email)).isPresent();
+	}
+
+	@Test
+	void existingCustomerKeepsItsDetails() {
+		Customer first = customerService.getOrCreateCustomer(order("First Name"));
+		Customer second = customerService.getOrCreateCustomer(order("Second Name"));
+
+		assertThat(second.getId()).isEqualTo(first.getId());
+		assertThat(customerRepository.findByEmail(email).orElseThrow().getName()).isEqualTo("First Name");
+	}
+
+	private Order order(String customerName) {
+		Order order = new Order();
+		order.setCustomerName(customerName);
+		order.setCustomerEmail(email);
+		order.setShippingAddress("1 Upsert Road");
+		return order;
+	}
+}
@@ -0,0 +1,130 @@
+package com.shop.service;
+
+import com.shop.model.Order;
+import com.shop.model.OrderItem;
+import com.shop.model.Product;
+import com.shop.repository.OrderRepository;
+import com.shop.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Round trips of saving an order with 20 items: one per row when inserts cannot be batched (as with IDENTITY ids),
+// against a batch per table plus the occasional sequence call with pooled ids
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session.events.auto=com.shop.service.OrderInsertBatchingBenchmarkTest$RoundTrips")
+class OrderInsertBatchingBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(OrderInsertBatchingBenchmarkTest.class);
+
+	private static final int ORDERS = 20;
+
+	private static final int ITEMS_PER_ORDER = 20;
+
+	public static class RoundTrips implements SessionEventListener {
+
+		static final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			count.incrementAndGet();
+		}
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			count.incrementAndGet();
+		}
+	}
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Product product;
+
+	private final List<Long> orderIds = new ArrayList<>();
+
+	@BeforeEach
+	void createProduct() {
+		product = new Product();
+		product.setName("Batching benchmark product");
+		product.setPrice(1.0);
+		product = productRepository.save(product);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		orderIds.forEach(orderService::deleteOrder);
+		productRepository.deleteById(product.getId());
+	}
+
+	@Test
+	void batchedInsertsNeedAFractionOfTheRoundTrips() {
+		double unbatched = roundTripsPerOrder(1);
+		double batched = roundTripsPerOrder(null);
+
+		log.info("Saving an order with {} items: {} round trips unbatched, {} batched", ITEMS_PER_ORDER,
+				String.format("%.2f", unbatched), String.format("%.2f", batched));
+		assertThat(unbatched).isGreaterThanOrEqualTo(1 + ITEMS_PER_ORDER);
+		// One batch each for orders and order_item, plus a sequence call every 50 ids
+		assertThat(batched).isLessThanOrEqualTo(3);
+	}
+
+	// A batch size of 1 disables batching for the session; null keeps the configured hibernate.jdbc.batch_size
+	private double roundTripsPerOrder(Integer jdbcBatchSize) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		int before = RoundTrips.count.get();
+		for (int i = 0; i < ORDERS; i++) {
+			Order saved = transactionTemplate.execute(status -> {
+				entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+				return orderRepository.save(newOrder());
+			});
+			orderIds.add(saved.getId());
+		}
+		return (RoundTrips.count.get() - before) / (double) ORDERS;
+	}
+
+	private Order newOrder() {
+		Order order = new Order();
+		order.setOrderDate(LocalDateTime.now());
+		order.setStatus("PENDING");
+		List<OrderItem> items = new ArrayList<>();
+		for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+			OrderItem item = new OrderItem();
+			item.setOrder(order);
+			item.setProduct(product);
+			item.setQuantity(1);
+			item.setPrice(1.0);
+			items.add(item);
+		}
+		order.setItems(items);
+		return order;
+	}
+}
@@ -0,0 +1,84 @@
+package com.shop.service;
+
+import com.shop.model.Category;
+import com.shop.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductServiceCacheTest {
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Category category;
+	private Product product;
+
+	@BeforeEach
+	void createProduct() {
+		category = new Category();
+		category.setName("Cache test category");
+		category = categoryService.saveCategory(category);
+
+		product = new Product();
+		product.setName("Cache test product");
+		product.setPrice(1.0);
+		product.setCategory(category);
+		product = productService.saveProduct(product);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		productService.deleteProduct(product.getId());
+		categoryService.deleteCategory(category.getId());
+	}
+
+	@Test
+	void repeatedReadsAreServedFromTheCache() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		productService.getProductsByCategory(category.getId());
+		statistics.clear();
+
+		assertThat(productService.getProductById(product.getId())).isPresent();
+		assertThat(productService.getProductsByCategory(category.getId())).hasSize(1);
+		assertThat(productService.getProductsByCategory(category.getId())).hasSize(1);
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void writesInvalidateTheCachedReads() {
+		assertThat(productService.getProductsByCategory(category.getId())).hasSize(1);
+
+		Product second = new Product();
+		second.setName("Second cache test product");
+		second.setPrice(2.0);
+		second.setCategory(category);
+		second = productService.saveProduct(second);
+		assertThat(productService.getProductsByCategory(category.getId())).hasSize(2);
+
+		category.setName("Renamed cache test category");
+		categoryService.saveCategory(category);
+		assertThat(productService.getProductById(second.getId()).get().getCategory().getName())
+				.isEqualTo("Renamed cache test category");
+
+		productService.deleteProduct(second.getId());
+		assertThat(productService.getProductById(second.getId())).isEmpty();
+		assertThat(productService.getProductsByCategory(category.getId())).hasSize(1);
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.shop.service;
+
+import com.shop.model.CartItem;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Same properties as WriteBehindCheckoutTest, so the context is shared
+@SpringBootTest(properties = {
+		"cart.write-behind.enabled=true",
+		"cart.write-behind.durability=BOUNDED",
+		"cart.write-behind.flush-interval-ms=3600000"
+})
+class WriteBehindCartReaperTest {
+
+	@Autowired
+	private CartReaper cartReaper;
+
+	@Autowired
+	private WriteBehindCartStore cartStore;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final String prefix = "write-behind-reaper-" + UUID.randomUUID() + "-";
+	private Product product;
+
+	@BeforeEach
+	void createProduct() {
+		product = new Product();
+		product.setName("Write-behind reaper product");
+		product.setPrice(1.0);
+		product = productRepository.save(product);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartStore.clear(prefix + "live");
+		cartStore.flush();
+		jdbcTemplate.update("DELETE FROM cart_items WHERE session_id LIKE ?", prefix + "%");
+		productRepository.delete(product);
+	}
+
+	@Test
+	void cartsHeldInMemoryAreNotReaped() {
+		addStaleItem("live");
+		addStaleItem("abandoned");
+		// Loads the live session's cart into the store, as a request of that session would
+		assertThat(cartStore.countItems(prefix + "live")).isEqualTo(1);
+
+		cartReaper.reap();
+
+		assertThat(cartRepository.findBySessionId(prefix + "abandoned")).isEmpty();
+		assertThat(cartRepository.findBySessionId(prefix + "live")).hasSize(1);
+
+		// The held cart's row is still there for its next change to be written to
+		Long itemId = cartStore.getItems(prefix + "live").get(0).getId();
+		cartStore.updateItem(itemId, 5);
+		cartStore.flush();
+		assertThat(cartRepository.findById(itemId)).get().extracting(CartItem::getQuantity).isEqualTo(5);
+	}
+
+	private void addStaleItem(String session) {
+		CartItem item = cartRepository.save(new CartItem(product, 1, prefix + session));
+		jdbcTemplate.update("UPDATE cart_items SET last_touched_at = ? WHERE id = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusHours(3)), item.getId());
+	}
+}
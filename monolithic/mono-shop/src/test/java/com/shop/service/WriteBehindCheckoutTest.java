@@ -0,0 +1,110 @@
+package com.shop.service;
+
+import com.shop.model.Order;
+import com.shop.model.Product;
+import com.shop.repository.CartRepository;
+import com.shop.repository.CustomerRepository;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The scheduled flush is pushed out of the way, so only the flush after the checkout can have cleared cart_items
+@SpringBootTest(properties = {
+		"cart.write-behind.enabled=true",
+		"cart.write-behind.durability=BOUNDED",
+		"cart.write-behind.flush-interval-ms=3600000"
+})
+class WriteBehindCheckoutTest {
+
+	@Autowired
+	private WriteBehindCartStore cartStore;
+
+	@Autowired
+	private CheckoutService checkoutService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final String sessionId = "write-behind-checkout-" + UUID.randomUUID();
+	private final String email = "write-behind-checkout-" + UUID.randomUUID() + "@example.com";
+	private final List<Product> products = new ArrayList<>();
+	private final List<Long> orderIds = new ArrayList<>();
+
+	@BeforeEach
+	void createProducts() {
+		for (int i = 0; i < 2; i++) {
+			Product product = new Product();
+			product.setName("Write-behind checkout product " + i);
+			product.setPrice(i == 0 ? 2.0 : null);
+			products.add(productRepository.save(product));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		cartStore.clear(sessionId);
+		cartStore.flush();
+		jdbcTemplate.update("DELETE FROM cart_items WHERE session_id = ?", sessionId);
+		orderIds.forEach(orderService::deleteOrder);
+		customerRepository.findByEmail(email).ifPresent(customerRepository::delete);
+		productRepository.deleteAllInBatch(products);
+	}
+
+	@Test
+	void committedCheckoutDeletesTheCartRowsRightAway() {
+		cartStore.addItem(sessionId, products.get(0), 3);
+		cartStore.flush();
+		assertThat(cartRepository.findBySessionId(sessionId)).hasSize(1);
+
+		Order order = checkoutService.checkout(sessionId, details());
+		orderIds.add(order.getId());
+
+		assertThat(cartRepository.findBySessionId(sessionId)).isEmpty();
+		assertThat(cartStore.countItems(sessionId)).isZero();
+	}
+
+	@Test
+	void rolledBackCheckoutKeepsTheCart() {
+		cartStore.addItem(sessionId, products.get(0), 3);
+		// Has no price, so the checkout fails and rolls back
+		cartStore.addItem(sessionId, products.get(1), 1);
+		cartStore.flush();
+
+		assertThatThrownBy(() -> checkoutService.checkout(sessionId, details()))
+				.isInstanceOf(ResponseStatusException.class);
+
+		assertThat(cartRepository.findBySessionId(sessionId)).hasSize(2);
+		assertThat(cartStore.countItems(sessionId)).isEqualTo(4);
+	}
+
+	private Order details() {
+		Order details = new Order();
+		details.setCustomerName("Write-behind Checkout");
+		details.setCustomerEmail(email);
+		return details;
+	}
+}
@@ -0,0 +1,14 @@
+-- The employee table as spring.jpa.hibernate.ddl-auto=update left it before Flyway took over.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate) and start at V2;
+-- an empty database is built from here.
+
+CREATE TABLE employee (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    date_of_birth date,
+    department varchar(255),
+    email varchar(255),
+    joined_date date,
+    name varchar(255),
+    salary float(53),
+    CONSTRAINT employee_pkey PRIMARY KEY (id)
+);